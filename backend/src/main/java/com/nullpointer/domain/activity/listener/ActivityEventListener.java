@@ -4,6 +4,8 @@ import com.nullpointer.domain.activity.dto.request.ActivitySaveRequest;
 import com.nullpointer.domain.activity.service.ActivityService;
 import com.nullpointer.domain.activity.vo.enums.ActivityType;
 import com.nullpointer.domain.board.event.BoardEvent;
+import com.nullpointer.domain.card.event.CardBulkEvent;
+import com.nullpointer.domain.card.event.CardChangeSetEvent;
 import com.nullpointer.domain.card.event.CardEvent;
 import com.nullpointer.domain.invitation.event.InvitationEvent;
 import com.nullpointer.domain.member.event.MemberEvent;
@@ -13,11 +15,15 @@ import com.nullpointer.domain.team.event.TeamNoticeEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.util.StringUtils;
 
+import java.util.List;
+import java.util.Objects;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -28,32 +34,59 @@ public class ActivityEventListener {
     /**
      * 카드 이벤트 활동 기록
      * - @TransactionalEventListener 커밋 성공 시에만 실행
+     * - refactor) 카드 활동 기록(카드/카드 묶음/일괄)은 커밋 후 activityExecutor에서 비동기 처리 (요청 스레드/알림 실행기와 분리)
+     *   보드/팀/초대/멤버/공지 활동 기록은 기존대로 발행한 트랜잭션 안에서 동기 처리
      */
+    @Async("activityExecutor")
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleCardEvent(CardEvent event) {
-        // 단순 알림용 이벤트는 로깅 제외
-        if (event.getEventType() == CardEvent.EventType.DEADLINE_NEAR ||
-                event.getEventType() == CardEvent.EventType.MENTION) return;
+        try {
+            ActivitySaveRequest req = toCardActivity(event);
+            if (req == null) return;
+
+            activityService.saveLog(req);
+        } catch (Exception e) {
+            log.error("활동 로그 저장 실패: cardId={}, error={}", event.getCardId(), e.getMessage());
+        }
+    }
 
+    /**
+     * 카드 수정 변경 내용 묶음 활동 기록
+     * - 필드별 로그를 모아 INSERT 1번으로 저장
+     */
+    @Async("activityExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCardChangeSetEvent(CardChangeSetEvent event) {
         try {
-            ActivityType type = mapToActivityType(event);
-            String detailMsg = generateDetail(event);
+            List<ActivitySaveRequest> reqs = event.getEvents().stream()
+                    .map(this::toCardActivity)
+                    .filter(Objects::nonNull)
+                    .toList();
 
-            String finalDescription = StringUtils.hasText(detailMsg) ? detailMsg : type.getDescription();
+            activityService.saveLogs(reqs);
+        } catch (Exception e) {
+            log.error("카드 변경 활동 로그 저장 실패: cardId={}, count={}, error={}",
+                    event.getCardId(), event.getEvents().size(), e.getMessage());
+        }
+    }
 
-            ActivitySaveRequest req = ActivitySaveRequest.builder()
-                    .userId(event.getActorId())
-                    .boardId(event.getBoardId())
-                    .teamId(event.getTeamId())
-                    .type(type)
-                    .targetId(event.getCardId())
-                    .targetName(event.getCardTitle())
-                    .description(finalDescription)
-                    .build();
+    /**
+     * 카드 일괄 처리 활동 기록
+     * - 카드별 로그를 모아 INSERT 1번으로 저장
+     */
+    @Async("activityExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCardBulkEvent(CardBulkEvent event) {
+        try {
+            List<ActivitySaveRequest> reqs = event.getEvents().stream()
+                    .map(this::toCardActivity)
+                    .filter(Objects::nonNull)
+                    .toList();
 
-            activityService.saveLog(req);
+            activityService.saveLogs(reqs);
         } catch (Exception e) {
-            log.error("활동 로그 저장 실패: cardId={}, error={}", event.getCardId(), e.getMessage());
+            log.error("일괄 활동 로그 저장 실패: boardId={}, count={}, error={}",
+                    event.getBoardId(), event.getEvents().size(), e.getMessage());
         }
     }
 
@@ -310,6 +343,30 @@ public class ActivityEventListener {
         }
     }
 
+    /**
+     * CardEvent -> 활동 로그 저장 요청 (단순 알림용 이벤트는 null)
+     */
+    private ActivitySaveRequest toCardActivity(CardEvent event) {
+        // 단순 알림용 이벤트는 로깅 제외
+        if (event.getEventType() == CardEvent.EventType.DEADLINE_NEAR ||
+                event.getEventType() == CardEvent.EventType.MENTION) return null;
+
+        ActivityType type = mapToActivityType(event);
+        String detailMsg = generateDetail(event);
+
+        String finalDescription = StringUtils.hasText(detailMsg) ? detailMsg : type.getDescription();
+
+        return ActivitySaveRequest.builder()
+                .userId(event.getActorId())
+                .boardId(event.getBoardId())
+                .teamId(event.getTeamId())
+                .type(type)
+                .targetId(event.getCardId())
+                .targetName(event.getCardTitle())
+                .description(finalDescription)
+                .build();
+    }
+
     /**
      * 타입 변환
      * CardEvent -> ActivityType
@@ -26,4 +26,7 @@ public interface ActivityMapper {
     // 로그 저장
     void saveLog(ActivityLogVo activityLog);
 
+    // 로그 일괄 저장
+    void saveLogs(@Param("logs") List<ActivityLogVo> logs);
+
 }
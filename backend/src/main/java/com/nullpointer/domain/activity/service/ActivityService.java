@@ -27,4 +27,7 @@ public interface ActivityService {
     // 로그 저장 (다른 서비스에서 호출)
     void saveLog(ActivitySaveRequest req);
 
+    // 로그 일괄 저장 (카드 일괄 처리 등)
+    void saveLogs(List<ActivitySaveRequest> reqs);
+
 }
@@ -77,4 +77,17 @@ public class ActivityServiceImpl implements ActivityService {
         activityMapper.saveLog(req.toVo());
     }
 
+    /**
+     * 로그 일괄 저장
+     * - 여러 건을 INSERT 1번으로 저장
+     */
+    @Override
+    @Transactional
+    public void saveLogs(List<ActivitySaveRequest> reqs) {
+        if (reqs == null || reqs.isEmpty()) {
+            return;
+        }
+        activityMapper.saveLogs(reqs.stream().map(ActivitySaveRequest::toVo).toList());
+    }
+
 }
@@ -20,6 +20,7 @@ import com.nullpointer.global.common.enums.VerificationType;
 import com.nullpointer.global.email.EmailService;
 import com.nullpointer.global.exception.BusinessException;
 import com.nullpointer.global.security.jwt.JwtTokenProvider;
+import com.nullpointer.global.security.jwt.TokenBlacklist;
 import com.nullpointer.global.util.GoogleTokenVerifier;
 import com.nullpointer.global.util.RedisUtil;
 import lombok.RequiredArgsConstructor;
@@ -41,6 +42,7 @@ public class AuthServiceImpl implements AuthService {
     private final VerificationCodeHelper codeHelper;
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenBlacklist tokenBlacklist;
     private final PasswordEncoder passwordEncoder;
     private final RedisUtil redisUtil;
     private final GoogleTokenVerifier googleTokenVerifier;
@@ -275,9 +277,7 @@ public class AuthServiceImpl implements AuthService {
         // 남은 시간 = 만료 시간 - 현재 시간
         long remainingTime = expiration - System.currentTimeMillis();
 
-        if (remainingTime > 0) {
-            redisUtil.setDataExpire(RedisKeyType.BLACKLIST.getKey(accessToken), "logout", remainingTime);
-        }
+        tokenBlacklist.revoke(accessToken, remainingTime);
     }
 
     /**
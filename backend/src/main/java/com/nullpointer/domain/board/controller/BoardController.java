@@ -6,14 +6,17 @@ import com.nullpointer.domain.board.dto.request.CreateBoardRequest;
 import com.nullpointer.domain.board.dto.request.UpdateBoardRequest;
 import com.nullpointer.domain.board.dto.response.*;
 import com.nullpointer.domain.board.service.BoardService;
+import com.nullpointer.domain.board.vo.enums.BoardViewMode;
 import com.nullpointer.global.common.ApiResponse;
 import com.nullpointer.global.common.annotation.LoginUser;
+import com.nullpointer.global.util.ETagUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -120,10 +123,25 @@ public class BoardController {
     }
 
     // 보드 (리스트+카드) 뷰 조회
-    @Operation(summary = "보드 전체 뷰 조회", description = "보드 화면에 필요한 리스트, 카드, 멤버 정보를 한 번에 조회합니다.")
+    @Operation(summary = "보드 전체 뷰 조회", description = "보드 화면에 필요한 리스트, 카드, 멤버 정보를 한 번에 조회합니다. mode=SUMMARY면 카드 하위 데이터 대신 개수만, 아카이브 항목은 제외합니다.")
     @GetMapping("/boards/{boardId}/view")
-    public ApiResponse<BoardViewResponse> getBoardView(@PathVariable Long boardId, @LoginUser Long userId) {
-        return ApiResponse.success(boardService.getBoardView(boardId, userId));
+    public ApiResponse<BoardViewResponse> getBoardView(@PathVariable Long boardId, @LoginUser Long userId,
+                                                       @RequestParam(defaultValue = "FULL") BoardViewMode mode,
+                                                       WebRequest webRequest) {
+        // If-None-Match가 현재 보드 버전과 같으면 조회 없이 304
+        if (ETagUtil.checkNotModified(webRequest, boardService.getBoardViewETag(boardId, userId, mode))) {
+            return null;
+        }
+        return ApiResponse.success(boardService.getBoardView(boardId, userId, mode));
+    }
+
+    // 보드 변경 조회 (재연결 시)
+    @Operation(summary = "보드 변경 조회", description = "since 버전 이후 변경 사항을 조회합니다. fullReload가 true면 보드 전체 뷰를 다시 조회해야 합니다.")
+    @GetMapping("/boards/{boardId}/changes")
+    public ApiResponse<BoardChangesResponse> getBoardChanges(@PathVariable Long boardId,
+                                                             @RequestParam long since,
+                                                             @LoginUser Long userId) {
+        return ApiResponse.success(boardService.getBoardChanges(boardId, since, userId));
     }
 
     // 공유 링크 생성
@@ -0,0 +1,20 @@
+package com.nullpointer.domain.board.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL) // 값이 null인 필드는 제외
+public class BoardChangeResponse {
+    private Long seq;        // 보드 버전 (변경 순서)
+    private String type;     // 소켓 메시지와 같은 타입 (예: "CARD_UPDATE", "LIST_MOVE")
+    private Long entityId;   // 변경된 카드/리스트 id (알 수 있는 경우만)
+    private Long senderId;   // 변경한 사용자 id
+    private Object data;     // 소켓 메시지와 같은 데이터
+}
@@ -0,0 +1,31 @@
+package com.nullpointer.domain.board.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardChangesResponse {
+    // 응답 기준 보드 버전 (다음 조회 시 since로 사용)
+    private Long revision;
+
+    // true면 변경 기록이 부족하므로 보드 전체 다시 조회 (changes는 비어 있음)
+    private Boolean fullReload;
+
+    // since 이후 변경 사항 (seq 오름차순)
+    private List<BoardChangeResponse> changes;
+
+    public static BoardChangesResponse reload(long revision) {
+        return BoardChangesResponse.builder()
+                .revision(revision)
+                .fullReload(true)
+                .changes(List.of())
+                .build();
+    }
+}
@@ -46,6 +46,9 @@ public class BoardViewResponse {
     // 로그인한 사용자의 즐겨찾기 여부
     private Boolean isFavorite;
 
+    // 조회 기준 보드 버전 (재연결 시 GET /api/boards/{boardId}/changes?since={revision})
+    private Long revision;
+
     public static BoardViewResponse of(BoardVo board,
                                        List<ListWithCardsResponse> lists,
                                        List<BoardMemberResponse> boardMembers,
@@ -0,0 +1,146 @@
+package com.nullpointer.domain.board.helper;
+
+import com.nullpointer.domain.board.mapper.BoardMapper;
+import com.nullpointer.domain.board.vo.BoardVo;
+import com.nullpointer.domain.card.dto.CardResponse;
+import com.nullpointer.domain.card.mapper.CardMapper;
+import com.nullpointer.domain.checklist.mapper.ChecklistMapper;
+import com.nullpointer.domain.checklist.vo.ChecklistVo;
+import com.nullpointer.domain.comment.dto.CommentResponse;
+import com.nullpointer.domain.comment.mapper.CommentMapper;
+import com.nullpointer.domain.file.dto.FileResponse;
+import com.nullpointer.domain.file.mapper.FileMapper;
+import com.nullpointer.domain.list.dto.ListWithCardsResponse;
+import com.nullpointer.domain.list.mapper.ListMapper;
+import com.nullpointer.domain.list.vo.ListVo;
+import com.nullpointer.global.common.enums.ErrorCode;
+import com.nullpointer.global.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 보드 페이지 스냅샷 로더
+ * - 보드/리스트/카드/체크리스트/파일/댓글을 테이블별 단일 쿼리로 조회 (총 6회)
+ * - 결과는 id 기준 Map으로 메모리에서 조립
+ * - 기존 6중 LEFT JOIN은 카드당 (체크리스트 x 파일 x 댓글) 만큼 행이 늘어나는 문제가 있었음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardSnapshotLoader {
+
+    private final BoardMapper boardMapper;
+    private final ListMapper listMapper;
+    private final CardMapper cardMapper;
+    private final ChecklistMapper checklistMapper;
+    private final FileMapper fileMapper;
+    private final CommentMapper commentMapper;
+
+    // 보드 스냅샷 조회 (멤버/설정/즐겨찾기 등 부가 정보는 호출 측에서 채움)
+    public BoardSnapshot load(Long boardId) {
+        long start = System.nanoTime();
+
+        // 1. 보드 기본 정보
+        BoardVo board = boardMapper.findBoardByBoardId(boardId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_NOT_FOUND));
+
+        // 2. 테이블별 일괄 조회
+        List<ListVo> lists = listMapper.findByBoardId(boardId);
+        List<CardResponse> cards = cardMapper.findCardsByBoardId(boardId);
+        List<ChecklistVo> checklists = checklistMapper.findChecklistsByBoardId(boardId);
+        List<FileResponse> files = fileMapper.findFilesByBoardId(boardId);
+        List<CommentResponse> comments = commentMapper.findCommentsByBoardId(boardId);
+
+        // 3. 카드 id 기준으로 하위 데이터 그룹핑
+        Map<Long, List<ChecklistVo>> checklistsByCard = groupBy(checklists, ChecklistVo::getCardId, cards.size());
+        Map<Long, List<FileResponse>> filesByCard = groupBy(files, FileResponse::getCardId, cards.size());
+        Map<Long, List<CommentResponse>> commentsByCard = groupBy(comments, CommentResponse::getCardId, cards.size());
+
+        for (CardResponse card : cards) {
+            // 댓글 수/체크리스트 진행률은 card 카운터 컬럼으로 조회됨
+            card.setChecklists(checklistsByCard.getOrDefault(card.getId(), new ArrayList<>()));
+            card.setFiles(filesByCard.getOrDefault(card.getId(), new ArrayList<>()));
+            card.setComments(commentsByCard.getOrDefault(card.getId(), new ArrayList<>()));
+            card.setFileCount(card.getFiles().size());
+        }
+
+        // 4. 리스트 id 기준으로 카드 그룹핑 (카드는 order_index 순으로 조회됨)
+        Map<Long, List<CardResponse>> cardsByList = groupBy(cards, CardResponse::getListId, lists.size());
+
+        List<ListWithCardsResponse> listResponses = new ArrayList<>(lists.size());
+        for (ListVo list : lists) {
+            listResponses.add(ListWithCardsResponse.of(list, cardsByList.getOrDefault(list.getId(), new ArrayList<>())));
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("보드 스냅샷 로드 (boardId: {}) - rows: {} (lists {}, cards {}, checklists {}, files {}, comments {}), {}ms",
+                    boardId,
+                    1 + lists.size() + cards.size() + checklists.size() + files.size() + comments.size(),
+                    lists.size(), cards.size(), checklists.size(), files.size(), comments.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+
+        return new BoardSnapshot(board, listResponses);
+    }
+
+    /**
+     * 보드 요약 스냅샷 조회 (BoardViewMode.SUMMARY)
+     * - 보드/리스트/카드 3회 조회, 체크리스트/파일/댓글은 조회하지 않고 카드의 개수 필드로 대체
+     * - 아카이브된 리스트/카드 제외
+     * - 카드 상세(하위 데이터)는 카드를 열 때 GET /api/cards/{cardId}로 조회
+     */
+    public BoardSnapshot loadSummary(Long boardId) {
+        long start = System.nanoTime();
+
+        BoardVo board = boardMapper.findBoardByBoardId(boardId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_NOT_FOUND));
+
+        List<ListVo> lists = listMapper.findByBoardId(boardId).stream()
+                .filter(list -> !Boolean.TRUE.equals(list.getIsArchived()))
+                .toList();
+        List<CardResponse> cards = cardMapper.findCardSummariesByBoardId(boardId);
+
+        Map<Long, List<CardResponse>> cardsByList = groupBy(cards, CardResponse::getListId, lists.size());
+
+        List<ListWithCardsResponse> listResponses = new ArrayList<>(lists.size());
+        for (ListVo list : lists) {
+            listResponses.add(ListWithCardsResponse.of(list, cardsByList.getOrDefault(list.getId(), new ArrayList<>())));
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("보드 요약 스냅샷 로드 (boardId: {}) - rows: {} (lists {}, cards {}), {}ms",
+                    boardId, 1 + lists.size() + cards.size(), lists.size(), cards.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+
+        return new BoardSnapshot(board, listResponses);
+    }
+
+    // 키 기준 그룹핑 (조회 순서 유지)
+    private static <T> Map<Long, List<T>> groupBy(List<T> rows, Function<T, Long> keyFn, int expectedKeys) {
+        if (rows.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, List<T>> grouped = new HashMap<>(Math.max(16, expectedKeys * 4 / 3 + 1));
+        for (T row : rows) {
+            grouped.computeIfAbsent(keyFn.apply(row), k -> new ArrayList<>()).add(row);
+        }
+        return grouped;
+    }
+
+    /**
+     * 스냅샷 결과
+     * - board: 보드 기본 정보 (팀 이름 포함)
+     * - lists: 카드/체크리스트/파일/댓글이 조립된 리스트 목록
+     */
+    public record BoardSnapshot(BoardVo board, List<ListWithCardsResponse> lists) {
+    }
+}
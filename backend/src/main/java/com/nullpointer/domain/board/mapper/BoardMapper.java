@@ -2,7 +2,6 @@ package com.nullpointer.domain.board.mapper;
 
 
 import com.nullpointer.domain.board.dto.response.BoardResponse;
-import com.nullpointer.domain.board.dto.response.BoardViewResponse;
 import com.nullpointer.domain.board.vo.BoardVo;
 import org.apache.ibatis.annotations.Param;
 
@@ -23,8 +22,8 @@ public interface BoardMapper {
     // 보드 상세 조회
     Optional<BoardVo> findBoardByBoardId(Long boardId);
 
-    // 보드 페이지 조회 - 보드+리스트+카드 일괄 조회
-    BoardViewResponse findBoardWithListsAndCards(@Param("boardId") Long boardId);
+    // 팀 하위 보드 ID 목록 조회 (삭제된 보드 포함, 캐시 무효화용)
+    List<Long> findBoardIdsByTeamId(Long teamId);
 
     // 보드 정보 수정
     void updateBoard(BoardVo boardVo);
@@ -3,6 +3,7 @@ package com.nullpointer.domain.board.service;
 import com.nullpointer.domain.board.dto.request.CreateBoardRequest;
 import com.nullpointer.domain.board.dto.request.UpdateBoardRequest;
 import com.nullpointer.domain.board.dto.response.*;
+import com.nullpointer.domain.board.vo.enums.BoardViewMode;
 
 import java.util.List;
 
@@ -35,8 +36,14 @@ public interface BoardService {
     // 즐겨찾기 토글
     void toggleFavorite(Long boardId, Long userId);
 
-    // 보드(리스트 + 카드 + 멤버) 조회
-    BoardViewResponse getBoardView(Long boardId, Long userId);
+    // 보드(리스트 + 카드 + 멤버) 조회 (mode: FULL / SUMMARY)
+    BoardViewResponse getBoardView(Long boardId, Long userId, BoardViewMode mode);
+
+    // 보드 조회 ETag (권한 확인 후 보드 버전/세대 번호로 생성)
+    String getBoardViewETag(Long boardId, Long userId, BoardViewMode mode);
+
+    // 보드 변경 조회 (since 버전 이후)
+    BoardChangesResponse getBoardChanges(Long boardId, long since, Long userId);
 
     // 보드 공유 링크 생성
     String createShareToken(Long boardId, Long userId);
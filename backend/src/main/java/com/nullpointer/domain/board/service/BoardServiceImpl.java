@@ -4,11 +4,14 @@ import com.nullpointer.domain.board.dto.request.CreateBoardRequest;
 import com.nullpointer.domain.board.dto.request.UpdateBoardRequest;
 import com.nullpointer.domain.board.dto.response.*;
 import com.nullpointer.domain.board.event.BoardEvent;
+import com.nullpointer.domain.board.helper.BoardSnapshotLoader;
+import com.nullpointer.domain.board.helper.BoardSnapshotLoader.BoardSnapshot;
 import com.nullpointer.domain.board.mapper.BoardMapper;
 import com.nullpointer.domain.board.mapper.BoardSettingMapper;
 import com.nullpointer.domain.board.vo.BoardSettingVo;
 import com.nullpointer.domain.board.vo.BoardVo;
 import com.nullpointer.domain.board.vo.enums.BoardSettingType;
+import com.nullpointer.domain.board.vo.enums.BoardViewMode;
 import com.nullpointer.domain.board.vo.enums.PermissionLevel;
 import com.nullpointer.domain.board.vo.enums.Visibility;
 import com.nullpointer.domain.card.mapper.CardMapper;
@@ -26,9 +29,13 @@ import com.nullpointer.domain.member.vo.BoardMemberVo;
 import com.nullpointer.domain.member.vo.TeamMemberVo;
 import com.nullpointer.domain.member.vo.enums.Role;
 import com.nullpointer.domain.team.vo.TeamVo;
-import com.nullpointer.domain.user.mapper.UserMapper;
 import com.nullpointer.domain.user.vo.UserVo;
+import com.nullpointer.global.async.ParallelReader;
+import com.nullpointer.global.cache.BoardChangeJournal;
+import com.nullpointer.global.cache.BoardViewCache;
+import com.nullpointer.global.cache.UserSummaryCache;
 import com.nullpointer.global.common.SocketSender;
+import com.nullpointer.global.common.constants.AppConstants;
 import com.nullpointer.global.common.enums.ErrorCode;
 import com.nullpointer.global.exception.BusinessException;
 import com.nullpointer.global.util.RedisUtil;
@@ -36,6 +43,7 @@ import com.nullpointer.global.validator.BoardValidator;
 import com.nullpointer.global.validator.MemberValidator;
 import com.nullpointer.global.validator.TeamValidator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -58,8 +66,12 @@ public class BoardServiceImpl implements BoardService {
     private final SocketSender socketSender;
     private final S3FileStorageService s3FileStorageService;
     private final RedisUtil redisUtil;
+    private final BoardSnapshotLoader boardSnapshotLoader;
+    private final BoardViewCache boardViewCache;
+    private final BoardChangeJournal boardChangeJournal;
+    private final ParallelReader parallelReader;
 
-    private final UserMapper userMapper;
+    private final UserSummaryCache userSummaryCache;
     private final BoardMapper boardMapper;
     private final BoardSettingMapper boardSettingMapper;
     private final BoardMemberMapper boardMemberMapper;
@@ -70,6 +82,10 @@ public class BoardServiceImpl implements BoardService {
     private final CommentMapper commentMapper;
     private final FileMapper fileMapper;
 
+    // 첨부파일 다운로드 URL을 보드 페이지 대신 카드를 열 때 발급
+    @Value("${app.file.lazy-presign:false}")
+    private boolean lazyPresign;
+
     /**
      * 보드 권한
      * - 보드 수정/삭제 -> OWNER (Manager)
@@ -80,7 +96,7 @@ public class BoardServiceImpl implements BoardService {
     @Transactional
     public void createBoard(Long teamId, CreateBoardRequest req, Long userId) {
         // 사용자 정보 조회
-        UserVo actor = userMapper.findById(userId)
+        UserVo actor = userSummaryCache.find(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 팀 유효성 확인
@@ -135,7 +151,7 @@ public class BoardServiceImpl implements BoardService {
     @Transactional
     public void createDefaultBoard(Long teamId, Long userId) {
         // 사용자 정보 조회
-        UserVo actor = userMapper.findById(userId)
+        UserVo actor = userSummaryCache.find(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 1. 기본 보드 생성
@@ -162,9 +178,9 @@ public class BoardServiceImpl implements BoardService {
         boardMemberMapper.insertBoardMember(boardMember);
 
         // 3. 기본 리스트 3개 생성
-        listMapper.insertList(createDefaultList(boardId, "To Do", 1));
-        listMapper.insertList(createDefaultList(boardId, "In Progress", 2));
-        listMapper.insertList(createDefaultList(boardId, "Done", 3));
+        listMapper.insertList(createDefaultList(boardId, "To Do", 0));
+        listMapper.insertList(createDefaultList(boardId, "In Progress", AppConstants.ORDER_INDEX_GAP));
+        listMapper.insertList(createDefaultList(boardId, "Done", AppConstants.ORDER_INDEX_GAP * 2));
 
         // [이벤트] 보드 생성 이벤트 발행
         publishBoardEvent(actor, board, null, BoardEvent.EventType.CREATE_BOARD, null);
@@ -220,7 +236,7 @@ public class BoardServiceImpl implements BoardService {
         memberVal.validateBoardManager(boardId, userId);
 
         // 관리자 정보 조회
-        UserVo actor = userMapper.findById(userId)
+        UserVo actor = userSummaryCache.find(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 2. 공통 검증 메서드로 보드 조회
@@ -256,7 +272,7 @@ public class BoardServiceImpl implements BoardService {
         // 관리자만 설정 변경 가능
         memberVal.validateBoardManager(boardId, userId);
 
-        UserVo actor = userMapper.findById(userId)
+        UserVo actor = userSummaryCache.find(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 공통 검증 메서드로 보드 조회
@@ -335,7 +351,7 @@ public class BoardServiceImpl implements BoardService {
         BoardVo boardVo = boardVal.getValidBoard(boardId);
 
         // 관리자 정보 조회
-        UserVo actor = userMapper.findById(userId)
+        UserVo actor = userSummaryCache.find(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         List<Long> memberIds = boardMemberMapper.findAllMemberIdsByBoardId(boardId);
@@ -406,78 +422,49 @@ public class BoardServiceImpl implements BoardService {
     }
 
     // 보드 관련 정보 조회 - 보드 페이지
+    // - 독립된 조회는 ParallelReader로 동시 실행 (조회마다 읽기 전용 트랜잭션, 호출 측은 트랜잭션 없음)
+    // - 조회 사이의 시점 차이는 BoardViewCache가 조회 전후 보드 버전/세대 번호를 비교해 걸러냄
     @Override
-    @Transactional(readOnly = true)
-    public BoardViewResponse getBoardView(Long boardId, Long userId) {
+    public BoardViewResponse getBoardView(Long boardId, Long userId, BoardViewMode mode) {
         // 조회 권한 확인
         // - validateBoardViewer 내부 resolveEffectiveBoardRole에서 TEAM/PRIVATE 보드 여부, 권한 모두 체크
         memberVal.validateBoardViewer(boardId, userId);
 
-        // refactor) 보드 조회(1회) + 리스트 조회(1회) + 카드 조회(리스트 개수 N회) -> JOIN을 사용해서 데이터 일괄 조회
-        BoardViewResponse response = boardMapper.findBoardWithListsAndCards(boardId);
+        // refactor) 사용자와 무관한 부분은 보드 버전 단위로 캐시 (보드 소켓 메시지 발송 시 버전 증가)
+        // - SUMMARY: 카드 하위 데이터 없이 개수만, 아카이브 제외 (카드 상세는 카드를 열 때 조회)
+        try (ParallelReader.Scope scope = parallelReader.open()) {
+            // 현재 유저가 이 보드를 즐겨찾기 했는지 확인 (스냅샷 조회와 동시에)
+            ParallelReader.Fork<Boolean> isFavorite = scope.fork(() -> boardMapper.existsFavorite(boardId, userId));
 
-        if (response == null) {
-            throw new BusinessException(ErrorCode.BOARD_NOT_FOUND);
-        }
+            BoardViewResponse view = boardViewCache.get(boardId, mode, () -> loadBoardView(boardId, mode));
 
-        // 부가 정보 채우기 (멤버, 즐겨찾기는 별도로 조회)
-        // 보드 멤버 조회
-        List<BoardMemberResponse> boardMembers = boardMemberMapper.findMembersByBoardId(boardId);
-
-        // 팀 멤버 조회
-        List<TeamMemberResponse> teamMembers = teamMemberMapper.findMembersByTeamId(response.getTeamId());
+            // 캐시된 스냅샷은 공유되므로 복사 후 사용자별 값만 덧씌움
+            return view.toBuilder()
+                    .isFavorite(isFavorite.join())
+                    .build();
+        }
+    }
 
-        // 설정 정보 조회
-        BoardSettingVo settingVo = boardSettingMapper.findBoardSettingsByBoardId(boardId);
-        PermissionLevel invitation = settingVo != null ? settingVo.getInvitationPermission() : PermissionLevel.OWNER;
-        PermissionLevel sharing = settingVo != null ? settingVo.getBoardSharingPermission() : PermissionLevel.OWNER;
-        PermissionLevel listEdit = settingVo != null ? settingVo.getListEditPermission() : PermissionLevel.OWNER;
-        PermissionLevel cardDelete = settingVo != null ? settingVo.getCardDeletePermission() : PermissionLevel.OWNER;
+    @Override
+    public String getBoardViewETag(Long boardId, Long userId, BoardViewMode mode) {
+        memberVal.validateBoardViewer(boardId, userId);
 
-        // 현재 유저가 이 보드를 즐겨찾기 했는지 확인
+        // 조회 방식별로 응답이 다르므로 mode 포함, 즐겨찾기 여부는 사용자별이므로 사용자 id와 함께 포함
+        // - 즐겨찾기는 보드 버전을 올리지 않으므로 (변경 기록 대상 아님) 값 자체를 태그에 넣음
         boolean isFavorite = boardMapper.existsFavorite(boardId, userId);
+        String scope = "board-" + boardId + "-" + mode.name().toLowerCase() + "-u" + userId + (isFavorite ? "f" : "");
 
-        // 첨부파일이 있을 경우 key값을 URL로 변환
-        // 1. 리스트 목록이 비어있지 않은지 확인
-        if (response.getLists() != null) {
-            // 2. 각 리스트를 순회 (ListVo)
-            response.getLists().forEach(list -> {
-
-                // 3. 해당 리스트에 카드가 있는지 확인
-                if (list.getCards() != null) {
-                    // 4. 각 카드를 순회 (CardVo)
-                    list.getCards().forEach(card -> {
-
-                        // 5. 해당 카드에 파일이 있는지 확인
-                        if (card.getFiles() != null) {
-                            // 6. 각 파일을 순회하며 URL 변환 (FileVo)
-                            card.getFiles().forEach(file -> {
-                                // s3FileStorageService URL 변환 메서드
-                                String downloadPath = s3FileStorageService.getDownLoadUrl(file.getFilePath(), file.getFileName());
-                                file.setFilePath(downloadPath);
-                            });
-                        }
-                    });
-                }
-            });
-        }
+        // FULL은 첨부파일 다운로드 URL 포함 (lazyPresign이면 URL 없음)
+        return mode == BoardViewMode.FULL && !lazyPresign
+                ? boardViewCache.eTagWithPresignedUrls(boardId, scope)
+                : boardViewCache.eTag(boardId, scope);
+    }
 
-        // Owner ID 추출
-        Long ownerId = boardMembers.stream()
-                .filter(m -> m.getRole() == Role.OWNER)
-                .map(BoardMemberResponse::getUserId)
-                .findFirst().orElse(null);
-
-        return response.toBuilder()
-                .ownerId(ownerId)
-                .boardMembers(boardMembers)
-                .teamMembers(teamMembers)
-                .isFavorite(isFavorite)
-                .invitationPermission(invitation)
-                .boardSharingPermission(sharing)
-                .listEditPermission(listEdit)
-                .cardDeletePermission(cardDelete)
-                .build();
+    // 보드 변경 조회 - 재연결 시 놓친 변경만 조회 (기록이 부족하면 fullReload)
+    @Override
+    public BoardChangesResponse getBoardChanges(Long boardId, long since, Long userId) {
+        memberVal.validateBoardViewer(boardId, userId);
+        return boardChangeJournal.readSince(boardId, since);
     }
 
     @Override
@@ -512,6 +499,61 @@ public class BoardServiceImpl implements BoardService {
      * Helper Methods
      */
 
+    // 보드 페이지 중 사용자와 무관한 부분 조회 (BoardViewCache 미스 시)
+    // - 스냅샷(여러 쿼리)과 부가 정보는 각자 읽기 전용 트랜잭션에서 동시에 조회
+    private BoardViewResponse loadBoardView(Long boardId, BoardViewMode mode) {
+        BoardSnapshot snapshot;
+        List<BoardMemberResponse> boardMembers;
+        List<TeamMemberResponse> teamMembers;
+        BoardSettingVo settingVo;
+
+        try (ParallelReader.Scope scope = parallelReader.open()) {
+            // 부가 정보 (보드 멤버, 설정)는 스냅샷과 동시에 조회
+            ParallelReader.Fork<List<BoardMemberResponse>> boardMembersFork =
+                    scope.fork(() -> boardMemberMapper.findMembersByBoardId(boardId));
+            ParallelReader.Fork<BoardSettingVo> settingFork =
+                    scope.fork(() -> boardSettingMapper.findBoardSettingsByBoardId(boardId));
+
+            // refactor) 단일 JOIN(리스트 x 카드 x 체크리스트 x 파일 x 댓글) -> 테이블별 조회 후 메모리에서 조립
+            snapshot = scope.fork(() -> mode == BoardViewMode.SUMMARY
+                    ? boardSnapshotLoader.loadSummary(boardId)
+                    : boardSnapshotLoader.load(boardId)).join();
+
+            // 팀 멤버 조회 (스냅샷의 팀 id 필요)
+            Long teamId = snapshot.board().getTeamId();
+            teamMembers = scope.fork(() -> teamMemberMapper.findMembersByTeamId(teamId)).join();
+
+            boardMembers = boardMembersFork.join();
+            settingVo = settingFork.join();
+        }
+
+        // 설정 정보
+        PermissionLevel invitation = settingVo != null ? settingVo.getInvitationPermission() : PermissionLevel.OWNER;
+        PermissionLevel sharing = settingVo != null ? settingVo.getBoardSharingPermission() : PermissionLevel.OWNER;
+        PermissionLevel listEdit = settingVo != null ? settingVo.getListEditPermission() : PermissionLevel.OWNER;
+        PermissionLevel cardDelete = settingVo != null ? settingVo.getCardDeletePermission() : PermissionLevel.OWNER;
+
+        // 첨부파일이 있을 경우 key값을 URL로 변환 (URL 유효기간 1시간 > 스냅샷 캐시 TTL)
+        // - lazyPresign: URL 없이 내려주고 카드를 열 때 발급 (GET /api/files/card/{cardId}), 저장 경로(key)는 노출하지 않음
+        snapshot.lists().forEach(list ->
+                list.getCards().stream()
+                        .filter(card -> card.getFiles() != null) // SUMMARY는 첨부파일 미포함
+                        .forEach(card -> card.getFiles().forEach(file -> {
+                            // s3FileStorageService URL 변환 메서드 (만료 임박 전까지 같은 URL 재사용)
+                            String downloadPath = lazyPresign ? null : s3FileStorageService.getDownLoadUrl(file.getFilePath(), file.getFileName());
+                            file.setFilePath(downloadPath);
+                        })));
+
+        // Owner ID는 BoardViewResponse.of 내부에서 추출, 즐겨찾기는 조회 시 사용자별로 채움
+        return BoardViewResponse.of(snapshot.board(), snapshot.lists(), boardMembers, teamMembers, false)
+                .toBuilder()
+                .invitationPermission(invitation)
+                .boardSharingPermission(sharing)
+                .listEditPermission(listEdit)
+                .cardDeletePermission(cardDelete)
+                .build();
+    }
+
     // [이벤트] 보드 이벤트 발행
     private void publishBoardEvent(UserVo actor, BoardVo board, List<Long> memberIds,
                                    BoardEvent.EventType type, Map<BoardSettingType, String[]> settingChanges) {
@@ -0,0 +1,15 @@
+package com.nullpointer.domain.board.vo.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum BoardViewMode {
+    FULL("카드 하위 데이터(체크리스트/댓글/첨부파일) 포함"),
+    SUMMARY("카드 개수 정보만, 아카이브된 리스트/카드 제외");
+
+    private final String label;
+
+    BoardViewMode(String label) {
+        this.label = label;
+    }
+}
@@ -5,10 +5,12 @@ import com.nullpointer.domain.card.dto.CreateCardRequest;
 import com.nullpointer.domain.card.service.CardService;
 import com.nullpointer.global.common.ApiResponse;
 import com.nullpointer.global.common.annotation.LoginUser;
+import com.nullpointer.global.util.ETagUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -33,7 +35,12 @@ public class CardController {
     @Operation(summary = "카드 목록 조회", description = "리스트에 속한 카드 목록을 조회합니다.")
     @GetMapping
     public ApiResponse<List<CardResponse>> getCards(@PathVariable("listId") Long listId,
-                                                    @LoginUser Long userId) {
+                                                    @LoginUser Long userId,
+                                                    WebRequest webRequest) {
+        // If-None-Match가 현재 보드 버전과 같으면 조회 없이 304
+        if (ETagUtil.checkNotModified(webRequest, cardService.getCardsETag(listId, userId))) {
+            return null;
+        }
         return ApiResponse.success(cardService.getCards(listId, userId));
     }
 }
@@ -1,5 +1,6 @@
 package com.nullpointer.domain.card.controller;
 
+import com.nullpointer.domain.card.dto.BulkCardRequest;
 import com.nullpointer.domain.card.dto.CardResponse;
 import com.nullpointer.domain.card.dto.MoveCardRequest;
 import com.nullpointer.domain.card.dto.UpdateCardRequest;
@@ -8,6 +9,7 @@ import com.nullpointer.global.common.ApiResponse;
 import com.nullpointer.global.common.annotation.LoginUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -31,6 +33,14 @@ public class CardManageController {
         return ApiResponse.success(cardService.getMyCards(userId, teamId, boardId));
     }
 
+    // 카드 상세 조회
+    @Operation(summary = "카드 상세 조회", description = "카드 정보와 체크리스트, 댓글, 첨부파일(다운로드 URL 포함)을 조회합니다.")
+    @GetMapping("/{cardId}")
+    public ApiResponse<CardResponse> getCardDetail(@PathVariable Long cardId,
+                                                   @LoginUser Long userId) {
+        return ApiResponse.success(cardService.getCardDetail(cardId, userId));
+    }
+
     // 카드 이동
     @Operation(summary = "카드 이동", description = "카드를 다른 리스트나 위치로 이동합니다.")
     @PatchMapping("/{cardId}/move")
@@ -45,12 +55,20 @@ public class CardManageController {
     @Operation(summary = "카드 수정", description = "카드 제목, 설명, 마감일, 아카이브 등 정보를 수정합니다.")
     @PatchMapping("/{cardId}")
     public ApiResponse<String> updateCard(@PathVariable Long cardId,
-                                          @RequestBody UpdateCardRequest req,
+                                          @Valid @RequestBody UpdateCardRequest req,
                                           @LoginUser Long userId) {
         cardService.updateCard(cardId, req, userId);
         return ApiResponse.success("카드 정보 수정");
     }
 
+    // 카드 일괄 처리
+    @Operation(summary = "카드 일괄 처리", description = "선택한 카드(최대 100개)를 한 번에 이동/보관/담당자 지정/삭제합니다.")
+    @PostMapping("/bulk")
+    public ApiResponse<Integer> bulkUpdateCards(@RequestBody BulkCardRequest req,
+                                                @LoginUser Long userId) {
+        return ApiResponse.success(cardService.bulkUpdateCards(req, userId));
+    }
+
     // 카드 삭제
     @Operation(summary = "카드 삭제", description = "카드를 삭제합니다 (멤버 등급 이상).")
     @DeleteMapping("/{cardId}")
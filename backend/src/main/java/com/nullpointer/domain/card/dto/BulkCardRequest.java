@@ -0,0 +1,30 @@
+package com.nullpointer.domain.card.dto;
+
+import com.nullpointer.domain.card.vo.enums.BulkCardOperation;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 카드 일괄 처리 요청
+ * - 같은 보드의 카드만 한 번에 처리 (최대 100개)
+ * - operation별 필요한 값: MOVE -> listId, ARCHIVE -> isArchived, ASSIGN -> assigneeId
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCardRequest {
+
+    private Long boardId;
+    private List<Long> cardIds;
+    private BulkCardOperation operation;
+
+    private Long listId;
+    private Boolean isArchived;
+    private Long assigneeId;
+
+}
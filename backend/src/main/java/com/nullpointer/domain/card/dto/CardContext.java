@@ -0,0 +1,41 @@
+package com.nullpointer.domain.card.dto;
+
+import com.nullpointer.domain.board.vo.enums.Visibility;
+import com.nullpointer.domain.card.vo.CardVo;
+import com.nullpointer.domain.member.vo.enums.Role;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 카드 작업 컨텍스트 (CardContextResolver)
+ * - 카드 + 소속 리스트/보드/팀 id + 요청자 권한을 한 번의 조회로 구성
+ * - 권한 검증과 소켓/알림 이벤트 데이터에 함께 사용
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class CardContext {
+
+    private CardVo card;
+    private Long boardId;
+    private Long teamId;
+    private Visibility visibility;
+
+    // 요청자의 보드 멤버 / 팀 멤버 역할 (없으면 null)
+    private Role boardMemberRole;
+    private Role teamMemberRole;
+
+    // 최종 권한 (MemberValidator.effectiveRole 규칙, null이면 권한 없음)
+    private Role role;
+
+    public Long getCardId() {
+        return card.getId();
+    }
+
+    public Long getListId() {
+        return card.getListId();
+    }
+}
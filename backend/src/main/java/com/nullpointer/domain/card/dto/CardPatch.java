@@ -0,0 +1,81 @@
+package com.nullpointer.domain.card.dto;
+
+import com.nullpointer.domain.card.vo.CardVo;
+import com.nullpointer.domain.card.vo.enums.Priority;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 카드 부분 수정 (CardMapper.patchCard) 파라미터
+ * - 수정 전/후 카드를 비교해 바뀐 컬럼만 담음 (null = 변경 없음)
+ * - clear*: 값이 지워진 컬럼 (NULL로 초기화)
+ * - version: 수정 조건으로 사용할 버전 (낙관적 잠금)
+ */
+@Getter
+public class CardPatch {
+
+    private final Long id;
+    private final Integer version;
+
+    private String title;
+    private String description;
+    private Long assigneeId;
+    private Boolean isComplete;
+    private Boolean isArchived;
+
+    private Priority priority;
+    private LocalDateTime startDate;
+    private LocalDateTime dueDate;
+    private String label;
+    private String labelColor;
+
+    private boolean clearPriority;
+    private boolean clearStartDate;
+    private boolean clearDueDate;
+    private boolean clearLabel;
+    private boolean clearLabelColor;
+
+    private CardPatch(Long id, Integer version) {
+        this.id = id;
+        this.version = version;
+    }
+
+    public static CardPatch of(CardVo before, CardVo after, Integer version) {
+        CardPatch patch = new CardPatch(after.getId(), version);
+
+        if (changed(before.getTitle(), after.getTitle())) patch.title = after.getTitle();
+        if (changed(before.getDescription(), after.getDescription())) patch.description = after.getDescription();
+        if (changed(before.getAssigneeId(), after.getAssigneeId())) patch.assigneeId = after.getAssigneeId();
+        if (changed(before.getIsComplete(), after.getIsComplete())) patch.isComplete = after.getIsComplete();
+        if (changed(before.getIsArchived(), after.getIsArchived())) patch.isArchived = after.getIsArchived();
+
+        // 지울 수 있는 컬럼 (값이 없어졌으면 clear)
+        if (changed(before.getPriority(), after.getPriority())) {
+            patch.priority = after.getPriority();
+            patch.clearPriority = after.getPriority() == null;
+        }
+        if (changed(before.getStartDate(), after.getStartDate())) {
+            patch.startDate = after.getStartDate();
+            patch.clearStartDate = after.getStartDate() == null;
+        }
+        if (changed(before.getDueDate(), after.getDueDate())) {
+            patch.dueDate = after.getDueDate();
+            patch.clearDueDate = after.getDueDate() == null;
+        }
+        if (changed(before.getLabel(), after.getLabel())) {
+            patch.label = after.getLabel();
+            patch.clearLabel = after.getLabel() == null;
+        }
+        if (changed(before.getLabelColor(), after.getLabelColor())) {
+            patch.labelColor = after.getLabelColor();
+            patch.clearLabelColor = after.getLabelColor() == null;
+        }
+        return patch;
+    }
+
+    private static boolean changed(Object before, Object after) {
+        return !Objects.equals(before, after);
+    }
+}
@@ -31,11 +31,15 @@ public class CardResponse {
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
     private LocalDateTime dueDate;
     private Integer commentCount;
+    private Integer checklistTotal;
+    private Integer checklistDone;
+    private Integer fileCount;
 
     private Boolean isComplete;
     private String label;
     private String labelColor;
     private Boolean isArchived;
+    private Integer version;
 
     // 담당자 정보
     private Long assigneeId;
@@ -75,6 +79,8 @@ public class CardResponse {
                 .assigneeName(assigneeName)
                 .assigneeProfileImg(assigneeProfileImg)
                 .commentCount(commentCount != null ? commentCount : 0)
+                .checklistTotal(c.getChecklistTotal() != null ? c.getChecklistTotal() : 0)
+                .checklistDone(c.getChecklistDone() != null ? c.getChecklistDone() : 0)
                 .isComplete(c.getIsComplete() != null ? c.getIsComplete() : false)
                 .checklists(checklists)
                 .build();
@@ -0,0 +1,26 @@
+package com.nullpointer.domain.card.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마감 임박 알림 대상 카드
+ * - 카드 + 담당자 + 보드 id를 한 번에 조회 (DeadlineScheduler)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class DeadlineCardResponse {
+
+    private Long cardId;
+    private String cardTitle;
+    private Long assigneeId;
+    private Long listId;
+    private Long boardId;
+    private LocalDateTime dueDate;
+
+}
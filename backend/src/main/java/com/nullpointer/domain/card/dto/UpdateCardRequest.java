@@ -1,6 +1,7 @@
 package com.nullpointer.domain.card.dto;
 
 import com.nullpointer.domain.card.vo.enums.Priority;
+import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -31,4 +32,8 @@ public class UpdateCardRequest {
     private Boolean removeDate;
     private Boolean removeLabel;
 
+    // 클라이언트가 마지막으로 본 카드 버전 (필수, 없으면 400)
+    @NotNull(message = "카드 버전은 필수 입력 값입니다.")
+    private Integer version;
+
 }
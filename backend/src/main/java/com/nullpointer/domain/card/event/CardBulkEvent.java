@@ -0,0 +1,21 @@
+package com.nullpointer.domain.card.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 카드 일괄 처리 이벤트
+ * - 카드별 CardEvent를 묶어서 한 번에 발행 (리스너에서 알림/활동 기록을 한 번에 처리)
+ */
+@Getter
+@Builder
+public class CardBulkEvent {
+
+    private Long boardId;
+    private Long teamId;
+    private Long actorId;
+    private List<CardEvent> events;
+
+}
@@ -0,0 +1,23 @@
+package com.nullpointer.domain.card.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 카드 1건 수정 변경 내용 묶음 이벤트
+ * - 필드별 CardEvent(담당자, 중요도, 마감일, 멘션 등)를 한 번에 발행
+ * - 리스너에서 활동 로그/알림을 한 번에 저장
+ */
+@Getter
+@Builder
+public class CardChangeSetEvent {
+
+    private Long cardId;
+    private Long boardId;
+    private Long teamId;
+    private Long actorId;
+    private List<CardEvent> events;
+
+}
@@ -0,0 +1,87 @@
+package com.nullpointer.domain.card.helper;
+
+import com.nullpointer.domain.card.dto.CardContext;
+import com.nullpointer.domain.card.mapper.CardMapper;
+import com.nullpointer.domain.member.vo.enums.Role;
+import com.nullpointer.global.common.enums.ErrorCode;
+import com.nullpointer.global.exception.BusinessException;
+import com.nullpointer.global.validator.MemberValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 카드 작업 컨텍스트 조회
+ * refactor) 카드 -> 리스트 -> 보드 -> 권한 순차 조회 (3~5회) -> 조인 조회 1회
+ * - 카드, 보드/팀 id, 요청자 최종 권한(MemberValidator.effectiveRole)을 함께 반환
+ * - 요청(request attribute) 단위로 기억해 같은 요청 안에서는 다시 조회하지 않음
+ *   (요청 밖 - 스케줄러, 비동기 리스너 등 - 에서는 매번 조회)
+ * - 기억된 카드 값은 요청 내 첫 조회 시점 기준, 수정 후 값이 필요하면 CardMapper로 다시 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class CardContextResolver {
+
+    private static final String ATTRIBUTE_PREFIX = CardContextResolver.class.getName() + ":";
+
+    private final CardMapper cardMapper;
+
+    /**
+     * 카드 조회 권한(VIEWER 이상) 확인 후 컨텍스트 반환
+     */
+    public CardContext requireViewer(Long cardId, Long userId) {
+        CardContext context = resolve(cardId, userId);
+        if (context.getRole() == null) {
+            throw new BusinessException(ErrorCode.BOARD_ACCESS_DENIED);
+        }
+        return context;
+    }
+
+    /**
+     * 카드 작업 권한(MEMBER 이상) 확인 후 컨텍스트 반환
+     */
+    public CardContext requireEditor(Long cardId, Long userId) {
+        CardContext context = resolve(cardId, userId);
+        if (context.getRole() == null || context.getRole() == Role.VIEWER) {
+            throw new BusinessException(ErrorCode.BOARD_ACCESS_DENIED);
+        }
+        return context;
+    }
+
+    /**
+     * 카드 작업 컨텍스트 (권한 확인 없음)
+     * - 카드가 없으면 CARD_NOT_FOUND, 리스트/보드가 없으면 BOARD_NOT_FOUND
+     */
+    public CardContext resolve(Long cardId, Long userId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        String key = ATTRIBUTE_PREFIX + cardId + ":" + userId;
+
+        if (attributes != null && attributes.getAttribute(key, RequestAttributes.SCOPE_REQUEST) instanceof CardContext cached) {
+            return cached;
+        }
+
+        CardContext context = load(cardId, userId);
+        if (attributes != null) {
+            attributes.setAttribute(key, context, RequestAttributes.SCOPE_REQUEST);
+        }
+        return context;
+    }
+
+    /**
+     * Helper Methods
+     */
+
+    private CardContext load(Long cardId, Long userId) {
+        CardContext context = cardMapper.findCardContext(cardId, userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CARD_NOT_FOUND));
+
+        if (context.getBoardId() == null) {
+            throw new BusinessException(ErrorCode.BOARD_NOT_FOUND);
+        }
+
+        context.setRole(MemberValidator.effectiveRole(
+                context.getVisibility(), context.getBoardMemberRole(), context.getTeamMemberRole()));
+        return context;
+    }
+}
@@ -1,5 +1,7 @@
 package com.nullpointer.domain.card.helper;
 
+import com.nullpointer.domain.card.event.CardBulkEvent;
+import com.nullpointer.domain.card.event.CardChangeSetEvent;
 import com.nullpointer.domain.card.event.CardEvent;
 import com.nullpointer.domain.card.vo.CardVo;
 import com.nullpointer.domain.list.vo.ListVo;
@@ -9,7 +11,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.function.BiFunction;
 
 @Component
 @RequiredArgsConstructor
@@ -18,9 +23,9 @@ public class CardEventHelper {
     private final MentionProcessor mentionProcessor;
     private final ApplicationEventPublisher publisher; // 이벤트 발행기
 
-    // [공통] 카드 수정 (담당자, 중요도, 마감일, 라벨, 보관함 등) 이벤트 발행
-    public void publishCardUpdateEvent(UserVo actor, CardVo card, Long boardId, Long teamId,
-                                       String assigneeNickname, String fieldName, String oldValue, String newValue) {
+    // [공통] 카드 수정 (담당자, 중요도, 마감일, 라벨, 보관함 등) 이벤트 생성 -> publishCardChangeSetEvent로 묶어서 발행
+    public CardEvent createCardUpdateEvent(UserVo actor, CardVo card, Long boardId, Long teamId,
+                                           String assigneeNickname, String fieldName, String oldValue, String newValue) {
         // 이벤트 타입 결정
         CardEvent.EventType type = CardEvent.EventType.UPDATED;
 
@@ -28,7 +33,7 @@ public class CardEventHelper {
             type = CardEvent.EventType.ASSIGNED;
         }
 
-        CardEvent event = CardEvent.builder()
+        return CardEvent.builder()
                 .eventType(type)
                 .cardId(card.getId())
                 .cardTitle(card.getTitle())
@@ -44,15 +49,14 @@ public class CardEventHelper {
                 .oldValue(oldValue)
                 .newValue(newValue)
                 .build();
-
-        publisher.publishEvent(event);
     }
 
-    // [멘션&이벤트] 카드 설명 변경 시 멘션 알림 발행
-    public void processDescriptionMentions(UserVo actor, CardVo card, Long boardId, Long teamId, String newDescription) {
+    // [멘션] 카드 설명 변경 시 멘션 이벤트 생성 -> publishCardChangeSetEvent로 묶어서 발행
+    public List<CardEvent> createDescriptionMentionEvents(UserVo actor, CardVo card, Long boardId, Long teamId,
+                                                          String newDescription) {
         // 카드 설명 변경 확인
         if (newDescription == null || newDescription.equals(card.getDescription())) {
-            return;
+            return List.of();
         }
 
         // 멘션 파싱
@@ -60,10 +64,11 @@ public class CardEventHelper {
 
         // 멘션 대상이 없으면 알림 x
         if (mentionedUserIds.isEmpty()) {
-            return;
+            return List.of();
         }
 
-        // [멘션] 알림 발송
+        // [멘션] 대상별 이벤트
+        List<CardEvent> events = new ArrayList<>(mentionedUserIds.size());
         for (Long targetId : mentionedUserIds) {
             if (targetId.equals(actor.getId())) continue; // 본인 제외
 
@@ -81,8 +86,27 @@ public class CardEventHelper {
                     .content(newDescription)
                     .build();
 
-            publisher.publishEvent(event);
+            events.add(event);
         }
+        return events;
+    }
+
+    /**
+     * [이벤트] 카드 1건 수정 변경 내용 묶음 발행
+     * - 필드별 수정/멘션 이벤트를 CardChangeSetEvent 1건으로 발행 (변경이 없으면 발행 x)
+     */
+    public void publishCardChangeSetEvent(UserVo actor, CardVo card, Long boardId, Long teamId, List<CardEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        publisher.publishEvent(CardChangeSetEvent.builder()
+                .cardId(card.getId())
+                .boardId(boardId)
+                .teamId(teamId)
+                .actorId(actor.getId())
+                .events(events)
+                .build());
     }
 
     // [이벤트] 카드 생성 이벤트 발행
@@ -166,4 +190,44 @@ public class CardEventHelper {
         publisher.publishEvent(event);
     }
 
+    /**
+     * [이벤트] 카드 일괄 처리 이벤트 발행
+     * - 카드별 이벤트를 만들어 CardBulkEvent 1건으로 발행
+     * - detail: 카드별 추가 정보(이동 리스트, 변경 값 등) 설정, null 반환 시 해당 카드 제외
+     */
+    public void publishCardBulkEvent(UserVo actor, List<CardVo> cards, Long boardId, Long teamId,
+                                     CardEvent.EventType type,
+                                     BiFunction<CardVo, CardEvent.CardEventBuilder, CardEvent.CardEventBuilder> detail) {
+        List<CardEvent> events = new ArrayList<>(cards.size());
+        for (CardVo card : cards) {
+            CardEvent.CardEventBuilder builder = CardEvent.builder()
+                    .eventType(type)
+                    .cardId(card.getId())
+                    .cardTitle(card.getTitle())
+                    .teamId(teamId)
+                    .boardId(boardId)
+                    .listId(card.getListId())
+                    .actorId(actor.getId())
+                    .actorNickname(actor.getNickname())
+                    .actorProfileImg(actor.getProfileImg())
+                    .assigneeId(card.getAssigneeId());
+
+            builder = detail.apply(card, builder);
+            if (builder != null) {
+                events.add(builder.build());
+            }
+        }
+
+        if (events.isEmpty()) {
+            return;
+        }
+
+        publisher.publishEvent(CardBulkEvent.builder()
+                .boardId(boardId)
+                .teamId(teamId)
+                .actorId(actor.getId())
+                .events(events)
+                .build());
+    }
+
 }
@@ -2,52 +2,61 @@ package com.nullpointer.domain.card.helper;
 
 import com.nullpointer.domain.card.mapper.CardMapper;
 import com.nullpointer.domain.card.vo.CardVo;
+import com.nullpointer.global.common.OrderRebalancer;
+import com.nullpointer.global.util.OrderIndexUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
+/**
+ * 카드 순서 관리
+ * refactor) 범위 UPDATE(+1/-1 밀기/당기기) -> 간격 기반 순서값으로 이동 카드 1개 행만 수정
+ */
 @Component
 @RequiredArgsConstructor
 public class CardOrderManager {
 
     private final CardMapper cardMapper;
-
-    // 카드 순서 및 리스트 이동
-    public void moveCardOrder(CardVo card, Long newListId, Integer newOrder) {
-        Long oldListId = card.getListId();
-        Integer oldOrder = card.getOrderIndex();
-
-        if (oldListId.equals(newListId)) {
-            // Case A: 같은 리스트 내 이동
-            moveInSameList(oldListId, oldOrder, newOrder);
-        } else {
-            // Case B: 다른 리스트로 이동
-            moveToDifferentList(oldListId, newListId, oldOrder, newOrder);
+    private final OrderRebalancer orderRebalancer;
+
+    // 카드 순서 및 리스트 이동 (newPosition: 이동할 리스트에서의 위치, 0부터 시작)
+    public void moveCardOrder(CardVo card, Long boardId, Long newListId, Integer newPosition) {
+        int position = newPosition != null ? Math.max(0, newPosition) : 0;
+
+        // 1. 이동 위치 앞뒤 카드 사이의 순서값 계산
+        Integer[] neighbors = findNeighbors(newListId, card.getId(), position);
+        Integer newOrder = OrderIndexUtil.between(neighbors[0], neighbors[1]);
+
+        if (newOrder == null) {
+            // 2-a. 간격 소진 -> 리스트 재정렬 후 다시 계산 (기존 0, 1, 2 ... 순서값도 여기서 변환)
+            orderRebalancer.rebalanceCards(newListId);
+            neighbors = findNeighbors(newListId, card.getId(), position);
+            newOrder = OrderIndexUtil.between(neighbors[0], neighbors[1]);
+        } else if (OrderIndexUtil.isCrowded(neighbors[0], newOrder, neighbors[1])) {
+            // 2-b. 간격이 좁아짐 -> 백그라운드 재정렬 요청
+            orderRebalancer.requestCardRebalance(boardId, newListId);
         }
 
-        // 3. 대상 카드 정보 업데이트
+        // 3. 대상 카드 정보 업데이트 (1개 행)
         card.setListId(newListId);
         card.setOrderIndex(newOrder);
         cardMapper.updateCardLocation(card);
     }
 
-    // 같은 리스트 내 이동
-    private void moveInSameList(Long oldListId, Integer oldOrder, Integer newOrder) {
-        if (oldOrder < newOrder) {
-            // 아래로 이동: 사이의 카드들을 위로(-1) 당김
-            cardMapper.updateOrderIndex(oldListId, oldOrder + 1, newOrder, -1);
-        } else if (oldOrder > newOrder) {
-            // 위로 이동: 사이의 카드들을 아래로(+1) 밈
-            cardMapper.updateOrderIndex(oldListId, newOrder, oldOrder - 1, 1);
+    // 이동 위치의 [앞, 뒤] 카드 순서값 (없으면 null)
+    private Integer[] findNeighbors(Long listId, Long cardId, int position) {
+        if (position == 0) {
+            List<Integer> next = cardMapper.findNeighborOrderIndexes(listId, cardId, 0, 1);
+            return new Integer[]{null, next.isEmpty() ? null : next.get(0)};
         }
-    }
 
-    // 다른 리스트로 이동
-    private void moveToDifferentList(Long oldListId, Long newListId, Integer oldOrder, Integer newOrder) {
-        // 기존 리스트 정리: 빠진 카드 뒤의 카드들을 당김(-1)
-        cardMapper.updateOrderIndex(oldListId, oldOrder + 1, Integer.MAX_VALUE, -1);
-
-        // 새 리스트 공간 확보: 들어갈 자리 뒤의 카드들을 밈(+1)
-        cardMapper.updateOrderIndex(newListId, newOrder, Integer.MAX_VALUE, 1);
+        List<Integer> rows = cardMapper.findNeighborOrderIndexes(listId, cardId, position - 1, 2);
+        if (rows.isEmpty()) {
+            // 카드 개수보다 뒤 -> 맨 뒤
+            return new Integer[]{cardMapper.findMaxOrderIndex(listId, cardId), null};
+        }
+        return new Integer[]{rows.get(0), rows.size() > 1 ? rows.get(1) : null};
     }
 
 }
@@ -1,6 +1,9 @@
 package com.nullpointer.domain.card.mapper;
 
+import com.nullpointer.domain.card.dto.CardContext;
+import com.nullpointer.domain.card.dto.CardPatch;
 import com.nullpointer.domain.card.dto.CardResponse;
+import com.nullpointer.domain.card.dto.DeadlineCardResponse;
 import com.nullpointer.domain.card.vo.CardVo;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -15,28 +18,46 @@ import java.util.Optional;
 @Mapper
 public interface CardMapper {
 
-    // 카드 생성
-    void insertCard(CardVo cardVo);
+    // 카드 생성 (리스트 맨 뒤에 gap 간격으로 추가)
+    void insertCard(@Param("card") CardVo cardVo, @Param("gap") int gap);
 
     // 특정 리스트의 카드 목록 조회
     List<CardResponse> findCardsWithDetailsByListId(Long listId);
 
     CardResponse findCardDetailById(Long id);
 
+    // 카드 상세 최신 상태 조회 (잠금 조회, 버전 충돌 응답용)
+    CardResponse findLatestCardDetailById(Long id);
+
+    // 보드 페이지 조회 - 보드 내 전체 카드 조회 (담당자 정보, 댓글 수/체크리스트 진행률 포함)
+    List<CardResponse> findCardsByBoardId(@Param("boardId") Long boardId);
+
+    // 보드 페이지 요약 조회 - 아카이브되지 않은 카드 (하위 데이터 없이 개수만)
+    List<CardResponse> findCardSummariesByBoardId(@Param("boardId") Long boardId);
+
     // 카드 이동
     void updateCardLocation(CardVo cardVo);
 
     // 카드 조회
     Optional<CardVo> findById(Long id);
 
-    // 순서 재정렬
-    void updateOrderIndex(@Param("listId") Long listId,
-                          @Param("startOrder") int startOrder,
-                          @Param("endOrder") int endOrder,
-                          @Param("updateValue") int updateValue);
+    // 카드 작업 컨텍스트 조회 (카드 + 보드/팀 id + 요청자의 보드/팀 멤버 역할)
+    Optional<CardContext> findCardContext(@Param("cardId") Long cardId, @Param("userId") Long userId);
+
+    // 이동 위치 앞뒤 카드 순서값 조회 (이동하는 카드 제외)
+    List<Integer> findNeighborOrderIndexes(@Param("listId") Long listId,
+                                           @Param("excludeId") Long excludeId,
+                                           @Param("offset") int offset,
+                                           @Param("limit") int limit);
 
-    // 카드 수정
-    void updateCard(CardVo cardVo);
+    // 리스트 내 마지막 카드 순서값 조회 (이동하는 카드 제외)
+    Integer findMaxOrderIndex(@Param("listId") Long listId, @Param("excludeId") Long excludeId);
+
+    // 리스트 내 카드 순서값 재정렬 (0, gap, 2*gap ...)
+    int rebalanceOrderIndexes(@Param("listId") Long listId, @Param("gap") int gap);
+
+    // 카드 부분 수정 (바뀐 컬럼만, 버전 조건 -> 0건이면 충돌)
+    int patchCard(CardPatch patch);
 
     // 카드 아카이브 토글
     void updateCardArchiveStatus(@Param("cardId") Long cardId, @Param("isArchived") boolean isArchived);
@@ -53,24 +74,47 @@ public interface CardMapper {
     // 팀 삭제 시 하위 데이터 일괄 삭제
     void deleteAllCardsByTeamId(Long teamId);
 
-    // 담당자 변경
-    void updateCardAssignee(@Param("cardId") Long cardId, @Param("assigneeId") Long assineeId);
+    // 카드 일괄 처리 - 보드에 속한 카드 조회 (보드 화면 순서)
+    List<CardVo> findCardsInBoard(@Param("boardId") Long boardId, @Param("cardIds") List<Long> cardIds);
+
+    // 카드 일괄 이동 - 대상 리스트 맨 뒤에 startOrder부터 gap 간격으로 배치
+    int moveCardsToList(@Param("cardIds") List<Long> cardIds, @Param("listId") Long listId,
+                        @Param("startOrder") int startOrder, @Param("gap") int gap);
 
-    // 마감일 초기화
-    void deleteCardDates(Long cardId);
+    // 카드 일괄 보관/보관 해제
+    int updateCardsArchiveStatus(@Param("cardIds") List<Long> cardIds, @Param("isArchived") boolean isArchived);
 
-    // 우선순위 초기화
-    void deleteCardPriority(Long cardId);
+    // 카드 일괄 담당자 변경
+    int updateCardsAssignee(@Param("cardIds") List<Long> cardIds, @Param("assigneeId") Long assigneeId);
 
-    // 라벨 초기화
-    void deleteCardLabel(Long cardId);
+    // 카드 일괄 삭제
+    int deleteCards(@Param("cardIds") List<Long> cardIds);
+
+    // 댓글 수 증감
+    void increaseCommentCount(@Param("cardId") Long cardId, @Param("delta") int delta);
+
+    // 체크리스트 개수/완료 수 다시 계산
+    void refreshChecklistCounts(Long cardId);
+
+    // 마지막 카드 id (카운터 보정 범위)
+    Long findMaxCardId();
+
+    // (fromId, toId] 범위 중 카운터가 어긋난 카드의 보드 id
+    List<Long> findBoardIdsWithCounterDrift(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    // (fromId, toId] 범위 카운터 보정 -> 보정된 카드 수
+    int reconcileCounters(@Param("fromId") long fromId, @Param("toId") long toId);
 
     // 내 일정 조회(캘린더)
     List<CardResponse> findCardsByAssigneeIdAndFilters(Long userId, Long teamId, Long boardId);
 
-    // 마감일 임박 카드 조회
-    List<CardVo> findCardsDueBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
-
-    // 담당자 조회
-    Long findAssigneeIdByCardId(Long cardId);
+    /**
+     * 마감 임박 알림 대상 조회 (담당자 있는 미완료 카드, 보드 id 포함)
+     * - 마감일이 (from, to] 구간에 새로 들어온 카드
+     * - updatedSince 이후 수정된 카드 중 마감일이 (now, to] 인 카드 (마감일/담당자 변경 반영)
+     */
+    List<DeadlineCardResponse> findDeadlineTargets(@Param("from") LocalDateTime from,
+                                                   @Param("to") LocalDateTime to,
+                                                   @Param("now") LocalDateTime now,
+                                                   @Param("updatedSince") LocalDateTime updatedSince);
 }
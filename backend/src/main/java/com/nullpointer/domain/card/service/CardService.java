@@ -1,5 +1,6 @@
 package com.nullpointer.domain.card.service;
 
+import com.nullpointer.domain.card.dto.BulkCardRequest;
 import com.nullpointer.domain.card.dto.CardResponse;
 import com.nullpointer.domain.card.dto.CreateCardRequest;
 import com.nullpointer.domain.card.dto.MoveCardRequest;
@@ -15,6 +16,12 @@ public interface CardService {
     // 카드 목록 조회
     List<CardResponse> getCards(Long listId, Long userId);
 
+    // 카드 목록 조회 ETag
+    String getCardsETag(Long listId, Long userId);
+
+    // 카드 상세 조회 (체크리스트/댓글/첨부파일 포함)
+    CardResponse getCardDetail(Long cardId, Long userId);
+
     // 카드 이동
     void moveCard(Long cardId, MoveCardRequest req, Long userId);
 
@@ -24,6 +31,9 @@ public interface CardService {
     // 카드 삭제
     void deleteCard(Long cardId, Long userId);
 
+    // 카드 일괄 처리 (이동/보관/담당자 지정/삭제) -> 처리된 카드 수
+    int bulkUpdateCards(BulkCardRequest req, Long userId);
+
     List<CardResponse> getMyCards(Long userId, Long teamId, Long boardId);
 
 }
@@ -1,27 +1,42 @@
 package com.nullpointer.domain.card.service;
 
-import com.nullpointer.domain.board.mapper.BoardMapper;
 import com.nullpointer.domain.board.vo.BoardSettingVo;
 import com.nullpointer.domain.board.vo.BoardVo;
+import com.nullpointer.domain.card.dto.BulkCardRequest;
+import com.nullpointer.domain.card.dto.CardContext;
+import com.nullpointer.domain.card.dto.CardPatch;
 import com.nullpointer.domain.card.dto.CardResponse;
 import com.nullpointer.domain.card.dto.CreateCardRequest;
 import com.nullpointer.domain.card.dto.MoveCardRequest;
 import com.nullpointer.domain.card.dto.UpdateCardRequest;
+import com.nullpointer.domain.card.event.CardEvent;
+import com.nullpointer.domain.card.helper.CardContextResolver;
 import com.nullpointer.domain.card.helper.CardEventHelper;
 import com.nullpointer.domain.card.helper.CardOrderManager;
 import com.nullpointer.domain.card.mapper.CardMapper;
 import com.nullpointer.domain.card.vo.CardVo;
+import com.nullpointer.domain.card.vo.enums.BulkCardOperation;
 import com.nullpointer.domain.card.vo.enums.Priority;
 import com.nullpointer.domain.checklist.mapper.ChecklistMapper;
+import com.nullpointer.domain.comment.dto.CommentResponse;
 import com.nullpointer.domain.comment.mapper.CommentMapper;
+import com.nullpointer.domain.file.dto.FileResponse;
 import com.nullpointer.domain.file.mapper.FileMapper;
+import com.nullpointer.domain.file.service.S3FileStorageService;
 import com.nullpointer.domain.list.mapper.ListMapper;
 import com.nullpointer.domain.list.vo.ListVo;
-import com.nullpointer.domain.user.mapper.UserMapper;
 import com.nullpointer.domain.user.vo.UserVo;
+import com.nullpointer.global.cache.BoardViewCache;
+import com.nullpointer.global.cache.SingleFlight;
+import com.nullpointer.global.cache.UserSummaryCache;
+import com.nullpointer.global.common.OrderRebalancer;
 import com.nullpointer.global.common.SocketSender;
+import com.nullpointer.global.common.constants.AppConstants;
 import com.nullpointer.global.common.enums.ErrorCode;
 import com.nullpointer.global.exception.BusinessException;
+import com.nullpointer.global.exception.ConflictException;
+import com.nullpointer.global.util.OrderIndexUtil;
+import com.nullpointer.global.validator.BoardValidator;
 import com.nullpointer.global.validator.MemberValidator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -29,9 +44,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -39,27 +56,34 @@ import java.util.function.Function;
 @RequiredArgsConstructor
 public class CardServiceImpl implements CardService {
 
+    // 일괄 처리 최대 카드 수
+    private static final int MAX_BULK_SIZE = 100;
+
     private final CardMapper cardMapper;
     private final ListMapper listMapper;
-    private final UserMapper userMapper;
+    private final UserSummaryCache userSummaryCache;
 
     private final MemberValidator memberVal;
     private final CardOrderManager cardOrderManager;
+    private final OrderRebalancer orderRebalancer;
     private final CardEventHelper cardEventHelper;
+    private final CardContextResolver cardContextResolver;
     private final SocketSender socketSender;
-    private final BoardMapper boardMapper;
+    private final BoardValidator boardVal;
     private final ChecklistMapper checklistMapper;
     private final CommentMapper commentMapper;
     private final FileMapper fileMapper;
+    private final BoardViewCache boardViewCache;
+    private final S3FileStorageService s3FileStorageService;
+    private final SingleFlight<String, List<CardResponse>> cardListFlight;
 
     @Override
     @Transactional
     public CardResponse createCard(Long listId, CreateCardRequest req, Long userId) {
         // 리스트 확인 & 권한 검증
         Long boardId = validateListAndPermission(listId, userId, false);
-        BoardVo board = boardMapper.findBoardByBoardId(boardId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_NOT_FOUND));
-        UserVo actor = userMapper.findById(userId)
+        BoardVo board = boardVal.getValidBoard(boardId);
+        UserVo actor = userSummaryCache.find(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 카드 VO 생성 (DTO -> VO)
@@ -71,7 +95,7 @@ public class CardServiceImpl implements CardService {
                 .build();
 
         // DB 저장
-        cardMapper.insertCard(cardVo);
+        cardMapper.insertCard(cardVo, AppConstants.ORDER_INDEX_GAP);
 
         // 생성된 카드 상세 정보 조회
         CardResponse response = cardMapper.findCardDetailById(cardVo.getId());
@@ -86,11 +110,45 @@ public class CardServiceImpl implements CardService {
         return response;
     }
 
+    // 카드 상세 조회 - 보드 요약 조회(BoardViewMode.SUMMARY) 후 카드를 열 때 호출
+    @Override
+    @Transactional(readOnly = true)
+    public CardResponse getCardDetail(Long cardId, Long userId) {
+        CardResponse card = cardMapper.findCardDetailById(cardId);
+        if (card == null) {
+            throw new BusinessException(ErrorCode.CARD_NOT_FOUND);
+        }
+
+        // [권한 검증] VIEWER 이상
+        memberVal.validateBoardViewer(card.getBoardId(), userId);
+
+        // 하위 데이터 (카드 단위 조회, 첨부파일은 다운로드 URL로 변환)
+        List<FileResponse> files = fileMapper.findFilesByCardId(cardId);
+        files.forEach(file -> file.setFilePath(s3FileStorageService.getDownLoadUrl(file.getFilePath(), file.getFileName())));
+
+        card.setChecklists(checklistMapper.findByCardId(cardId));
+        card.setComments(CommentResponse.toTree(commentMapper.selectCommentsByCardId(cardId)));
+        card.setFiles(files);
+        card.setFileCount(files.size());
+        return card;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<CardResponse> getCards(Long listId, Long userId) {
-        validateListAndPermission(listId, userId, true);
-        return cardMapper.findCardsWithDetailsByListId(listId);
+        Long boardId = validateListAndPermission(listId, userId, true);
+
+        // 같은 리스트/보드 버전을 동시에 조회하면 1번만 조회 (결과는 공유되므로 수정하지 않음)
+        String flightKey = listId + ":" + boardViewCache.version(boardId);
+        return cardListFlight.execute(flightKey, () -> cardMapper.findCardsWithDetailsByListId(listId));
+    }
+
+    // 카드 목록 조회 ETag (보드 버전/세대 번호 기반, 첨부파일은 URL 변환 없이 내려가므로 URL 구간 미포함)
+    @Override
+    @Transactional(readOnly = true)
+    public String getCardsETag(Long listId, Long userId) {
+        Long boardId = validateListAndPermission(listId, userId, true);
+        return boardViewCache.eTag(boardId, "cards-" + listId);
     }
 
     // 내 일정 조회(캘린더)
@@ -104,25 +162,20 @@ public class CardServiceImpl implements CardService {
     @Override
     @Transactional
     public void moveCard(Long cardId, MoveCardRequest req, Long userId) {
-        // 이동할 카드 조회
-        CardVo card = cardMapper.findById(cardId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CARD_NOT_FOUND));
-
-        // 권한 검증 & 보드 id 조회
-        Long boardId = validateListAndPermission(card.getListId(), userId, false);
-
-        BoardVo board = boardMapper.findBoardByBoardId(boardId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_NOT_FOUND));
+        // 이동할 카드 조회 & 권한 검증 & 보드 id 조회
+        CardContext context = cardContextResolver.requireEditor(cardId, userId);
+        CardVo card = context.getCard();
+        Long boardId = context.getBoardId();
 
         // 이동 전 리스트 정보 조회 (로그용)
         ListVo prevList = listMapper.findById(card.getListId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_NOT_FOUND));
 
-        UserVo actor = userMapper.findById(userId)
+        UserVo actor = userSummaryCache.find(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 순서 및 리스트 변경
-        cardOrderManager.moveCardOrder(card, req.getListId(), req.getOrderIndex());
+        cardOrderManager.moveCardOrder(card, boardId, req.getListId(), req.getOrderIndex());
 
         // 이동 후 리스트 정보 조회
         ListVo nextList = listMapper.findById(req.getListId())
@@ -133,51 +186,60 @@ public class CardServiceImpl implements CardService {
         data.put("cardId", card.getId());
         data.put("ListId", card.getListId());
         data.put("newIndex", req.getOrderIndex());
+        data.put("orderIndex", card.getOrderIndex());
 
         // 소켓 전송
         socketSender.sendSocketMessage(boardId, "CARD_MOVE", userId, data);
 
         // [이벤트] 카드 이동 알림 발행 (담당자가 있고, 본인이 담당자가 아닐 때 <- 내부에서 검증)
-        cardEventHelper.publishCardMoveEvent(actor, card, boardId, board.getTeamId(), prevList, nextList);
+        cardEventHelper.publishCardMoveEvent(actor, card, boardId, context.getTeamId(), prevList, nextList);
     }
 
     // 카드 수정
     @Override
     @Transactional
     public CardResponse updateCard(Long cardId, UpdateCardRequest req, Long userId) {
-        // 카드 조회
-        CardVo card = cardMapper.findById(cardId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CARD_NOT_FOUND));
-        // 권한 검증 & 보드 id 조회
-        Long boardId = validateListAndPermission(card.getListId(), userId, false);
-        BoardVo board = boardMapper.findBoardByBoardId(boardId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_NOT_FOUND));
-        UserVo actor = userMapper.findById(userId)
+        // 카드 조회 & 권한 검증 & 보드/팀 id 조회
+        CardContext context = cardContextResolver.requireEditor(cardId, userId);
+        CardVo card = context.getCard();
+        Long boardId = context.getBoardId();
+        UserVo actor = userSummaryCache.find(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        Long teamId = board.getTeamId();
+        Long teamId = context.getTeamId();
+
+        // 0. 버전 확인 (낙관적 잠금)
+        //    - 요청 버전(필수)이 조회한 카드 버전과 다르면 충돌 -> 409 + 현재 카드 상태
+        Integer version = req.getVersion();
+        if (!version.equals(card.getVersion())) {
+            throw cardConflict(cardId);
+        }
+
+        // 변경 내용은 메모리에서 계산 -> DB 반영 UPDATE 1번, 이벤트 발행 1번
+        CardVo before = card.toBuilder().build();
+        List<CardEvent> events = new ArrayList<>();
 
         // 1. 담당자 변경
-        handleAssigneeChange(card, req.getAssigneeId(), boardId, teamId, actor);
+        handleAssigneeChange(card, req.getAssigneeId(), boardId, teamId, actor, events);
 
         // 2. 주요 필드 변경
-        checkAndUpdate(actor, card, boardId, teamId,
+        checkAndUpdate(actor, card, boardId, teamId, events,
                 req.getPriority(), card.getPriority(), "중요도",
                 this::convertPriority, card::setPriority);
 
-        checkAndUpdate(actor, card, boardId, teamId,
+        checkAndUpdate(actor, card, boardId, teamId, events,
                 req.getIsComplete(), card.getIsComplete(), "진행 상태",
                 this::convertComplete, card::setIsComplete);
 
-        checkAndUpdate(actor, card, boardId, teamId,
+        checkAndUpdate(actor, card, boardId, teamId, events,
                 req.getDueDate(), card.getDueDate(), "마감일",
                 this::formatDate, card::setDueDate);
 
-        checkAndUpdate(actor, card, boardId, teamId,
+        checkAndUpdate(actor, card, boardId, teamId, events,
                 req.getIsArchived(), card.getIsArchived(), "카드 상태",
                 this::convertArchive, card::setIsArchived);
 
         if (req.getLabel() != null && !req.getLabel().equals(card.getLabel())) {
-            checkAndUpdate(actor, card, boardId, teamId,
+            checkAndUpdate(actor, card, boardId, teamId, events,
                     req.getLabel(), card.getLabel(), "라벨",
                     val -> val == null ? "없음" : val, card::setLabel);
         }
@@ -193,21 +255,28 @@ public class CardServiceImpl implements CardService {
         }
 
         // 3. 삭제 플래그 처리 (초기화)
-        handleRemovals(req, card, actor, boardId, teamId);
+        handleRemovals(req, card, actor, boardId, teamId, events);
+
+        // 4. 일반 필드(제목/설명) 업데이트 및 멘션 처리
+        boolean isGeneralUpdated = updateContentFields(card, req, actor, boardId, teamId, events);
 
-        // 4. 일반 필드(제목/설명/라벨) 업데이트 및 멘션 처리
-        boolean isGeneralUpdated = updateContentFields(card, req, actor, boardId, teamId);
+        // 일반 수정 이벤트 (상세 내용이 없는 경우)
+        if (isGeneralUpdated) {
+            events.add(cardEventHelper.createCardUpdateEvent(
+                    actor, card, boardId, teamId, null, null, null, null));
+        }
+
+        // 5. DB 반영 (바뀐 컬럼만 UPDATE 1번, 그 사이 다른 사용자가 수정했으면 충돌)
+        if (cardMapper.patchCard(CardPatch.of(before, card, version)) == 0) {
+            throw cardConflict(cardId);
+        }
 
-        // 5. DB 반영 및 소켓 전송
-        cardMapper.updateCard(card);
+        // 6. 소켓 전송
         CardResponse response = cardMapper.findCardDetailById(cardId);
         socketSender.sendSocketMessage(boardId, "CARD_UPDATE", userId, response);
 
-        // 6. 일반 수정 이벤트 (상세 내용이 없는 경우)
-        if (isGeneralUpdated) {
-            cardEventHelper.publishCardUpdateEvent(
-                    actor, card, boardId, teamId, null, null, null, null);
-        }
+        // 7. 변경 내용 묶음 이벤트 발행 (활동 로그/알림은 리스너에서 한 번에 저장)
+        cardEventHelper.publishCardChangeSetEvent(actor, card, boardId, teamId, events);
 
         return response;
     }
@@ -216,14 +285,11 @@ public class CardServiceImpl implements CardService {
     @Override
     @Transactional
     public void deleteCard(Long cardId, Long userId) {
-        // 데이터 조회
-        CardVo card = cardMapper.findById(cardId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CARD_NOT_FOUND));
-        // 권한 검증
-        Long boardId = validateListAndPermission(card.getListId(), userId, false);
-        BoardVo board = boardMapper.findBoardByBoardId(boardId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_NOT_FOUND));
-        UserVo actor = userMapper.findById(userId)
+        // 데이터 조회 & 권한 검증
+        CardContext context = cardContextResolver.requireEditor(cardId, userId);
+        CardVo card = context.getCard();
+        Long boardId = context.getBoardId();
+        UserVo actor = userSummaryCache.find(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 권한 확인 (보드 권한 설정에 따라)
@@ -246,13 +312,77 @@ public class CardServiceImpl implements CardService {
         socketSender.sendSocketMessage(boardId, "CARD_DELETE", userId, data);
 
         // [이벤트] 카드 삭제 이벤트 발행
-        cardEventHelper.publishCardDeleteEvent(actor, card, boardId, board.getTeamId());
+        cardEventHelper.publishCardDeleteEvent(actor, card, boardId, context.getTeamId());
+    }
+
+    /**
+     * 카드 일괄 처리 (이동/보관/담당자 지정/삭제)
+     * - 권한 검증, 보드/작업자 조회는 1번만 수행
+     * - 카드 변경은 id 목록 단위 UPDATE 1번 (카드마다 조회/수정하지 않음)
+     * - 소켓 메시지 1건(CARD_BULK), 이벤트는 CardBulkEvent 1건으로 묶어서 발행
+     * - 보드에 없는 카드가 섞여 있으면 전체 실패
+     */
+    @Override
+    @Transactional
+    public int bulkUpdateCards(BulkCardRequest req, Long userId) {
+        List<Long> cardIds = req.getCardIds() == null ? List.of()
+                : req.getCardIds().stream().filter(Objects::nonNull).distinct().toList();
+
+        if (req.getBoardId() == null || req.getOperation() == null
+                || cardIds.isEmpty() || cardIds.size() > MAX_BULK_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        Long boardId = req.getBoardId();
+
+        // 1. 권한 검증 (삭제는 보드 설정의 카드 삭제 권한도 확인)
+        memberVal.validateBoardEditor(boardId, userId);
+        if (req.getOperation() == BulkCardOperation.DELETE) {
+            memberVal.validateBoardSetting(boardId, userId, BoardSettingVo::getCardDeletePermission);
+        }
+
+        // 2. 대상 카드 조회 (보드 화면 순서)
+        List<CardVo> cards = cardMapper.findCardsInBoard(boardId, cardIds);
+        if (cards.size() != cardIds.size()) {
+            throw new BusinessException(ErrorCode.CARD_NOT_FOUND);
+        }
+        List<Long> orderedIds = cards.stream().map(CardVo::getId).toList();
+
+        BoardVo board = boardVal.getValidBoard(boardId);
+        UserVo actor = userSummaryCache.find(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+        // 3. 작업별 일괄 변경 + 이벤트 발행
+        Map<String, Object> data = new HashMap<>();
+        data.put("operation", req.getOperation());
+        data.put("cardIds", orderedIds);
+
+        switch (req.getOperation()) {
+            case MOVE -> bulkMove(cards, orderedIds, req.getListId(), boardId, board.getTeamId(), actor, data);
+            case ARCHIVE -> bulkArchive(cards, orderedIds, req.getIsArchived(), boardId, board.getTeamId(), actor, data);
+            case ASSIGN -> bulkAssign(cards, orderedIds, req.getAssigneeId(), boardId, board.getTeamId(), actor, data);
+            case DELETE -> bulkDelete(cards, orderedIds, boardId, board.getTeamId(), actor);
+        }
+
+        // 4. 소켓 전송 (1건)
+        socketSender.sendSocketMessage(boardId, "CARD_BULK", userId, data);
+
+        return cards.size();
     }
 
     /**
      * Helper Methods
      */
 
+    // 버전 충돌 - 현재 카드 상태를 담아 409 응답 (삭제되었으면 404)
+    // - 같은 트랜잭션에서 이미 카드를 읽었으므로 일반 조회는 이전 스냅샷을 반환 -> 잠금 조회로 최신 값 조회
+    private ConflictException cardConflict(Long cardId) {
+        CardResponse current = cardMapper.findLatestCardDetailById(cardId);
+        if (current == null) {
+            throw new BusinessException(ErrorCode.CARD_NOT_FOUND);
+        }
+        return new ConflictException(ErrorCode.CARD_VERSION_CONFLICT, current);
+    }
+
     // 리스트 id로 소속된 보드를 찾고, 사용자의 편집 권한(MEMBER 이상) 검증
     private Long validateListAndPermission(Long listId, Long userId, boolean readOnly) {
         // 리스트가 속한 보드 id 찾기
@@ -271,67 +401,66 @@ public class CardServiceImpl implements CardService {
     }
 
     // 변경 사항 감지 -> 로그 문자열 변환 -> 이벤트 발행 -> 값 설정
-    private <T> void checkAndUpdate(UserVo actor, CardVo card, Long boardId, Long teamId,
+    private <T> void checkAndUpdate(UserVo actor, CardVo card, Long boardId, Long teamId, List<CardEvent> events,
                                     T newValue, T oldValue, String fieldName,
                                     Function<T, String> converter, Consumer<T> setter) {
         if (newValue != null && !newValue.equals(oldValue)) {
             String oldStr = converter.apply(oldValue);
             String newStr = converter.apply(newValue);
 
-            // 상세 변경 이벤트 발행 (A -> B)
-            cardEventHelper.publishCardUpdateEvent(actor, card, boardId, teamId, null, fieldName, oldStr, newStr);
+            // 상세 변경 이벤트 (A -> B)
+            events.add(cardEventHelper.createCardUpdateEvent(actor, card, boardId, teamId, null, fieldName, oldStr, newStr));
             setter.accept(newValue);
         }
     }
 
-    // 담당자 변경 이벤트 발행
-    private void handleAssigneeChange(CardVo card, Long newAssigneeId, Long boardId, Long teamId, UserVo actor) {
+    // 담당자 변경 이벤트
+    private void handleAssigneeChange(CardVo card, Long newAssigneeId, Long boardId, Long teamId, UserVo actor,
+                                      List<CardEvent> events) {
         if (newAssigneeId != null && !newAssigneeId.equals(card.getAssigneeId())) {
             memberVal.validateBoardViewer(boardId, newAssigneeId); // 권한 체크
 
-            String nickname = userMapper.findById(newAssigneeId)
+            String nickname = userSummaryCache.find(newAssigneeId)
                     .map(UserVo::getNickname).orElse("알 수 없음"); // 닉네임 조회
 
             card.setAssigneeId(newAssigneeId);
-            cardMapper.updateCardAssignee(card.getId(), newAssigneeId);
 
-            // 담당자 변경 이벤트 발행
-            cardEventHelper.publishCardUpdateEvent(actor, card, boardId, teamId, nickname, null, null, null);
+            // 담당자 변경 이벤트
+            events.add(cardEventHelper.createCardUpdateEvent(actor, card, boardId, teamId, nickname, null, null, null));
         }
     }
 
     // 삭제 플래그 처리 (초기화)
-    private void handleRemovals(UpdateCardRequest req, CardVo card, UserVo actor, Long boardId, Long teamId) {
+    private void handleRemovals(UpdateCardRequest req, CardVo card, UserVo actor, Long boardId, Long teamId,
+                                List<CardEvent> events) {
         // 제거 요청이 있고, 기존 값이 존재할 때만 이벤트 발생 및 삭제
         if (Boolean.TRUE.equals(req.getRemovePriority()) && card.getPriority() != null) {
             String oldVal = convertPriority(card.getPriority());
-            cardEventHelper.publishCardUpdateEvent(actor, card, boardId, teamId, null, "중요도", oldVal, "없음");
+            events.add(cardEventHelper.createCardUpdateEvent(actor, card, boardId, teamId, null, "중요도", oldVal, "없음"));
             card.setPriority(null);
-            cardMapper.deleteCardPriority(card.getId());
         }
         if (Boolean.TRUE.equals(req.getRemoveDate()) && card.getDueDate() != null) {
             String oldVal = formatDate(card.getDueDate());
-            cardEventHelper.publishCardUpdateEvent(actor, card, boardId, teamId, null, "마감일", oldVal, "미지정");
+            events.add(cardEventHelper.createCardUpdateEvent(actor, card, boardId, teamId, null, "마감일", oldVal, "미지정"));
             card.setDueDate(null);
             card.setStartDate(null);
-            cardMapper.deleteCardDates(card.getId());
         }
         if (Boolean.TRUE.equals(req.getRemoveLabel()) && card.getLabel() != null) {
-            cardEventHelper.publishCardUpdateEvent(actor, card, boardId, teamId, null, "라벨", card.getLabel(), "삭제됨");
+            events.add(cardEventHelper.createCardUpdateEvent(actor, card, boardId, teamId, null, "라벨", card.getLabel(), "삭제됨"));
             card.setLabel(null);
             card.setLabelColor(null);
-            cardMapper.deleteCardLabel(card.getId());
         }
     }
 
-    private boolean updateContentFields(CardVo card, UpdateCardRequest req, UserVo actor, Long boardId, Long teamId) {
+    private boolean updateContentFields(CardVo card, UpdateCardRequest req, UserVo actor, Long boardId, Long teamId,
+                                        List<CardEvent> events) {
         boolean changed = false;
         if (req.getTitle() != null && !req.getTitle().equals(card.getTitle())) {
             card.setTitle(req.getTitle());
             changed = true;
         }
         if (req.getDescription() != null && !req.getDescription().equals(card.getDescription())) {
-            cardEventHelper.processDescriptionMentions(actor, card, boardId, teamId, req.getDescription());
+            events.addAll(cardEventHelper.createDescriptionMentionEvents(actor, card, boardId, teamId, req.getDescription()));
             card.setDescription(req.getDescription());
             changed = true;
         }
@@ -339,6 +468,90 @@ public class CardServiceImpl implements CardService {
         return changed;
     }
 
+    // [일괄] 대상 리스트 맨 뒤로 이동 (보드 화면 순서 유지)
+    // - 간격 기반 순서값이라 원래 리스트는 재정렬하지 않음, 대상 리스트는 순서값 범위가 부족할 때만 1번 재정렬
+    private void bulkMove(List<CardVo> cards, List<Long> cardIds, Long listId, Long boardId, Long teamId,
+                          UserVo actor, Map<String, Object> data) {
+        if (listId == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        ListVo target = listMapper.findById(listId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_NOT_FOUND));
+        if (!boardId.equals(target.getBoardId())) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        Integer startOrder = OrderIndexUtil.appendStart(cardMapper.findMaxOrderIndex(listId, null), cardIds.size());
+        if (startOrder == null) {
+            orderRebalancer.rebalanceCards(listId);
+            startOrder = OrderIndexUtil.appendStart(cardMapper.findMaxOrderIndex(listId, null), cardIds.size());
+            if (startOrder == null) {
+                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+            }
+        }
+        cardMapper.moveCardsToList(cardIds, listId, startOrder, AppConstants.ORDER_INDEX_GAP);
+        data.put("listId", listId);
+
+        // 이동 전 리스트 이름 (로그용)
+        Map<Long, String> listTitles = new HashMap<>();
+        listMapper.findByBoardId(boardId).forEach(list -> listTitles.put(list.getId(), list.getTitle()));
+
+        // 같은 리스트 안에서 맨 뒤로 옮긴 카드는 이동 이벤트 제외
+        cardEventHelper.publishCardBulkEvent(actor, cards, boardId, teamId, CardEvent.EventType.MOVED,
+                (card, event) -> listId.equals(card.getListId()) ? null
+                        : event.listId(listId)
+                        .listTitle(target.getTitle())
+                        .prevListTitle(listTitles.get(card.getListId())));
+    }
+
+    // [일괄] 보관/보관 해제
+    private void bulkArchive(List<CardVo> cards, List<Long> cardIds, Boolean isArchived, Long boardId, Long teamId,
+                             UserVo actor, Map<String, Object> data) {
+        if (isArchived == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        cardMapper.updateCardsArchiveStatus(cardIds, isArchived);
+        data.put("isArchived", isArchived);
+
+        // 상태가 바뀐 카드만 이벤트 발행
+        cardEventHelper.publishCardBulkEvent(actor, cards, boardId, teamId, CardEvent.EventType.UPDATED,
+                (card, event) -> isArchived.equals(Boolean.TRUE.equals(card.getIsArchived())) ? null
+                        : event.fieldName("카드 상태")
+                        .oldValue(convertArchive(card.getIsArchived()))
+                        .newValue(convertArchive(isArchived)));
+    }
+
+    // [일괄] 담당자 지정
+    private void bulkAssign(List<CardVo> cards, List<Long> cardIds, Long assigneeId, Long boardId, Long teamId,
+                            UserVo actor, Map<String, Object> data) {
+        if (assigneeId == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        memberVal.validateBoardViewer(boardId, assigneeId); // 권한 체크
+
+        String nickname = userSummaryCache.find(assigneeId)
+                .map(UserVo::getNickname).orElse("알 수 없음");
+
+        cardMapper.updateCardsAssignee(cardIds, assigneeId);
+        data.put("assigneeId", assigneeId);
+
+        // 담당자가 바뀐 카드만 이벤트 발행 (새 담당자에게 알림)
+        cardEventHelper.publishCardBulkEvent(actor, cards, boardId, teamId, CardEvent.EventType.ASSIGNED,
+                (card, event) -> assigneeId.equals(card.getAssigneeId()) ? null
+                        : event.assigneeId(assigneeId).assigneeNickname(nickname));
+    }
+
+    // [일괄] 삭제 (하위 데이터 포함)
+    private void bulkDelete(List<CardVo> cards, List<Long> cardIds, Long boardId, Long teamId, UserVo actor) {
+        checklistMapper.deleteAllChecklistsByCardIds(cardIds);
+        commentMapper.deleteAllCommentsByCardIds(cardIds);
+        fileMapper.deleteAllFilesByCardIds(cardIds);
+        cardMapper.deleteCards(cardIds);
+
+        cardEventHelper.publishCardBulkEvent(actor, cards, boardId, teamId, CardEvent.EventType.DELETED,
+                (card, event) -> event);
+    }
+
     // --- Converters ---
     private String convertPriority(Priority p) {
         return p == null ? "없음" : p.getLabel();
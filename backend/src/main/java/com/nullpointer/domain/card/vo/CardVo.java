@@ -11,7 +11,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString
-@Builder
+@Builder(toBuilder = true)
 public class CardVo {
 
     private Long id;
@@ -27,6 +27,12 @@ public class CardVo {
     private String label;
     private String labelColor;
     private Boolean isArchived;
+    // 낙관적 잠금 버전 (내용 수정 시 증가, 이동/카운터 갱신은 제외)
+    private Integer version;
+    // 카운터 (댓글/체크리스트 변경과 같은 트랜잭션에서 갱신)
+    private Integer commentCount;
+    private Integer checklistTotal;
+    private Integer checklistDone;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime deletedAt;
@@ -0,0 +1,22 @@
+package com.nullpointer.domain.card.vo.enums;
+
+import lombok.Getter;
+
+/**
+ * 카드 일괄 처리 작업
+ */
+@Getter
+public enum BulkCardOperation {
+
+    MOVE("이동"),         // listId 리스트 맨 뒤로 이동 (선택한 순서 유지)
+    ARCHIVE("보관"),      // isArchived 값으로 보관/보관 해제
+    ASSIGN("담당자 지정"), // assigneeId로 담당자 변경
+    DELETE("삭제");
+
+    private final String label;
+
+    BulkCardOperation(String label) {
+        this.label = label;
+    }
+
+}
@@ -8,6 +8,7 @@ import com.nullpointer.global.common.ApiResponse;
 import com.nullpointer.global.common.annotation.LoginUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -41,7 +42,7 @@ public class ChecklistController {
     @Operation(summary = "체크리스트 수정", description = "체크리스트 아이템의 내용이나 완료 상태를 수정합니다.")
     @PatchMapping("/checklists/{checklistId}")
     public ApiResponse<String> updateChecklist(@PathVariable Long checklistId,
-                                               @RequestBody UpdateChecklistRequest req,
+                                               @Valid @RequestBody UpdateChecklistRequest req,
                                                @LoginUser Long userId) {
         checklistService.updateChecklist(checklistId, req, userId);
         return ApiResponse.success("체크리스트 수정 성공");
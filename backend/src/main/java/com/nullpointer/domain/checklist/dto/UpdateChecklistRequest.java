@@ -1,6 +1,7 @@
 package com.nullpointer.domain.checklist.dto;
 
 import com.nullpointer.domain.checklist.vo.ChecklistVo;
+import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -10,11 +11,17 @@ public class UpdateChecklistRequest {
     private String title;
     private Boolean done;
 
-    public ChecklistVo toVo(Long checklistId) {
+    // 클라이언트가 마지막으로 본 체크리스트 버전 (필수, 없으면 400)
+    @NotNull(message = "체크리스트 버전은 필수 입력 값입니다.")
+    private Integer version;
+
+    // version: 수정 조건으로 사용할 버전
+    public ChecklistVo toVo(Long checklistId, Integer version) {
         return ChecklistVo.builder()
                 .id(checklistId)
                 .title(this.title)
                 .done(this.done)
+                .version(version)
                 .build();
     }
 }
\ No newline at end of file
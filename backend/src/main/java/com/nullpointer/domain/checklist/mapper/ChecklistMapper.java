@@ -1,6 +1,7 @@
 package com.nullpointer.domain.checklist.mapper;
 
 import com.nullpointer.domain.checklist.vo.ChecklistVo;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,8 +13,11 @@ public interface ChecklistMapper {
     // 조회 (특정 카드의 아이템 목록)
     List<ChecklistVo> findByCardId(Long cardId);
 
-    // 체크리스트 수정
-    void updateChecklist(ChecklistVo checklistVo);
+    // 보드 페이지 조회 - 보드 내 전체 체크리스트 조회
+    List<ChecklistVo> findChecklistsByBoardId(@Param("boardId") Long boardId);
+
+    // 체크리스트 수정 (버전 조건, 0건이면 충돌)
+    int updateChecklist(ChecklistVo checklistVo);
 
     // 체크리스트 삭제
     void deleteChecklist(Long checklistId);
@@ -21,6 +25,9 @@ public interface ChecklistMapper {
     // 카드 삭제 시 하위 데이터 일괄 삭제
     void deleteAllChecklistsByCardId(Long cardId);
 
+    // 카드 일괄 삭제 시 체크리스트 일괄 삭제
+    void deleteAllChecklistsByCardIds(@Param("cardIds") List<Long> cardIds);
+
     // 리스트 삭제 시 하위 데이터 일괄 삭제
     void deleteAllChecklistsByListId(Long listId);
 
@@ -32,4 +39,7 @@ public interface ChecklistMapper {
 
     // 카드ID 조회
     Optional<ChecklistVo> findById(Long checklistId);
+
+    // 체크리스트 최신 상태 조회 (잠금 조회, 버전 충돌 응답용)
+    Optional<ChecklistVo> findLatestById(Long checklistId);
 }
@@ -1,60 +1,62 @@
 package com.nullpointer.domain.checklist.service;
 
-import com.nullpointer.domain.board.mapper.BoardMapper;
-import com.nullpointer.domain.board.vo.BoardVo;
+import com.nullpointer.domain.card.dto.CardContext;
 import com.nullpointer.domain.card.event.CardEvent;
+import com.nullpointer.domain.card.helper.CardContextResolver;
 import com.nullpointer.domain.card.mapper.CardMapper;
 import com.nullpointer.domain.card.vo.CardVo;
 import com.nullpointer.domain.checklist.dto.CreateChecklistRequest;
 import com.nullpointer.domain.checklist.dto.UpdateChecklistRequest;
 import com.nullpointer.domain.checklist.mapper.ChecklistMapper;
 import com.nullpointer.domain.checklist.vo.ChecklistVo;
-import com.nullpointer.domain.user.mapper.UserMapper;
 import com.nullpointer.domain.user.vo.UserVo;
+import com.nullpointer.global.cache.UserSummaryCache;
 import com.nullpointer.global.common.SocketSender;
 import com.nullpointer.global.common.enums.ErrorCode;
 import com.nullpointer.global.exception.BusinessException;
-import com.nullpointer.global.validator.CardValidator;
-import com.nullpointer.global.validator.MemberValidator;
+import com.nullpointer.global.exception.ConflictException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class ChecklistServiceImpl implements ChecklistService {
 
     private final ChecklistMapper checklistMapper;
-    private final UserMapper userMapper;
+    private final UserSummaryCache userSummaryCache;
 
-    private final CardValidator cardVal;
-    private final MemberValidator memberVal;
+    private final CardContextResolver cardContextResolver;
     private final SocketSender socketSender;
     private final ApplicationEventPublisher publisher;
     private final CardMapper cardMapper;
-    private final BoardMapper boardMapper;
 
     @Override
     @Transactional
     public Long createChecklist(Long cardId, CreateChecklistRequest req, Long userId) {
-        // 카드 유효성 확인
-        cardVal.getValidCard(cardId);
-
-        // [권한 검증] MEMBER 이상
-        Long boardId = cardVal.findBoardIdByCardId(cardId);
-        memberVal.validateBoardEditor(boardId, userId);
+        // 카드 유효성 확인 & [권한 검증] MEMBER 이상
+        Long boardId = cardContextResolver.requireEditor(cardId, userId).getBoardId();
 
         // dto -> vo 변환
         ChecklistVo checklistVo = req.toVo(cardId);
 
-        // 체크리스트 추가
+        // 체크리스트 추가 + 카드 체크리스트 개수 갱신
         checklistMapper.insertChecklist(checklistVo);
-
-        // 소켓 전송
-        socketSender.sendSocketMessage(boardId, "CHECKLIST_CREATE", userId, null);
+        cardMapper.refreshChecklistCounts(cardId);
+
+        // 소켓 전송 (생성된 체크리스트 포함 -> 구독자는 다시 조회하지 않고 반영)
+        ChecklistVo created = ChecklistVo.builder()
+                .id(checklistVo.getId())
+                .cardId(cardId)
+                .title(checklistVo.getTitle())
+                .done(false)
+                .build();
+        socketSender.sendSocketMessage(boardId, "CHECKLIST_CREATE", userId, created);
 
         return checklistVo.getId();
     }
@@ -62,12 +64,8 @@ public class ChecklistServiceImpl implements ChecklistService {
     @Override
     @Transactional(readOnly = true)
     public List<ChecklistVo> getChecklists(Long cardId, Long userId) {
-        // 카드 존재 확인
-        cardVal.getValidCard(cardId);
-
-        // [권한 검증] VIEWER 이상
-        Long boardId = cardVal.findBoardIdByCardId(cardId);
-        memberVal.validateBoardViewer(boardId, userId);
+        // 카드 존재 확인 & [권한 검증] VIEWER 이상
+        cardContextResolver.requireViewer(cardId, userId);
 
         return checklistMapper.findByCardId(cardId);
     }
@@ -79,21 +77,36 @@ public class ChecklistServiceImpl implements ChecklistService {
         ChecklistVo checklist = checklistMapper.findById(checklistId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHECKLIST_NOT_FOUND));
 
-        // [권한 검증] MEMBER 이상
-        Long boardId = cardVal.findBoardIdByCardId(checklist.getCardId());
-        memberVal.validateBoardEditor(boardId, userId);
+        // [권한 검증] MEMBER 이상 (카드/보드 정보는 알림 데이터에도 사용)
+        CardContext context = cardContextResolver.requireEditor(checklist.getCardId(), userId);
+        Long boardId = context.getBoardId();
 
-        // 업데이트
+        // 업데이트 (버전이 다르면 충돌 -> 현재 체크리스트 상태 반환)
         Boolean oldDone = checklist.getDone();
-        ChecklistVo updateVo = req.toVo(checklistId);
-        checklistMapper.updateChecklist(updateVo);
+        Integer version = req.getVersion();
+        if (checklistMapper.updateChecklist(req.toVo(checklistId, version)) == 0) {
+            // 위에서 읽은 스냅샷이 아닌 최신 값 (잠금 조회)
+            ChecklistVo current = checklistMapper.findLatestById(checklistId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.CHECKLIST_NOT_FOUND));
+            throw new ConflictException(ErrorCode.CHECKLIST_VERSION_CONFLICT, current);
+        }
+        if (req.getDone() != null) {
+            cardMapper.refreshChecklistCounts(checklist.getCardId());
+        }
 
-        // 소켓 전송
-        socketSender.sendSocketMessage(boardId, "CHECKLIST_UPDATE", userId, null);
+        // 소켓 전송 (변경 후 체크리스트)
+        ChecklistVo updated = ChecklistVo.builder()
+                .id(checklistId)
+                .cardId(checklist.getCardId())
+                .title(req.getTitle() != null ? req.getTitle() : checklist.getTitle())
+                .done(req.getDone() != null ? req.getDone() : oldDone)
+                .version(version + 1)
+                .build();
+        socketSender.sendSocketMessage(boardId, "CHECKLIST_UPDATE", userId, updated);
 
         // [알림] 체크리스트 완료 상태 변경 알림
         if (req.getDone() != null && !req.getDone().equals(oldDone)) {
-            publishChecklistEvent(checklist.getCardId(), userId, checklist.getTitle(), req.getDone());
+            publishChecklistEvent(context, userId, checklist.getTitle(), req.getDone());
         }
     }
 
@@ -105,13 +118,16 @@ public class ChecklistServiceImpl implements ChecklistService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHECKLIST_NOT_FOUND));
 
         // [권한 검증] MEMBER 이상
-        Long boardId = cardVal.findBoardIdByCardId(checklist.getCardId());
-        memberVal.validateBoardEditor(boardId, userId);
+        Long boardId = cardContextResolver.requireEditor(checklist.getCardId(), userId).getBoardId();
 
         checklistMapper.deleteChecklist(checklistId);
+        cardMapper.refreshChecklistCounts(checklist.getCardId());
 
-        // 보드 ID 조회 및 소켓 전송
-        socketSender.sendSocketMessage(boardId, "CHECKLIST_CREATE", userId, null);
+        // 소켓 전송 (삭제된 체크리스트 id)
+        Map<String, Object> data = new HashMap<>();
+        data.put("id", checklistId);
+        data.put("cardId", checklist.getCardId());
+        socketSender.sendSocketMessage(boardId, "CHECKLIST_DELETE", userId, data);
     }
 
     /**
@@ -119,20 +135,16 @@ public class ChecklistServiceImpl implements ChecklistService {
      */
 
     // [이벤트] 체크리스트 이벤트 발행
-    private void publishChecklistEvent(Long cardId, Long actorId, String content, Boolean isDone) {
-        CardVo card = cardMapper.findById(cardId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CARD_NOT_FOUND));
-        UserVo actor = userMapper.findById(actorId)
+    private void publishChecklistEvent(CardContext context, Long actorId, String content, Boolean isDone) {
+        CardVo card = context.getCard();
+        UserVo actor = userSummaryCache.find(actorId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        Long boardId = cardVal.findBoardIdByCardId(cardId);
-        BoardVo board = boardMapper.findBoardByBoardId(boardId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_NOT_FOUND));
 
         CardEvent event = CardEvent.builder()
                 .cardId(card.getId())
                 .cardTitle(card.getTitle())
-                .boardId(boardId)
-                .teamId(board.getTeamId())
+                .boardId(context.getBoardId())
+                .teamId(context.getTeamId())
                 .listId(card.getListId())
                 .actorId(actor.getId())
                 .actorNickname(actor.getNickname())
@@ -13,6 +13,8 @@ public class ChecklistVo {
     private Long cardId;
     private String title;
     private Boolean done;
+    // 낙관적 잠금 버전
+    private Integer version;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime deletedAt;
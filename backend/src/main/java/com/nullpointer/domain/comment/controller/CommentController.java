@@ -5,8 +5,10 @@ import com.nullpointer.domain.comment.dto.CommentResponse;
 import com.nullpointer.domain.comment.service.CommentService;
 import com.nullpointer.global.common.ApiResponse;
 import com.nullpointer.global.common.annotation.LoginUser;
+import com.nullpointer.global.util.ETagUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -19,10 +21,24 @@ public class CommentController {
 
     @GetMapping
     public ApiResponse<List<CommentResponse>> getComments(@PathVariable Long cardId,
-                                                          @LoginUser Long userId) {
+                                                          @LoginUser Long userId,
+                                                          WebRequest webRequest) {
+        // If-None-Match가 현재 보드 버전과 같으면 조회 없이 304
+        if (ETagUtil.checkNotModified(webRequest, commentService.getCommentsETag(cardId, userId))) {
+            return null;
+        }
         return ApiResponse.success(commentService.getComments(cardId, userId));
     }
 
+    // 최상위 댓글 페이지 조회 (답글은 replyCount만, 펼칠 때 GET /api/comments/{commentId}/replies)
+    @GetMapping("/roots")
+    public ApiResponse<List<CommentResponse>> getRootComments(@PathVariable Long cardId,
+                                                              @LoginUser Long userId,
+                                                              @RequestParam(required = false) Long cursorId,
+                                                              @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.success(commentService.getRootComments(cardId, userId, cursorId, size));
+    }
+
     @PostMapping
     public ApiResponse<CommentResponse> createComment(
             @PathVariable Long cardId,
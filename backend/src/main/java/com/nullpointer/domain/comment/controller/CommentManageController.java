@@ -1,6 +1,7 @@
 package com.nullpointer.domain.comment.controller;
 
 import com.nullpointer.domain.comment.dto.CommentRequest;
+import com.nullpointer.domain.comment.dto.CommentResponse;
 import com.nullpointer.domain.comment.service.CommentService;
 import com.nullpointer.global.common.ApiResponse;
 import com.nullpointer.global.common.annotation.LoginUser;
@@ -8,6 +9,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(name = "Comment", description = "댓글 수정 및 삭제 API")
 @RestController
 @RequestMapping("/api/comments")
@@ -16,6 +19,17 @@ public class CommentManageController {
 
     private final CommentService commentService;
     
+    // 답글 페이지 조회 (답글 펼치기)
+    @GetMapping("/{commentId}/replies")
+    public ApiResponse<List<CommentResponse>> getReplies(
+            @PathVariable Long commentId,
+            @LoginUser Long userId,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ApiResponse.success(commentService.getReplies(commentId, userId, cursorId, size));
+    }
+
     // 댓글 수정
     @PatchMapping("/{commentId}")
     public ApiResponse<String> updateComment(
@@ -4,7 +4,9 @@ import lombok.*;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @Setter
@@ -28,6 +30,36 @@ public class CommentResponse {
     
     // 부모 ID 및 자식 댓글 리스트
     private Long parentId;
+    // 바로 아래 답글 수 (페이지 조회 시, replies는 비어 있고 펼칠 때 따로 조회)
+    private Integer replyCount;
     @Builder.Default
     private List<CommentResponse> replies = new ArrayList<>();
+
+    // Flat List -> 계층 구조 (최상위 댓글 목록 반환, 부모가 없는 답글은 제외)
+    public static List<CommentResponse> toTree(List<CommentResponse> allComments) {
+        List<CommentResponse> rootComments = new ArrayList<>();
+        Map<Long, CommentResponse> map = new HashMap<>();
+
+        // ID로 쉽게 찾기 위해 Map에 넣기
+        for (CommentResponse c : allComments) {
+            map.put(c.getId(), c);
+            c.setReplies(new ArrayList<>()); // 리스트 초기화
+        }
+
+        // 부모-자식 연결
+        for (CommentResponse c : allComments) {
+            if (c.getParentId() != null) {
+                // 부모가 있으면 부모의 replies에 추가
+                CommentResponse parent = map.get(c.getParentId());
+                if (parent != null) {
+                    parent.getReplies().add(c);
+                }
+            } else {
+                // 부모가 없으면 최상위(Root) 댓글
+                rootComments.add(c);
+            }
+        }
+
+        return rootComments;
+    }
 }
\ No newline at end of file
@@ -14,6 +14,20 @@ public interface CommentMapper {
     // 댓글 목록 조회
     List<CommentResponse> selectCommentsByCardId(Long cardId);
 
+    // 최상위 댓글 페이지 조회 (cursorId 이후, 답글 수 포함)
+    List<CommentResponse> findRootCommentsByCardIdCursor(@Param("cardId") Long cardId,
+                                                         @Param("cursorId") Long cursorId,
+                                                         @Param("limit") int limit);
+
+    // 답글 페이지 조회 (cursorId 이후, 답글 수 포함)
+    List<CommentResponse> findRepliesCursor(@Param("cardId") Long cardId,
+                                            @Param("parentId") Long parentId,
+                                            @Param("cursorId") Long cursorId,
+                                            @Param("limit") int limit);
+
+    // 보드 페이지 조회 - 보드 내 전체 댓글 조회
+    List<CommentResponse> findCommentsByBoardId(@Param("boardId") Long boardId);
+
     // 댓글 등록
     void insertComment(CommentRequest request);
 
@@ -21,11 +35,14 @@ public interface CommentMapper {
     void updateComment(@Param("commentId") Long commentId, @Param("content") String content);
 
     // 댓글 삭제 (Soft Delete)
-    void deleteComment(Long commentId);
+    int deleteComment(Long commentId);
 
     // 카드 삭제 시 하위 데이터 일괄 삭제
     void deleteAllCommentsByCardId(Long cardId);
 
+    // 카드 일괄 삭제 시 댓글 일괄 삭제
+    void deleteAllCommentsByCardIds(@Param("cardIds") List<Long> cardIds);
+
     // 리스트 삭제 시 하위 데이터 일괄 삭제
     void deleteAllCommentsByListId(Long listId);
 
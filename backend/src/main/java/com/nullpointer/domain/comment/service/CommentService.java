@@ -10,6 +10,15 @@ public interface CommentService {
     // 댓글 조회
     List<CommentResponse> getComments(Long cardId, Long userId);
 
+    // 최상위 댓글 페이지 조회 (답글 수 포함, 답글은 펼칠 때 조회)
+    List<CommentResponse> getRootComments(Long cardId, Long userId, Long cursorId, int size);
+
+    // 답글 페이지 조회
+    List<CommentResponse> getReplies(Long commentId, Long userId, Long cursorId, int size);
+
+    // 댓글 조회 ETag
+    String getCommentsETag(Long cardId, Long userId);
+
     // 댓글 생성
     CommentResponse createComment(Long cardId, Long userId, CommentRequest request);
 
@@ -1,23 +1,22 @@
 package com.nullpointer.domain.comment.service;
 
-import com.nullpointer.domain.board.mapper.BoardMapper;
-import com.nullpointer.domain.board.vo.BoardVo;
+import com.nullpointer.domain.card.dto.CardContext;
 import com.nullpointer.domain.card.event.CardEvent;
+import com.nullpointer.domain.card.helper.CardContextResolver;
 import com.nullpointer.domain.card.mapper.CardMapper;
 import com.nullpointer.domain.card.vo.CardVo;
 import com.nullpointer.domain.comment.dto.CommentRequest;
 import com.nullpointer.domain.comment.dto.CommentResponse;
 import com.nullpointer.domain.comment.mapper.CommentMapper;
 import com.nullpointer.domain.comment.vo.CommentVo;
-import com.nullpointer.domain.list.mapper.ListMapper;
-import com.nullpointer.domain.list.vo.ListVo;
-import com.nullpointer.domain.user.mapper.UserMapper;
 import com.nullpointer.domain.user.vo.UserVo;
+import com.nullpointer.global.cache.BoardViewCache;
+import com.nullpointer.global.cache.SingleFlight;
+import com.nullpointer.global.cache.UserSummaryCache;
 import com.nullpointer.global.common.SocketSender;
 import com.nullpointer.global.common.enums.ErrorCode;
 import com.nullpointer.global.exception.BusinessException;
 import com.nullpointer.global.util.MentionProcessor;
-import com.nullpointer.global.validator.MemberValidator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -29,87 +28,100 @@ import java.util.*;
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CommentMapper commentMapper;
     private final CardMapper cardMapper;
-    private final ListMapper listMapper;
-    private final UserMapper userMapper;
+    private final UserSummaryCache userSummaryCache;
 
     private final SocketSender socketSender;
-    private final MemberValidator memberVal;
+    private final CardContextResolver cardContextResolver;
 
     private final MentionProcessor mentionProcessor;
     private final ApplicationEventPublisher publisher; // 이벤트 발행기
-    private final BoardMapper boardMapper;
+    private final BoardViewCache boardViewCache;
+    private final SingleFlight<String, List<CommentResponse>> commentListFlight;
 
 
     // 목록 조회
     @Transactional(readOnly = true)
     public List<CommentResponse> getComments(Long cardId, Long userId) {
         // [권한 검증] VIEWER 이상
-        validateCardAndPermission(cardId, userId, true);
+        Long boardId = cardContextResolver.requireViewer(cardId, userId).getBoardId();
 
-        // 1. 전체 댓글 Flat List 조회
-        List<CommentResponse> allComments = commentMapper.selectCommentsByCardId(cardId);
+        // 같은 카드/보드 버전을 동시에 조회하면 1번만 조회 (결과는 공유되므로 수정하지 않음)
+        String flightKey = cardId + ":" + boardViewCache.version(boardId);
+        return commentListFlight.execute(flightKey, () -> loadCommentTree(cardId));
+    }
 
-        // 2. 계층 구조로 변환
-        List<CommentResponse> rootComments = new ArrayList<>();
-        Map<Long, CommentResponse> map = new HashMap<>();
+    // 최상위 댓글 페이지 조회 - 댓글이 많은 카드는 전체 트리 대신 페이지 단위로 조회
+    @Override
+    @Transactional(readOnly = true)
+    public List<CommentResponse> getRootComments(Long cardId, Long userId, Long cursorId, int size) {
+        // [권한 검증] VIEWER 이상
+        cardContextResolver.requireViewer(cardId, userId);
 
-        // ID로 쉽게 찾기 위해 Map에 넣기
-        for (CommentResponse c : allComments) {
-            map.put(c.getId(), c);
-            c.setReplies(new ArrayList<>()); // 리스트 초기화
-        }
+        return commentMapper.findRootCommentsByCardIdCursor(cardId, cursorId, pageSize(size));
+    }
 
-        // 부모-자식 연결
-        for (CommentResponse c : allComments) {
-            if (c.getParentId() != null) {
-                // 부모가 있으면 부모의 replies에 추가
-                CommentResponse parent = map.get(c.getParentId());
-                if (parent != null) {
-                    parent.getReplies().add(c);
-                }
-            } else {
-                // 부모가 없으면 최상위(Root) 댓글
-                rootComments.add(c);
-            }
-        }
+    // 답글 페이지 조회 - 답글 펼치기
+    @Override
+    @Transactional(readOnly = true)
+    public List<CommentResponse> getReplies(Long commentId, Long userId, Long cursorId, int size) {
+        CommentVo parent = commentMapper.findById(commentId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.COMMENT_NOT_FOUND));
+
+        // [권한 검증] VIEWER 이상
+        cardContextResolver.requireViewer(parent.getCardId(), userId);
 
-        return rootComments; // 구조화된 리스트 반환
+        return commentMapper.findRepliesCursor(parent.getCardId(), commentId, cursorId, pageSize(size));
+    }
+
+    // 댓글 조회 ETag (보드 버전/세대 번호 기반)
+    @Override
+    @Transactional(readOnly = true)
+    public String getCommentsETag(Long cardId, Long userId) {
+        Long boardId = cardContextResolver.requireViewer(cardId, userId).getBoardId();
+        return boardViewCache.eTag(boardId, "comments-" + cardId);
+    }
+
+    // 댓글 계층 구조 조회
+    private List<CommentResponse> loadCommentTree(Long cardId) {
+        // 전체 댓글 Flat List 조회 -> 계층 구조로 변환
+        return CommentResponse.toTree(commentMapper.selectCommentsByCardId(cardId));
     }
 
     // 등록
     @Transactional
     public CommentResponse createComment(Long cardId, Long userId, CommentRequest request) {
-        // [권한 검증] MEMBER 이상 & boardId 조회
-        Long boardId = validateCardAndPermission((cardId), userId, false);
-        BoardVo board = boardMapper.findBoardByBoardId(boardId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_NOT_FOUND));
+        // [권한 검증] MEMBER 이상 & 카드/보드 정보 조회 (알림 데이터에도 사용)
+        CardContext context = cardContextResolver.requireEditor(cardId, userId);
+        Long boardId = context.getBoardId();
 
         // 작성자 ID, 카드 ID 주입
         request.setWriterId(userId);
         request.setCardId(cardId);
 
-        // 저장 (request객체에 id가 담김)
+        // 저장 (request객체에 id가 담김) + 카드 댓글 수 증가
         commentMapper.insertComment(request);
+        cardMapper.increaseCommentCount(cardId, 1);
 
         // 알림 반환용 데이터 조회
         // 댓글 작성자 정보
-        UserVo actor = userMapper.findById(userId)
+        UserVo actor = userSummaryCache.find(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        // 카드 정보 (제목, 담당자, 보드 id)
-        CardVo card = cardMapper.findById(cardId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CARD_NOT_FOUND));
+        // 저장된 데이터를 Full 정보(작성자 포함)로 다시 조회
+        CommentResponse created = commentMapper.selectCommentById(request.getId());
 
-        // 소켓 전송
-        socketSender.sendSocketMessage(boardId, "CHECKLIST_CREATE", userId, null);
+        // 소켓 전송 (생성된 댓글 포함 -> 구독자는 다시 조회하지 않고 반영)
+        socketSender.sendSocketMessage(boardId, "COMMENT_CREATE", userId, created);
 
         // [알림] 멘션/댓글/답글 알림 처리
-        handleNotification(card, boardId, board.getTeamId(), actor, request);
+        handleNotification(context.getCard(), boardId, context.getTeamId(), actor, request);
 
-        // 저장된 데이터를 Full 정보(작성자 포함)로 다시 조회해서 리턴
-        return commentMapper.selectCommentById(request.getId());
+        return created;
     }
 
     // 수정
@@ -117,7 +129,7 @@ public class CommentServiceImpl implements CommentService {
     public void updateComment(Long userId, Long commentId, String content) {
         // 댓글 조회
         CommentVo commentVo = commentMapper.findById(commentId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CHECKLIST_NOT_FOUND));
+                .orElseThrow(() -> new BusinessException(ErrorCode.COMMENT_NOT_FOUND));
 
         // [권한 검증] 본인 확인
         if (!commentVo.getWriterId().equals(userId)) {
@@ -125,12 +137,16 @@ public class CommentServiceImpl implements CommentService {
         }
 
         // [권한 검증] MEMBER 이상 & boardId 조회
-        Long boardId = validateCardAndPermission(commentVo.getCardId(), userId, false);
+        Long boardId = cardContextResolver.requireEditor(commentVo.getCardId(), userId).getBoardId();
 
         commentMapper.updateComment(commentId, content);
 
-        // 소켓 전송
-        socketSender.sendSocketMessage(boardId, "COMMENT_UPDATE", userId, null);
+        // 소켓 전송 (변경된 내용만)
+        Map<String, Object> data = new HashMap<>();
+        data.put("id", commentId);
+        data.put("cardId", commentVo.getCardId());
+        data.put("content", content);
+        socketSender.sendSocketMessage(boardId, "COMMENT_UPDATE", userId, data);
     }
 
     // 삭제
@@ -138,7 +154,7 @@ public class CommentServiceImpl implements CommentService {
     public void deleteComment(Long userId, Long commentId) {
         // 댓글 조회
         CommentVo commentVo = commentMapper.findById(commentId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CHECKLIST_NOT_FOUND));
+                .orElseThrow(() -> new BusinessException(ErrorCode.COMMENT_NOT_FOUND));
 
         // [권한 검증] 본인 확인
         if (!commentVo.getWriterId().equals(userId)) {
@@ -146,35 +162,29 @@ public class CommentServiceImpl implements CommentService {
         }
 
         // [권한 검증] MEMBER 이상 & boardId 조회
-        Long boardId = validateCardAndPermission(commentVo.getCardId(), userId, false);
+        Long boardId = cardContextResolver.requireEditor(commentVo.getCardId(), userId).getBoardId();
 
-        commentMapper.deleteComment(commentId);
+        // 실제로 삭제된 경우에만 카드 댓글 수 감소
+        if (commentMapper.deleteComment(commentId) > 0) {
+            cardMapper.increaseCommentCount(commentVo.getCardId(), -1);
+        }
 
-        // 소켓 전송
-        socketSender.sendSocketMessage(boardId, "COMMENT_DELETE", userId, null);
+        // 소켓 전송 (삭제된 댓글 id)
+        Map<String, Object> data = new HashMap<>();
+        data.put("id", commentId);
+        data.put("cardId", commentVo.getCardId());
+        data.put("parentId", commentVo.getParentId());
+        socketSender.sendSocketMessage(boardId, "COMMENT_DELETE", userId, data);
     }
 
     /**
      * Helper Methods
      */
 
-    // 카드 -> 리스트 -> 보드 순으로 id를 찾고 권한 검증
-    private Long validateCardAndPermission(Long cardId, Long userId, boolean readOnly) {
-        CardVo card = cardMapper.findById(cardId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CARD_NOT_FOUND));
-
-        ListVo list = listMapper.findById(card.getListId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_NOT_FOUND));
-
-        Long boardId = list.getBoardId();
-
-        if (readOnly) {
-            memberVal.validateBoardViewer(boardId, userId); // 조회 시 VIEWER 이상
-        } else {
-            memberVal.validateBoardEditor(boardId, userId); // 쓰기 시 MEMBER 이상
-        }
-
-        return boardId;
+    // 페이지 크기 (기본 20, 최대 100)
+    private static int pageSize(int size) {
+        if (size <= 0) return DEFAULT_PAGE_SIZE;
+        return Math.min(size, MAX_PAGE_SIZE);
     }
 
     // 알림 처리 (멘션 + 댓글)
@@ -13,6 +13,7 @@ import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
 import java.util.Map;
 
 @Tag(name = "File", description = "파일 업로드 API")
@@ -40,6 +41,12 @@ public class FileController {
         return ApiResponse.success(response);
     }
 
+    @Operation(summary = "카드 첨부파일 조회", description = "카드의 첨부파일 목록과 다운로드 URL을 조회합니다.")
+    @GetMapping("/card/{cardId}")
+    public ApiResponse<List<FileResponse>> getCardFiles(@PathVariable Long cardId, @LoginUser Long userId) {
+        return ApiResponse.success(fileService.getCardFiles(cardId, userId));
+    }
+
     @Operation(summary = "첨부파일 삭제", description = "첨부된 파일을 삭제합니다.")
     @DeleteMapping("/{fileId}")
     public ApiResponse<String> deleteFile(@PathVariable Long fileId, @LoginUser Long userId) {
@@ -1,6 +1,10 @@
 package com.nullpointer.domain.file.mapper;
 
+import com.nullpointer.domain.file.dto.FileResponse;
 import com.nullpointer.domain.file.vo.FileVo;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
 
 public interface FileMapper {
 
@@ -10,12 +14,21 @@ public interface FileMapper {
     // 파일 조회
     FileVo findById(Long fileId);
 
+    // 보드 페이지 조회 - 보드 내 전체 첨부파일 조회
+    List<FileResponse> findFilesByBoardId(@Param("boardId") Long boardId);
+
+    // 카드 첨부파일 조회 (카드 열 때 다운로드 URL 발급용)
+    List<FileResponse> findFilesByCardId(@Param("cardId") Long cardId);
+
     // 파일 삭제
     void deleteById(Long fileId);
 
     // 카드 삭제 시 하위 데이터 일괄 삭제
     void deleteAllFilesByCardId(Long cardId);
 
+    // 카드 일괄 삭제 시 첨부파일 일괄 삭제
+    void deleteAllFilesByCardIds(@Param("cardIds") List<Long> cardIds);
+
     // 리스트 삭제 시 하위 데이터 일괄 삭제
     void deleteAllFilesByListId(Long listId);
 
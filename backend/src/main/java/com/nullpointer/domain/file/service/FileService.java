@@ -3,11 +3,16 @@ package com.nullpointer.domain.file.service;
 import com.nullpointer.domain.file.dto.FileResponse;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 public interface FileService {
 
     // 카드 첨부파일 업로드
     FileResponse uploadFile(Long cardId, MultipartFile file, Long userId);
 
+    // 카드 첨부파일 조회 (다운로드 URL 포함)
+    List<FileResponse> getCardFiles(Long cardId, Long userId);
+
     // 파일 삭제
     void deleteFile(Long fileId, Long userId);
 }
@@ -1,60 +1,51 @@
 package com.nullpointer.domain.file.service.impl;
 
-import com.nullpointer.domain.board.mapper.BoardMapper;
-import com.nullpointer.domain.board.vo.BoardVo;
+import com.nullpointer.domain.card.dto.CardContext;
+import com.nullpointer.domain.card.helper.CardContextResolver;
 import com.nullpointer.domain.card.helper.CardEventHelper;
-import com.nullpointer.domain.card.mapper.CardMapper;
-import com.nullpointer.domain.card.vo.CardVo;
 import com.nullpointer.domain.file.dto.FileResponse;
 import com.nullpointer.domain.file.mapper.FileMapper;
 import com.nullpointer.domain.file.service.FileService;
 import com.nullpointer.domain.file.service.S3FileStorageService;
 import com.nullpointer.domain.file.vo.FileVo;
 import com.nullpointer.domain.file.vo.enums.FileType;
-import com.nullpointer.domain.list.mapper.ListMapper;
-import com.nullpointer.domain.list.vo.ListVo;
-import com.nullpointer.domain.user.mapper.UserMapper;
 import com.nullpointer.domain.user.vo.UserVo;
+import com.nullpointer.global.cache.UserSummaryCache;
 import com.nullpointer.global.common.SocketSender;
 import com.nullpointer.global.common.enums.ErrorCode;
 import com.nullpointer.global.exception.BusinessException;
-import com.nullpointer.global.validator.MemberValidator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class FileServiceImpl implements FileService {
 
     private final FileMapper fileMapper;
-    private final CardMapper cardMapper;
-    private final ListMapper listMapper;
-    private final UserMapper userMapper;
-    private final MemberValidator memberValidator;
+    private final UserSummaryCache userSummaryCache;
+    private final CardContextResolver cardContextResolver;
     private final S3FileStorageService fileStorageService;
     private final SocketSender socketSender;
     private final CardEventHelper cardEventHelper;
-    private final BoardMapper boardMapper;
 
     @Override
     @Transactional
     public FileResponse uploadFile(Long cardId, MultipartFile file, Long userId) {
-        // 1. 카드 존재 여부 확인
-        CardVo card = cardMapper.findById(cardId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CARD_NOT_FOUND));
-        UserVo actor = userMapper.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        // 2. 권한 검증
-        Long boardId = validateCardAndPermission(cardId, userId);
+        // 1. 카드 존재 여부 확인 & 권한 검증 (보드 편집 권한, MEMBER 이상)
+        CardContext context = cardContextResolver.requireEditor(cardId, userId);
+        Long boardId = context.getBoardId();
+        Long teamId = context.getTeamId();
 
-        BoardVo board = boardMapper.findBoardByBoardId(boardId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_NOT_FOUND));
-        Long teamId = board.getTeamId();
+        // 2. 업로더 정보 (알림용)
+        UserVo actor = userSummaryCache.find(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 3. S3에 파일 저장
         String filePath = fileStorageService.storeFile(file, userId, FileType.ATTACHMENT);
@@ -71,16 +62,30 @@ public class FileServiceImpl implements FileService {
 
         fileMapper.insertFile(fileVo);
 
-        cardEventHelper.publishFileAttachment(actor, card, boardId, teamId, fileVo.getFileName());
+        cardEventHelper.publishFileAttachment(actor, context.getCard(), boardId, teamId, fileVo.getFileName());
 
         // 5. 응답 반환
         // 파일 다운로드 URL 생성
         String downloadUrl = fileStorageService.getDownLoadUrl(filePath, file.getOriginalFilename());
 
-        // 소켓 전송
-        socketSender.sendSocketMessage(boardId, "FILE_UPDATE", userId, null);
+        FileResponse response = FileResponse.of(fileVo, downloadUrl);
+
+        // 소켓 전송 (업로드된 파일 포함, filePath는 다운로드 URL)
+        socketSender.sendSocketMessage(boardId, "FILE_CREATE", userId, response);
 
-        return FileResponse.of(fileVo, downloadUrl);
+        return response;
+    }
+
+    // 카드 첨부파일 조회 - 보드 페이지에서 URL을 생략한 경우(app.file.lazy-presign) 카드를 열 때 호출
+    @Override
+    @Transactional(readOnly = true)
+    public List<FileResponse> getCardFiles(Long cardId, Long userId) {
+        // 보드 조회 권한 검증
+        cardContextResolver.requireViewer(cardId, userId);
+
+        List<FileResponse> files = fileMapper.findFilesByCardId(cardId);
+        files.forEach(file -> file.setFilePath(fileStorageService.getDownLoadUrl(file.getFilePath(), file.getFileName())));
+        return files;
     }
 
     @Override
@@ -91,34 +96,16 @@ public class FileServiceImpl implements FileService {
             throw new BusinessException(ErrorCode.FILE_NOT_FOUND);
         }
 
-        // 권한 검증
-        Long boardId = validateCardAndPermission(fileVo.getCardId(), userId);
+        // 권한 검증 (보드 편집 권한, MEMBER 이상)
+        Long boardId = cardContextResolver.requireEditor(fileVo.getCardId(), userId).getBoardId();
 
         // DB 삭제
         fileMapper.deleteById(fileId);
 
-        // 소켓 전송
-        socketSender.sendSocketMessage(boardId, "FILE_DELETE", userId, null);
-    }
-
-
-    /**
-     * Helper Methods
-     */
-
-    // 카드 -> 리스트 -> 보드 순으로 id를 찾고 권한 검증
-    private Long validateCardAndPermission(Long cardId, Long userId) {
-        CardVo card = cardMapper.findById(cardId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CARD_NOT_FOUND));
-
-        ListVo list = listMapper.findById(card.getListId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_NOT_FOUND));
-
-        Long boardId = list.getBoardId();
-
-        // 보드 편집 권한(MEMBER 이상) 검증
-        memberValidator.validateBoardEditor(boardId, userId);
-
-        return boardId;
+        // 소켓 전송 (삭제된 파일 id)
+        Map<String, Object> data = new HashMap<>();
+        data.put("id", fileId);
+        data.put("cardId", fileVo.getCardId());
+        socketSender.sendSocketMessage(boardId, "FILE_DELETE", userId, data);
     }
-}
\ No newline at end of file
+}
@@ -25,7 +25,10 @@ import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Service
@@ -33,6 +36,18 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class S3FileStorageServiceImpl implements S3FileStorageService {
 
+    // 다운로드 URL 유효기간
+    private static final Duration PRESIGN_DURATION = Duration.ofHours(1);
+
+    // 남은 유효기간이 이보다 짧으면 새로 발급 (보드 스냅샷 캐시 TTL 10분 + 여유)
+    private static final Duration REUSE_MARGIN = Duration.ofMinutes(20);
+
+    // 다운로드 URL 캐시 최대 개수 (초과 시 만료 임박 항목 정리, 그래도 많으면 전체 비움)
+    private static final int MAX_PRESIGNED_URLS = 10_000;
+
+    // 다운로드 URL 캐시 ("{filePath}\n{fileName}" -> URL)
+    private final Map<String, PresignedUrl> presignedUrls = new ConcurrentHashMap<>();
+
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
 
@@ -100,8 +115,47 @@ public class S3FileStorageServiceImpl implements S3FileStorageService {
     }
 
     // 다운로드 URL 생성
+    // refactor) 같은 파일(filePath, fileName)은 만료 임박 전까지 발급된 URL 재사용
+    // - 보드 페이지 조회마다 모든 첨부파일 서명을 다시 계산하지 않음
+    // - 같은 URL이 유지되어 브라우저 이미지 캐시도 그대로 사용
     @Override
     public String getDownLoadUrl(String filePath, String fileName) {
+        String cacheKey = filePath + "\n" + fileName;
+        Instant reuseUntil = Instant.now().plus(REUSE_MARGIN);
+
+        PresignedUrl cached = presignedUrls.get(cacheKey);
+        if (cached != null && cached.expiresAt().isAfter(reuseUntil)) {
+            return cached.url();
+        }
+
+        PresignedUrl issued = presign(filePath, fileName);
+        if (presignedUrls.size() >= MAX_PRESIGNED_URLS) {
+            presignedUrls.values().removeIf(url -> !url.expiresAt().isAfter(reuseUntil));
+            if (presignedUrls.size() >= MAX_PRESIGNED_URLS) {
+                presignedUrls.clear();
+            }
+        }
+        presignedUrls.put(cacheKey, issued);
+        return issued.url();
+    }
+
+
+    /**
+     * Helper 메소드
+     */
+
+    // 확장자 검증 메서드
+    private void validateFileExtension(String filename, FileType fileType) {
+        String extension = getExtension(filename).toLowerCase();
+
+        if (!StringUtils.hasText(extension) || !fileType.getAllowedExtensions().contains(extension)) {
+            log.warn("허용되지 않는 파일 확장자 업로드 시도: {} (Type: {})", filename, fileType);
+            throw new BusinessException(ErrorCode.INVALID_FILE_EXTENSION);
+        }
+    }
+
+    // 다운로드 URL 발급 (S3 Presigned URL)
+    private PresignedUrl presign(String filePath, String fileName) {
         try {
             // 1. 인코딩
             String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8)
@@ -116,13 +170,13 @@ public class S3FileStorageServiceImpl implements S3FileStorageService {
 
             // 3. Presign 요청 생성 (유효기간 설정)
             GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                    .signatureDuration(Duration.ofHours(1)) // 1시간
+                    .signatureDuration(PRESIGN_DURATION) // 1시간
                     .getObjectRequest(getObjectRequest)
                     .build();
 
             // 4. URL 발급
             PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(presignRequest);
-            return presignedRequest.url().toString();
+            return new PresignedUrl(presignedRequest.url().toString(), presignedRequest.expiration());
 
         } catch (Exception e) {
             log.error("파일 다운로드 URL 생성 실패", e);
@@ -130,21 +184,6 @@ public class S3FileStorageServiceImpl implements S3FileStorageService {
         }
     }
 
-
-    /**
-     * Helper 메소드
-     */
-
-    // 확장자 검증 메서드
-    private void validateFileExtension(String filename, FileType fileType) {
-        String extension = getExtension(filename).toLowerCase();
-
-        if (!StringUtils.hasText(extension) || !fileType.getAllowedExtensions().contains(extension)) {
-            log.warn("허용되지 않는 파일 확장자 업로드 시도: {} (Type: {})", filename, fileType);
-            throw new BusinessException(ErrorCode.INVALID_FILE_EXTENSION);
-        }
-    }
-
     // 확장자 추출
     private String getExtension(String filename) {
         if (StringUtils.hasText(filename) && filename.contains(".")) {
@@ -153,5 +192,7 @@ public class S3FileStorageServiceImpl implements S3FileStorageService {
         return "";
     }
 
-
+    // 발급된 다운로드 URL과 만료 시각
+    private record PresignedUrl(String url, Instant expiresAt) {
+    }
 }
@@ -12,12 +12,14 @@ import com.nullpointer.domain.member.mapper.TeamMemberMapper;
 import com.nullpointer.domain.member.service.TeamMemberService;
 import com.nullpointer.domain.member.vo.BoardMemberVo;
 import com.nullpointer.domain.member.vo.enums.Role;
-import com.nullpointer.domain.notification.dto.NotificationDto;
+import com.nullpointer.domain.notification.helper.NotificationStore;
 import com.nullpointer.domain.notification.vo.enums.NotificationType;
 import com.nullpointer.domain.team.mapper.TeamMapper;
 import com.nullpointer.domain.team.vo.TeamVo;
 import com.nullpointer.domain.user.mapper.UserMapper;
 import com.nullpointer.domain.user.vo.UserVo;
+import com.nullpointer.global.cache.BoardAccessCache;
+import com.nullpointer.global.cache.UserSummaryCache;
 import com.nullpointer.global.common.SocketSender;
 import com.nullpointer.global.common.enums.ErrorCode;
 import com.nullpointer.global.common.enums.RedisKeyType;
@@ -41,12 +43,15 @@ public class InvitationServiceImpl implements InvitationService {
     private final TeamMemberService teamMemberService;
     private final TeamMapper teamMapper;
     private final UserMapper userMapper;
+    private final UserSummaryCache userSummaryCache;
     private final RedisUtil redisUtil;
     private final MemberValidator memberValidator;
     private final TeamMemberMapper teamMemberMapper;
     private final BoardMemberMapper boardMemberMapper;
     private final ApplicationEventPublisher publisher;
     private final SocketSender socketSender;
+    private final BoardAccessCache boardAccessCache;
+    private final NotificationStore notificationStore;
 
     @Value("${app.domain.frontend.url}")
     private String frontendUrl;
@@ -302,6 +307,9 @@ public class InvitationServiceImpl implements InvitationService {
         int updated = boardMemberMapper.restoreMember(boardId, userId, Role.VIEWER);
 
         if (updated > 0) {
+            // 권한 캐시 무효화 (커밋 후)
+            boardAccessCache.evictMember(boardId, userId);
+
             // 복구 성공 시 소켓 알림만 보내고 종료
             BoardMemberVo restoredMember = boardMemberMapper.findMember(boardId, userId);
             socketSender.sendSocketMessage(boardId, "MEMBER_JOIN", userId, restoredMember);
@@ -322,6 +330,9 @@ public class InvitationServiceImpl implements InvitationService {
 
         boardMemberMapper.insertBoardMember(member);
 
+        // 권한 캐시 무효화 (커밋 후)
+        boardAccessCache.evictMember(boardId, userId);
+
         // 소켓 전송
         socketSender.sendSocketMessage(boardId, "MEMBER_JOIN", userId, member);
 
@@ -352,7 +363,7 @@ public class InvitationServiceImpl implements InvitationService {
     // [이벤트] 초대 응답 이벤트 발행
     private void publishResponseEvent(InvitationVo invitation, UserVo inviter, NotificationType type) {
         // 수락/거절한 사람 (현재 로그인한 사람)
-        UserVo actor = userMapper.findById(invitation.getInviteeId())
+        UserVo actor = userSummaryCache.find(invitation.getInviteeId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         InvitationEvent event = InvitationEvent.builder()
@@ -373,71 +384,18 @@ public class InvitationServiceImpl implements InvitationService {
      * 초대 수락 시 해당 알림을 읽음 처리
      */
     private void markNotificationAsRead(Long userId, String token) {
-        String key = RedisKeyType.NOTIFICATION.getKey(String.valueOf(userId));
-
-        // 1. RedisUtil을 통해 List<NotificationDto> 조회
-        List<NotificationDto> notifications = redisUtil.getList(key, NotificationDto.class);
-
-        if (notifications == null || notifications.isEmpty()) return;
-
-        // 2. 리스트를 순회하며 조건에 맞는 알림 찾기
-        for (int i = 0; i < notifications.size(); i++) {
-            NotificationDto noti = notifications.get(i);
-
-            // 타입이 팀 초대이고, 토큰이 일치하며, 아직 읽지 않은 경우
-            if (NotificationType.TEAM_INVITE.equals(noti.getType()) &&
-                    token.equals(noti.getToken()) &&
-                    !Boolean.TRUE.equals(noti.getIsRead())) {
-
-                // 읽음 상태로 변경한 객체 생성 (Builder 사용)
-                NotificationDto updatedNoti = noti.toBuilder()
-                        .isRead(true)
-                        .build();
-
-                // 3. RedisUtil을 사용하여 해당 인덱스의 데이터 업데이트
-                redisUtil.updateListIndex(key, i, updatedNoti);
-                break; // 처리 완료 후 루프 종료
-            }
-        }
+        notificationStore.markAsReadByToken(userId, NotificationType.TEAM_INVITE, token);
     }
 
     /**
      * 초대 취소 시 알림 문구 변경
      */
     private void cancelNotification(InvitationVo invitation) {
-        Long receiverId = invitation.getInviteeId();
-        String token = invitation.getToken();
-
-        // 해당 유저의 알림 목록 Redis Key
-        String key = RedisKeyType.NOTIFICATION.getKey(String.valueOf(receiverId));
-
-        // 1. Redis에서 알림 목록 조회
-        List<NotificationDto> notifications = redisUtil.getList(key, NotificationDto.class);
-
-        if (notifications == null || notifications.isEmpty()) return;
-
-        // 2. 해당 초대(Token)와 연결된 알림 찾기
-        for (int i = 0; i < notifications.size(); i++) {
-            NotificationDto noti = notifications.get(i);
-
-            // 타입이 'TEAM_INVITE'이고 토큰이 일치하는 경우
-            if (NotificationType.TEAM_INVITE.equals(noti.getType()) &&
-                    token.equals(noti.getToken())) {
-
-                // 3. 내용 수정 (Builder 패턴 사용)
-                NotificationDto updatedNoti = noti.toBuilder()
+        notificationStore.updateByToken(invitation.getInviteeId(), NotificationType.TEAM_INVITE, invitation.getToken(),
+                noti -> noti.toBuilder()
                         .message("'" + invitation.getTeamName() + "' 팀 초대가 만료되거나 취소되었습니다.")
                         .type(NotificationType.INVITE_CANCELED) // 타입 변경 (취소됨)
                         .token(null) // 클릭해서 들어가지 못하게 토큰(링크) 제거
-                        .build();
-
-                // 4. Redis 리스트의 해당 인덱스 업데이트
-                redisUtil.updateListIndex(key, i, updatedNoti);
-
-                // 소켓으로 실시간 알림 목록 갱신 요청
-                // socketSender.sendSocketMessage(receiverId, "NOTIFICATION_UPDATE", null);
-                break;
-            }
-        }
+                        .build());
     }
 }
\ No newline at end of file
@@ -6,10 +6,12 @@ import com.nullpointer.domain.list.dto.UpdateListOrderRequest;
 import com.nullpointer.domain.list.service.ListService;
 import com.nullpointer.global.common.ApiResponse;
 import com.nullpointer.global.common.annotation.LoginUser;
+import com.nullpointer.global.util.ETagUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -44,8 +46,13 @@ public class ListController {
     @GetMapping
     public ApiResponse<List<ListResponse>> getLists(
             @PathVariable("boardId") Long boardId,
-            @LoginUser Long userId
+            @LoginUser Long userId,
+            WebRequest webRequest
     ) {
+        // If-None-Match가 현재 보드 버전과 같으면 조회 없이 304
+        if (ETagUtil.checkNotModified(webRequest, listService.getListsETag(boardId, userId))) {
+            return null;
+        }
         return ApiResponse.success(listService.getLists(boardId, userId));
     }
 
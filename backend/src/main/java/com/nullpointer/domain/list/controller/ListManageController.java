@@ -6,6 +6,7 @@ import com.nullpointer.global.common.ApiResponse;
 import com.nullpointer.global.common.annotation.LoginUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -30,7 +31,7 @@ public class ListManageController {
     @PutMapping("/{listId}")
     public ApiResponse<String> updateList(
             @PathVariable("listId") Long listId,
-            @RequestBody UpdateListRequest request,
+            @Valid @RequestBody UpdateListRequest request,
             @LoginUser Long userId
     ) {
         listService.updateList(listId, request, userId);
@@ -43,8 +44,9 @@ public class ListManageController {
     public ApiResponse<String> updateListArchiveStatus(
             @PathVariable Long listId,
             @RequestParam boolean isArchived,
+            @RequestParam Integer version,
             @LoginUser Long userId) {
-        listService.updateArchiveStatus(listId, isArchived, userId);
+        listService.updateArchiveStatus(listId, isArchived, version, userId);
         return ApiResponse.success("리스트 아카이브 상태 변경");
     }
 
@@ -18,6 +18,7 @@ public class ListWithCardsResponse {
     private String title;
     private Integer orderIndex;
     private Boolean isArchived;
+    private Integer version;
 
     // 해당 리스트에 속한 카드 목록
     private List<CardResponse> cards;
@@ -28,6 +29,7 @@ public class ListWithCardsResponse {
                 .title(list.getTitle())
                 .orderIndex(list.getOrderIndex())
                 .isArchived(list.getIsArchived())
+                .version(list.getVersion())
                 .cards(cards)
                 .build();
     }
@@ -1,5 +1,6 @@
 package com.nullpointer.domain.list.dto;
 
+import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -7,6 +8,7 @@ import lombok.Setter;
  * 리스트 정보 수정 요청 DTO
  * - title : 새 리스트 제목
  * - role  : 이 요청을 하는 사용자의 역할 (OWNER 또는 MEMBER 만 허용)
+ * - version : 클라이언트가 마지막으로 본 리스트 버전 (필수, 없으면 400)
  */
 @Setter
 @Getter
@@ -14,6 +16,8 @@ public class UpdateListRequest {
 
     private String title;
     private String role;
+    @NotNull(message = "리스트 버전은 필수 입력 값입니다.")
+    private Integer version;
 
     public UpdateListRequest(String title, String role) {
         this.title = title;
@@ -0,0 +1,125 @@
+package com.nullpointer.domain.list.helper;
+
+import com.nullpointer.domain.list.mapper.ListMapper;
+import com.nullpointer.domain.list.vo.ListVo;
+import com.nullpointer.global.common.OrderRebalancer;
+import com.nullpointer.global.common.constants.AppConstants;
+import com.nullpointer.global.util.OrderIndexUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * 리스트 순서 관리
+ * refactor) 전체 리스트 순서 일괄 UPDATE -> 1개 리스트 이동이면 해당 행만 수정
+ */
+@Component
+@RequiredArgsConstructor
+public class ListOrderManager {
+
+    private final ListMapper listMapper;
+    private final OrderRebalancer orderRebalancer;
+
+    // 새 리스트 순서값 (맨 뒤)
+    public Integer nextOrderIndex(Long boardId) {
+        Integer order = OrderIndexUtil.after(listMapper.findMaxOrderIndex(boardId, null));
+        if (order == null) {
+            orderRebalancer.rebalanceLists(boardId);
+            order = OrderIndexUtil.after(listMapper.findMaxOrderIndex(boardId, null));
+        }
+        return order;
+    }
+
+    /**
+     * 요청받은 리스트 순서 적용
+     * - 현재 순서와 비교해 1개만 이동했으면 moveList (1개 행 수정)
+     * - 여러 개가 바뀌었거나 목록이 다르면 요청 순서대로 간격을 두고 일괄 수정
+     */
+    public void applyOrder(Long boardId, List<Long> requestedIds) {
+        List<Long> currentIds = listMapper.findByBoardId(boardId).stream().map(ListVo::getId).toList();
+        if (currentIds.equals(requestedIds)) {
+            return;
+        }
+
+        Long movedId = findSingleMovedId(currentIds, requestedIds);
+        if (movedId != null) {
+            moveList(boardId, movedId, requestedIds.indexOf(movedId));
+            return;
+        }
+
+        List<ListVo> updateList = new ArrayList<>(requestedIds.size());
+        for (int i = 0; i < requestedIds.size(); i++) {
+            updateList.add(ListVo.builder()
+                    .id(requestedIds.get(i))
+                    .boardId(boardId)
+                    .orderIndex(i * AppConstants.ORDER_INDEX_GAP)
+                    .build());
+        }
+        listMapper.updateListOrdersBulk(updateList);
+    }
+
+    // 리스트 1개 이동 (position: 0부터 시작)
+    public void moveList(Long boardId, Long listId, int position) {
+        Integer[] neighbors = findNeighbors(boardId, listId, position);
+        Integer newOrder = OrderIndexUtil.between(neighbors[0], neighbors[1]);
+
+        if (newOrder == null) {
+            // 간격 소진 -> 보드 내 리스트 재정렬 후 다시 계산 (기존 9999 고정값도 여기서 변환)
+            orderRebalancer.rebalanceLists(boardId);
+            neighbors = findNeighbors(boardId, listId, position);
+            newOrder = OrderIndexUtil.between(neighbors[0], neighbors[1]);
+        } else if (OrderIndexUtil.isCrowded(neighbors[0], newOrder, neighbors[1])) {
+            orderRebalancer.requestListRebalance(boardId);
+        }
+
+        listMapper.updateListOrder(listId, newOrder);
+    }
+
+    // 이동 위치의 [앞, 뒤] 리스트 순서값 (없으면 null)
+    private Integer[] findNeighbors(Long boardId, Long listId, int position) {
+        if (position <= 0) {
+            List<Integer> next = listMapper.findNeighborOrderIndexes(boardId, listId, 0, 1);
+            return new Integer[]{null, next.isEmpty() ? null : next.get(0)};
+        }
+
+        List<Integer> rows = listMapper.findNeighborOrderIndexes(boardId, listId, position - 1, 2);
+        if (rows.isEmpty()) {
+            return new Integer[]{listMapper.findMaxOrderIndex(boardId, listId), null};
+        }
+        return new Integer[]{rows.get(0), rows.size() > 1 ? rows.get(1) : null};
+    }
+
+    /**
+     * 두 순서에서 1개 항목만 자리를 옮긴 경우 그 항목 id 반환 (아니면 null)
+     * - 처음/마지막으로 달라지는 위치 [i, j] 사이에서 앞->뒤 또는 뒤->앞 이동인지 확인
+     */
+    private Long findSingleMovedId(List<Long> current, List<Long> requested) {
+        if (current.size() != requested.size() || !new HashSet<>(current).equals(new HashSet<>(requested))) {
+            return null;
+        }
+
+        int i = 0;
+        while (current.get(i).equals(requested.get(i))) {
+            i++;
+        }
+        int j = current.size() - 1;
+        while (current.get(j).equals(requested.get(j))) {
+            j--;
+        }
+
+        // 아래로 이동: current[i]가 j 위치로
+        if (current.get(i).equals(requested.get(j))
+                && current.subList(i + 1, j + 1).equals(requested.subList(i, j))) {
+            return current.get(i);
+        }
+        // 위로 이동: current[j]가 i 위치로
+        if (current.get(j).equals(requested.get(i))
+                && current.subList(i, j).equals(requested.subList(i + 1, j + 1))) {
+            return current.get(j);
+        }
+        return null;
+    }
+}
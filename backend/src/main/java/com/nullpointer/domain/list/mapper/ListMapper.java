@@ -19,17 +19,36 @@ public interface ListMapper {
     // 리스트 1개에 담긴 정보 조회
     Optional<ListVo> findById(Long listId);
 
+    // 리스트 최신 상태 조회 (잠금 조회, 버전 충돌 응답용)
+    Optional<ListVo> findLatestById(Long listId);
+
     // 특정 보드의 리스트 목록 조회
     List<ListVo> findByBoardId(@Param("boardId") Long boardId);
 
     // 리스트 순서 일괄 업데이트 (Bulk Update)
     void updateListOrdersBulk(List<ListVo> list);
 
-    // 리스트 정보(title) 수정
-    void updateListInfo(ListVo listVo);
+    // 리스트 1개 순서값 수정
+    void updateListOrder(@Param("listId") Long listId, @Param("orderIndex") Integer orderIndex);
+
+    // 이동 위치 앞뒤 리스트 순서값 조회 (이동하는 리스트 제외)
+    List<Integer> findNeighborOrderIndexes(@Param("boardId") Long boardId,
+                                           @Param("excludeId") Long excludeId,
+                                           @Param("offset") int offset,
+                                           @Param("limit") int limit);
+
+    // 보드 내 마지막 리스트 순서값 조회 (이동하는 리스트 제외)
+    Integer findMaxOrderIndex(@Param("boardId") Long boardId, @Param("excludeId") Long excludeId);
+
+    // 보드 내 리스트 순서값 재정렬 (0, gap, 2*gap ...)
+    int rebalanceOrderIndexes(@Param("boardId") Long boardId, @Param("gap") int gap);
+
+    // 리스트 정보(title) 수정 (버전 조건, 0건이면 충돌)
+    int updateListInfo(ListVo listVo);
 
-    // 리스트 아카이브 토글
-    void updateListArchiveStatus(@Param("listId") Long listId, @Param("isArchived") boolean isArchived);
+    // 리스트 아카이브 토글 (버전 조건, 0건이면 충돌)
+    int updateListArchiveStatus(@Param("listId") Long listId, @Param("isArchived") boolean isArchived,
+                                @Param("version") Integer version);
 
     // 리스트 soft delete (deleted_at 업데이트)
     void softDeleteList(@Param("listId") Long listId);
@@ -18,6 +18,9 @@ public interface ListService {
     // 리스트 목록 조회
     List<ListResponse> getLists(Long boardId, Long userId);
 
+    // 리스트 목록 조회 ETag
+    String getListsETag(Long boardId, Long userId);
+
     // 여러 리스트 순서 변경
     void updateListOrders(Long boardId, List<UpdateListOrderRequest> request, Long userId);
 
@@ -28,5 +31,5 @@ public interface ListService {
     void deleteList(Long listId, Long userId);
 
     // 리스트 아카이브 상태 변경
-    void updateArchiveStatus(Long listId, boolean isArchived, Long userId);
+    void updateArchiveStatus(Long listId, boolean isArchived, Integer version, Long userId);
 }
@@ -11,15 +11,17 @@ import com.nullpointer.domain.list.dto.CreateListRequest;
 import com.nullpointer.domain.list.dto.ListResponse;
 import com.nullpointer.domain.list.dto.UpdateListOrderRequest;
 import com.nullpointer.domain.list.dto.UpdateListRequest;
+import com.nullpointer.domain.list.helper.ListOrderManager;
 import com.nullpointer.domain.list.mapper.ListMapper;
 import com.nullpointer.domain.list.vo.ListVo;
 import com.nullpointer.domain.member.mapper.BoardMemberMapper;
-import com.nullpointer.domain.user.mapper.UserMapper;
 import com.nullpointer.domain.user.vo.UserVo;
+import com.nullpointer.global.cache.BoardViewCache;
+import com.nullpointer.global.cache.UserSummaryCache;
 import com.nullpointer.global.common.SocketSender;
-import com.nullpointer.global.common.constants.AppConstants;
 import com.nullpointer.global.common.enums.ErrorCode;
 import com.nullpointer.global.exception.BusinessException;
+import com.nullpointer.global.exception.ConflictException;
 import com.nullpointer.global.validator.BoardValidator;
 import com.nullpointer.global.validator.MemberValidator;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +30,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,16 +43,18 @@ import java.util.Map;
 public class ListServiceImpl implements ListService {
 
     private final ListMapper listMapper;
+    private final ListOrderManager listOrderManager;
     private final MemberValidator memberVal;
     private final SocketSender socketSender;
     private final ApplicationEventPublisher publisher;
-    private final UserMapper userMapper;
+    private final UserSummaryCache userSummaryCache;
     private final BoardValidator boardVal;
     private final BoardMemberMapper boardMemberMapper;
     private final ChecklistMapper checklistMapper;
     private final CommentMapper commentMapper;
     private final FileMapper fileMapper;
     private final CardMapper cardMapper;
+    private final BoardViewCache boardViewCache;
 
     /**
      * 리스트 권한
@@ -61,7 +66,7 @@ public class ListServiceImpl implements ListService {
     @Transactional
     public ListResponse createList(Long boardId, CreateListRequest request, Long userId) {
         // 사용자 조회
-        UserVo actor = userMapper.findById(userId)
+        UserVo actor = userSummaryCache.find(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         BoardVo board = boardVal.getValidBoard(boardId);
@@ -73,7 +78,7 @@ public class ListServiceImpl implements ListService {
         ListVo listVo = new ListVo();
         listVo.setBoardId(boardId);
         listVo.setTitle(request.getTitle());
-        listVo.setOrderIndex(AppConstants.DEFAULT_ORDER_INDEX); // refactor) 하드코딩 대신 상수 클래스 사용
+        listVo.setOrderIndex(listOrderManager.nextOrderIndex(boardId)); // refactor) 고정값(9999) 대신 맨 뒤 순서값 계산
 
         listMapper.insertList(listVo);
 
@@ -111,11 +116,18 @@ public class ListServiceImpl implements ListService {
         return responseList;
     }
 
+    // 리스트 목록 조회 ETag (보드 버전/세대 번호 기반)
+    @Override
+    public String getListsETag(Long boardId, Long userId) {
+        memberVal.validateBoardViewer(boardId, userId);
+        return boardViewCache.eTag(boardId, "lists-" + boardId);
+    }
+
     @Override
     @Transactional
     public void updateListOrders(Long boardId, List<UpdateListOrderRequest> request, Long userId) {
         // 사용자 조회
-        UserVo actor = userMapper.findById(userId)
+        UserVo actor = userSummaryCache.find(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         BoardVo board = boardVal.getValidBoard(boardId);
@@ -123,12 +135,15 @@ public class ListServiceImpl implements ListService {
         // 권한 확인 (보드 권한 설정에 따라)
         memberVal.validateBoardSetting(boardId, userId, BoardSettingVo::getListEditPermission);
 
-        // 요청한 데이터를 변환
-        List<ListVo> updateList = request.stream().map(item -> ListVo.builder().id(item.getListId()).boardId(boardId).orderIndex(item.getOrderIndex()).build()).toList();
+        // 요청한 순서(orderIndex 오름차순)대로 리스트 id 정렬
+        List<Long> requestedIds = request.stream()
+                .sorted(Comparator.comparing(UpdateListOrderRequest::getOrderIndex, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(UpdateListOrderRequest::getListId)
+                .toList();
 
-        // 빈 리스트가 아닐 경우에만 업데이트 수행
-        if (!updateList.isEmpty()) {
-            listMapper.updateListOrdersBulk(updateList);
+        // 빈 리스트가 아닐 경우에만 업데이트 수행 (1개만 이동했으면 해당 행만 수정)
+        if (!requestedIds.isEmpty()) {
+            listOrderManager.applyOrder(boardId, requestedIds);
         }
 
         // [이벤트] 리스트 순서 수정 이벤트 발행
@@ -142,7 +157,7 @@ public class ListServiceImpl implements ListService {
     @Transactional
     public void updateList(Long listId, UpdateListRequest request, Long userId) {
         // 사용자 조회
-        UserVo actor = userMapper.findById(userId)
+        UserVo actor = userSummaryCache.find(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 리스트 존재 확인 & 보드 id 조회
@@ -153,8 +168,10 @@ public class ListServiceImpl implements ListService {
         // 권한 확인 (보드 권한 설정에 따라)
         memberVal.validateBoardSetting(list.getBoardId(), userId, BoardSettingVo::getListEditPermission);
 
-        // 업데이트
-        listMapper.updateListInfo(ListVo.builder().id(listId).title(request.getTitle()).build());
+        // 업데이트 (버전이 다르면 충돌 -> 현재 리스트 상태 반환)
+        if (listMapper.updateListInfo(ListVo.builder().id(listId).title(request.getTitle()).version(request.getVersion()).build()) == 0) {
+            throw listConflict(listId);
+        }
 
         List<Long> memberIds = boardMemberMapper.findAllMemberIdsByBoardId(board.getId());
 
@@ -166,6 +183,7 @@ public class ListServiceImpl implements ListService {
         Map<String, Object> data = new HashMap<>();
         data.put("id", listId);
         data.put("title", request.getTitle());
+        data.put("version", updatedList.getVersion());
 
         // [이벤트] 리스트 수정 이벤트 발행
         publishListEvent(actor, board, memberIds, BoardEvent.EventType.UPDATE_LIST, updatedList, null);
@@ -176,9 +194,9 @@ public class ListServiceImpl implements ListService {
 
     @Override
     @Transactional
-    public void updateArchiveStatus(Long listId, boolean isArchived, Long userId) {
+    public void updateArchiveStatus(Long listId, boolean isArchived, Integer version, Long userId) {
         // 사용자 조회
-        UserVo actor = userMapper.findById(userId)
+        UserVo actor = userSummaryCache.find(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 리스트 존재 확인 & 보드 id 조회
@@ -189,8 +207,10 @@ public class ListServiceImpl implements ListService {
         // 권한 확인 (보드 권한 설정에 따라)
         memberVal.validateBoardSetting(list.getBoardId(), userId, BoardSettingVo::getListEditPermission);
 
-        // 업데이트
-        listMapper.updateListArchiveStatus(listId, isArchived);
+        // 업데이트 (버전이 다르면 충돌 -> 현재 리스트 상태 반환)
+        if (listMapper.updateListArchiveStatus(listId, isArchived, version) == 0) {
+            throw listConflict(listId);
+        }
 
         List<Long> memberIds = boardMemberMapper.findAllMemberIdsByBoardId(board.getId());
 
@@ -202,6 +222,7 @@ public class ListServiceImpl implements ListService {
         Map<String, Object> data = new HashMap<>();
         data.put("id", listId);
         data.put("isArchived", isArchived);
+        data.put("version", updatedList.getVersion());
 
         // [이벤트] 리스트 보관 이벤트 발행
         publishListEvent(actor, board, memberIds, BoardEvent.EventType.UPDATE_LIST, updatedList, isArchived);
@@ -214,7 +235,7 @@ public class ListServiceImpl implements ListService {
     @Transactional
     public void deleteList(Long listId, Long userId) {
         // 사용자 조회
-        UserVo actor = userMapper.findById(userId)
+        UserVo actor = userSummaryCache.find(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 리스트 존재 확인 & 보드 id 조회
@@ -253,6 +274,14 @@ public class ListServiceImpl implements ListService {
      * Helper Methods
      */
 
+    // 버전 충돌 - 현재 리스트 상태를 담아 409 응답 (삭제되었으면 404)
+    // - 같은 트랜잭션에서 이미 리스트를 읽었으므로 일반 조회는 이전 스냅샷을 반환 -> 잠금 조회로 최신 값 조회
+    private ConflictException listConflict(Long listId) {
+        ListVo current = listMapper.findLatestById(listId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_NOT_FOUND));
+        return new ConflictException(ErrorCode.LIST_VERSION_CONFLICT, current);
+    }
+
     // [이벤트] 리스트 이벤트 발행
     private void publishListEvent(UserVo actor, BoardVo board, List<Long> memberIds, BoardEvent.EventType type, ListVo list, Boolean isArchived) {
         BoardEvent event = BoardEvent.builder()
@@ -18,6 +18,8 @@ public class ListVo {
     // 정렬용 컬럼 (DB: order_index)
     private Integer orderIndex;
     private Boolean isArchived;
+    // 낙관적 잠금 버전 (제목/보관 상태 수정 시 증가)
+    private Integer version;
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -18,6 +18,7 @@ import com.nullpointer.domain.member.vo.enums.Role;
 import com.nullpointer.domain.notification.vo.enums.NotificationType;
 import com.nullpointer.domain.user.mapper.UserMapper;
 import com.nullpointer.domain.user.vo.UserVo;
+import com.nullpointer.global.cache.UserSummaryCache;
 import com.nullpointer.global.common.SocketSender;
 import com.nullpointer.global.common.enums.ErrorCode;
 import com.nullpointer.global.exception.BusinessException;
@@ -40,6 +41,7 @@ public class BoardMemberServiceImpl implements BoardMemberService {
     private final BoardMemberMapper boardMemberMapper;
     private final BoardMapper boardMapper;
     private final UserMapper userMapper;
+    private final UserSummaryCache userSummaryCache;
     private final TeamMemberMapper teamMemberMapper;
     private final MemberValidator memberVal;
     private final SocketSender socketSender;
@@ -186,7 +188,7 @@ public class BoardMemberServiceImpl implements BoardMemberService {
         BoardVo board = boardMapper.findBoardByBoardId(boardId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_NOT_FOUND));
 
-        UserVo actor = userMapper.findById(userId)
+        UserVo actor = userSummaryCache.find(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 1. 멤버 존재 확인
@@ -14,6 +14,7 @@ import com.nullpointer.domain.team.mapper.TeamMapper;
 import com.nullpointer.domain.team.vo.TeamVo;
 import com.nullpointer.domain.user.mapper.UserMapper;
 import com.nullpointer.domain.user.vo.UserVo;
+import com.nullpointer.global.cache.UserSummaryCache;
 import com.nullpointer.global.common.SocketSender;
 import com.nullpointer.global.common.enums.ErrorCode;
 import com.nullpointer.global.exception.BusinessException;
@@ -32,6 +33,7 @@ public class TeamMemberServiceImpl implements TeamMemberService {
     private final TeamMapper teamMapper;
     private final TeamMemberMapper teamMemberMapper;
     private final UserMapper userMapper;
+    private final UserSummaryCache userSummaryCache;
     private final MemberValidator memberVal;
     private final SocketSender socketSender;
     private final ApplicationEventPublisher publisher;
@@ -132,7 +134,7 @@ public class TeamMemberServiceImpl implements TeamMemberService {
         TeamVo team = teamMapper.findTeamByTeamId(teamId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
 
-        UserVo actor = userMapper.findById(userId)
+        UserVo actor = userSummaryCache.find(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 1. 대상 멤버 존재 확인
@@ -0,0 +1,348 @@
+package com.nullpointer.domain.notification.helper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nullpointer.domain.notification.dto.NotificationDto;
+import com.nullpointer.domain.notification.vo.enums.NotificationType;
+import com.nullpointer.global.common.enums.RedisKeyType;
+import com.nullpointer.global.util.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 사용자별 알림 저장소 (Redis)
+ * - index (Sorted Set): 알림 id, score = 생성 시각 -> 최신순 조회, 기간 만료는 score 범위 삭제
+ * - data (Hash): 알림 id -> JSON (읽음 여부는 저장하지 않음)
+ * - unread (Set): 안 읽은 알림 id -> 읽음 처리 SREM O(1), 안 읽은 개수 SCARD O(1)
+ * - 저장/만료는 Lua 스크립트로 3개 키를 한 번에 변경
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationStore {
+
+    // 사용자당 최대 보관 개수 (초과 시 오래된 알림부터 삭제)
+    private static final int MAX_SIZE = 110;
+    private static final int MAX_ID_RETRY = 5;
+
+    // 이전 List 구조 키 (np:notification:{userId})
+    private static final Pattern LEGACY_KEY = Pattern.compile("^np:notification:(\\d+)$");
+
+    // KEYS: index, data, unread / ARGV: id, score, json, maxSize, ttl(ms), unread(1|0)
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HSETNX', KEYS[2], ARGV[1], ARGV[3]) == 0 then return 0 end
+            redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            if ARGV[6] == '1' then redis.call('SADD', KEYS[3], ARGV[1]) end
+            local over = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[4])
+            if over > 0 then
+              local old = redis.call('ZRANGE', KEYS[1], 0, over - 1)
+              redis.call('ZREMRANGEBYRANK', KEYS[1], 0, over - 1)
+              redis.call('HDEL', KEYS[2], unpack(old))
+              redis.call('SREM', KEYS[3], unpack(old))
+            end
+            for i = 1, 3 do redis.call('PEXPIRE', KEYS[i], ARGV[5]) end
+            return 1
+            """, Long.class);
+
+    // KEYS: index, data, unread / ARGV: maxScore
+    private static final RedisScript<Long> EXPIRE_SCRIPT = new DefaultRedisScript<>("""
+            local old = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1])
+            if #old == 0 then return 0 end
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1])
+            redis.call('HDEL', KEYS[2], unpack(old))
+            redis.call('SREM', KEYS[3], unpack(old))
+            return #old
+            """, Long.class);
+
+    private final RedisUtil redisUtil;
+    private final ObjectMapper objectMapper;
+
+    // ========================================================
+    //  1. 저장
+    // ========================================================
+
+    /**
+     * 알림 저장 (안 읽은 상태)
+     * - id가 겹치면(같은 ms에 생성) 1씩 올려 재시도
+     * - 저장된 알림(확정된 id) 반환, 실패 시 null
+     */
+    public NotificationDto save(NotificationDto noti) {
+        return save(noti, true);
+    }
+
+    /**
+     * 여러 수신자 알림 일괄 저장 (파이프라인, Redis 왕복 1회)
+     * - 결과는 입력 순서대로, 저장 실패한 항목은 null
+     * - id 중복/파이프라인 실패 시 해당 항목만 개별 저장으로 재시도
+     */
+    public List<NotificationDto> saveAll(List<NotificationDto> notis) {
+        NotificationDto[] prepared = new NotificationDto[notis.size()];
+        List<Integer> positions = new ArrayList<>(notis.size());
+        List<List<String>> keys = new ArrayList<>(notis.size());
+        List<List<String>> args = new ArrayList<>(notis.size());
+
+        for (int i = 0; i < notis.size(); i++) {
+            NotificationDto noti = notis.get(i);
+            NotificationDto stored = prepare(noti, noti.getId() != null ? noti.getId() : System.currentTimeMillis());
+            String json = write(stored);
+            if (json == null) continue;
+
+            prepared[i] = stored;
+            positions.add(i);
+            keys.add(keys(noti.getReceiverId()));
+            args.add(saveArgs(stored, json, true));
+        }
+
+        List<Object> results;
+        try {
+            results = positions.isEmpty() ? List.of() : redisUtil.executeScriptPipelined(SAVE_SCRIPT, keys, args);
+        } catch (RuntimeException e) {
+            log.warn("알림 일괄 저장 실패, 개별 저장으로 재시도 ({}건): {}", positions.size(), e.getMessage());
+            results = List.of();
+        }
+
+        NotificationDto[] result = new NotificationDto[notis.size()];
+        for (int p = 0; p < positions.size(); p++) {
+            int i = positions.get(p);
+            if (p < results.size() && Long.valueOf(1L).equals(results.get(p))) {
+                result[i] = prepared[i].toBuilder().isRead(false).build();
+                continue;
+            }
+            try {
+                result[i] = save(notis.get(i), true);
+            } catch (RuntimeException e) {
+                log.warn("알림 저장 실패 (receiverId: {}): {}", notis.get(i).getReceiverId(), e.getMessage());
+            }
+        }
+        return Arrays.asList(result);
+    }
+
+    // ========================================================
+    //  2. 조회
+    // ========================================================
+
+    // 최신순 알림 목록 (읽음 여부 포함)
+    public List<NotificationDto> getNotifications(Long userId) {
+        migrateLegacy(userId);
+
+        List<String> ids = redisUtil.getSortedSetDesc(RedisKeyType.NOTIFICATION_INDEX.getKey(userId));
+        if (ids.isEmpty()) return List.of();
+
+        List<String> payloads = redisUtil.getHashFields(RedisKeyType.NOTIFICATION_DATA.getKey(userId), ids);
+        Set<String> unread = redisUtil.getSetMembers(RedisKeyType.NOTIFICATION_UNREAD.getKey(userId));
+
+        List<NotificationDto> result = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            NotificationDto noti = read(payloads.get(i));
+            if (noti == null) continue;
+            result.add(noti.toBuilder()
+                    .isRead(unread == null || !unread.contains(ids.get(i)))
+                    .build());
+        }
+        return result;
+    }
+
+    // 안 읽은 알림 개수 (역직렬화 없음)
+    public long getUnreadCount(Long userId) {
+        return redisUtil.getSetSize(RedisKeyType.NOTIFICATION_UNREAD.getKey(userId));
+    }
+
+    // ========================================================
+    //  3. 읽음 처리
+    // ========================================================
+
+    // 개별 읽음 처리 (알림이 없으면 false)
+    public boolean markAsRead(Long userId, Long notificationId) {
+        String id = String.valueOf(notificationId);
+        if (redisUtil.removeSetMember(RedisKeyType.NOTIFICATION_UNREAD.getKey(userId), id)) {
+            return true;
+        }
+        // 이미 읽은 알림인지, 없는 알림인지 구분
+        return redisUtil.hasSortedSetMember(RedisKeyType.NOTIFICATION_INDEX.getKey(userId), id);
+    }
+
+    // 전체 읽음 처리
+    public void markAllAsRead(Long userId) {
+        redisUtil.deleteData(RedisKeyType.NOTIFICATION_UNREAD.getKey(userId));
+    }
+
+    // ========================================================
+    //  4. 초대 알림 (토큰으로 검색, 초대 수락/취소 시에만 사용)
+    // ========================================================
+
+    // 초대 수락 시 해당 알림 읽음 처리
+    public void markAsReadByToken(Long userId, NotificationType type, String token) {
+        NotificationDto noti = findByToken(userId, type, token);
+        if (noti != null) {
+            redisUtil.removeSetMember(RedisKeyType.NOTIFICATION_UNREAD.getKey(userId), String.valueOf(noti.getId()));
+        }
+    }
+
+    // 초대 취소 시 알림 내용 변경
+    public void updateByToken(Long userId, NotificationType type, String token, UnaryOperator<NotificationDto> updater) {
+        NotificationDto noti = findByToken(userId, type, token);
+        if (noti == null) return;
+
+        String json = write(updater.apply(noti));
+        if (json != null) {
+            redisUtil.putHashField(RedisKeyType.NOTIFICATION_DATA.getKey(userId), String.valueOf(noti.getId()), json, null);
+        }
+    }
+
+    // ========================================================
+    //  5. 만료 / 이전 구조 이동
+    // ========================================================
+
+    /**
+     * 이전 List 구조 알림 전체를 새 구조로 이동, 이동한 사용자 수 반환
+     * - 목록 조회 전에도 안 읽은 개수/읽음 처리/만료가 새 구조 기준으로 동작하도록 서버 시작 시, 만료 전에 실행
+     */
+    public int migrateAllLegacy() {
+        int migrated = 0;
+        for (String key : redisUtil.scanKeys(RedisKeyType.NOTIFICATION.getKey("*"))) {
+            Matcher matcher = LEGACY_KEY.matcher(key);
+            if (!matcher.matches()) continue;
+
+            try {
+                migrateLegacy(Long.valueOf(matcher.group(1)));
+                migrated++;
+            } catch (RuntimeException e) {
+                log.warn("이전 알림 이동 실패 ({}): {}", key, e.getMessage());
+            }
+        }
+        return migrated;
+    }
+
+    // 기준 시각 이전 알림 삭제 (score 범위 삭제), 삭제 개수 반환
+    public long expireBefore(Long userId, LocalDateTime threshold) {
+        Long removed = redisUtil.executeScript(EXPIRE_SCRIPT, keys(userId), String.valueOf(toScore(threshold)));
+        return removed != null ? removed : 0L;
+    }
+
+    /**
+     * Helper Methods
+     */
+
+    private NotificationDto save(NotificationDto noti, boolean unread) {
+        return save(noti, unread, MAX_ID_RETRY);
+    }
+
+    private NotificationDto save(NotificationDto noti, boolean unread, int maxAttempts) {
+        Long userId = noti.getReceiverId();
+        long id = noti.getId() != null ? noti.getId() : System.currentTimeMillis();
+
+        for (int attempt = 0; attempt < maxAttempts; attempt++, id++) {
+            NotificationDto stored = prepare(noti, id);
+            String json = write(stored);
+            if (json == null) return null;
+
+            Long saved = redisUtil.executeScript(SAVE_SCRIPT, keys(userId), saveArgs(stored, json, unread).toArray());
+
+            if (saved != null && saved == 1L) {
+                return stored.toBuilder().isRead(!unread).build();
+            }
+        }
+
+        log.warn("알림 저장 실패 - id 중복 (receiverId: {})", userId);
+        return null;
+    }
+
+    // 읽음 여부는 unread Set으로 관리하므로 JSON에서는 제외
+    private static NotificationDto prepare(NotificationDto noti, long id) {
+        LocalDateTime createdAt = noti.getCreatedAt() != null ? noti.getCreatedAt() : LocalDateTime.now();
+        return noti.toBuilder().id(id).createdAt(createdAt).isRead(null).build();
+    }
+
+    // SAVE_SCRIPT ARGV
+    private static List<String> saveArgs(NotificationDto stored, String json, boolean unread) {
+        return List.of(
+                String.valueOf(stored.getId()),
+                String.valueOf(toScore(stored.getCreatedAt())),
+                json != null ? json : "",
+                String.valueOf(MAX_SIZE),
+                String.valueOf(RedisKeyType.NOTIFICATION_INDEX.getDefaultTtl()),
+                unread ? "1" : "0");
+    }
+
+    private NotificationDto findByToken(Long userId, NotificationType type, String token) {
+        if (token == null) return null;
+
+        for (String json : redisUtil.getHashValues(RedisKeyType.NOTIFICATION_DATA.getKey(userId))) {
+            NotificationDto noti = read(json);
+            if (noti != null && type.equals(noti.getType()) && token.equals(noti.getToken())) {
+                return noti;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 이전 List 구조 알림을 새 구조로 이동 (한 번만 실행됨)
+     * - 원래 id 그대로 1번만 저장 -> 여러 서버/요청이 동시에 이동해도 같은 알림이 중복 저장되지 않음
+     */
+    private void migrateLegacy(Long userId) {
+        String legacyKey = RedisKeyType.NOTIFICATION.getKey(String.valueOf(userId));
+        if (!redisUtil.hasKey(legacyKey)) return;
+
+        List<NotificationDto> legacy;
+        try {
+            legacy = redisUtil.getList(legacyKey, NotificationDto.class);
+        } catch (RuntimeException e) {
+            log.warn("이전 알림 목록 변환 실패 (userId: {}): {}", userId, e.getMessage());
+            legacy = List.of();
+        }
+
+        // 리스트는 최신순이므로 오래된 것부터 저장
+        Set<Long> seen = new HashSet<>();
+        for (int i = legacy.size() - 1; i >= 0; i--) {
+            NotificationDto noti = legacy.get(i);
+            if (noti.getId() == null || !seen.add(noti.getId())) continue;
+            save(noti.toBuilder().receiverId(userId).build(), !Boolean.TRUE.equals(noti.getIsRead()), 1);
+        }
+        redisUtil.deleteData(legacyKey);
+    }
+
+    private static List<String> keys(Long userId) {
+        return List.of(
+                RedisKeyType.NOTIFICATION_INDEX.getKey(userId),
+                RedisKeyType.NOTIFICATION_DATA.getKey(userId),
+                RedisKeyType.NOTIFICATION_UNREAD.getKey(userId));
+    }
+
+    private static long toScore(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private String write(NotificationDto noti) {
+        try {
+            return objectMapper.writeValueAsString(noti);
+        } catch (JsonProcessingException e) {
+            log.warn("알림 JSON 변환 실패 (receiverId: {}): {}", noti.getReceiverId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private NotificationDto read(String json) {
+        if (json == null) return null;
+        try {
+            return objectMapper.readValue(json, NotificationDto.class);
+        } catch (JsonProcessingException e) {
+            log.warn("알림 JSON 파싱 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+}
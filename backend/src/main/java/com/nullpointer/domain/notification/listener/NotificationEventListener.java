@@ -1,12 +1,15 @@
 package com.nullpointer.domain.notification.listener;
 
 import com.nullpointer.domain.board.event.BoardEvent;
+import com.nullpointer.domain.card.event.CardBulkEvent;
+import com.nullpointer.domain.card.event.CardChangeSetEvent;
 import com.nullpointer.domain.card.event.CardEvent;
 import com.nullpointer.domain.invitation.event.InvitationEvent;
 import com.nullpointer.domain.member.event.MemberEvent;
 import com.nullpointer.domain.member.mapper.BoardMemberMapper;
 import com.nullpointer.domain.member.mapper.TeamMemberMapper;
 import com.nullpointer.domain.notification.dto.NotificationDto;
+import com.nullpointer.domain.notification.helper.NotificationStore;
 import com.nullpointer.domain.notification.mapper.NotificationSettingMapper;
 import com.nullpointer.domain.notification.vo.NotificationSettingVo;
 import com.nullpointer.domain.notification.vo.enums.NotificationType;
@@ -15,9 +18,7 @@ import com.nullpointer.domain.team.event.TeamNoticeEvent;
 import com.nullpointer.domain.user.mapper.UserMapper;
 import com.nullpointer.domain.user.vo.UserVo;
 import com.nullpointer.global.common.SocketSender;
-import com.nullpointer.global.common.enums.RedisKeyType;
 import com.nullpointer.global.email.EmailService;
-import com.nullpointer.global.util.RedisUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -28,14 +29,20 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class NotificationEventListener {
 
-    private final RedisUtil redisUtil;
+    private final NotificationStore notificationStore;
     private final UserMapper userMapper;
     private final SocketSender socketSender;
     private final NotificationSettingMapper settingMapper;
@@ -49,18 +56,72 @@ public class NotificationEventListener {
     /**
      * 카드 이벤트 처리 리스너
      */
-    @Async
+    @Async("notificationExecutor")
     @EventListener
     public void handleCardEvent(CardEvent event) {
         log.info("카드 이벤트 수신: type={}, cardId={}", event.getEventType(), event.getCardId());
 
+        NotificationDto noti = toCardNotification(event);
+        if (noti == null) return;
+
+        // redis 저장, 소켓 전송
+        saveAndSendNotification(noti);
+    }
+
+    /**
+     * 카드 이벤트 알림 동기 처리 (마감 임박 스케줄러)
+     * - 호출 스레드에서 Redis 저장까지 끝냄 -> 저장하지 못하면 false 또는 예외 (호출 측에서 다음 실행에 재시도)
+     * - 수신자가 없거나 알림 설정이 꺼져 있어 저장할 알림이 없으면 true
+     */
+    public boolean deliverCardNotification(CardEvent event) {
+        NotificationDto noti = toCardNotification(event);
+        if (noti == null) return true;
+
+        return saveAndSendNotification(noti);
+    }
+
+    /**
+     * 카드 수정 변경 내용 묶음 이벤트 리스너
+     * - 필드별 알림을 모아 한 번에 저장/발송
+     */
+    @Async("notificationExecutor")
+    @EventListener
+    public void handleCardChangeSetEvent(CardChangeSetEvent event) {
+        log.info("카드 변경 묶음 이벤트 수신: cardId={}, count={}", event.getCardId(), event.getEvents().size());
+
+        try {
+            saveAndSendCardNotifications(event.getEvents());
+        } catch (Exception e) {
+            log.error("카드 변경 알림 발송 실패: cardId={}, error={}", event.getCardId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 카드 일괄 처리 이벤트 리스너
+     * - 카드별 알림을 모아 한 번에 저장/발송
+     * - 카드 한 건의 알림 생성/저장/발송 실패는 다른 카드 알림에 영향 주지 않음
+     */
+    @Async("notificationExecutor")
+    @EventListener
+    public void handleCardBulkEvent(CardBulkEvent event) {
+        log.info("카드 일괄 이벤트 수신: boardId={}, count={}", event.getBoardId(), event.getEvents().size());
+
+        try {
+            saveAndSendCardNotifications(event.getEvents());
+        } catch (Exception e) {
+            log.error("카드 일괄 알림 발송 실패: boardId={}, error={}", event.getBoardId(), e.getMessage());
+        }
+    }
+
+    // 카드 이벤트 -> 알림 (수신자가 없거나 본인이면 null)
+    private NotificationDto toCardNotification(CardEvent event) {
         // 1. 알림 대상 판별 (본인 제외)
         Long actorId = event.getActorId();
         Long receiverId = determineReceiver(event);
 
         // 수신자가 없거나 본인에게 보내는 알림이면 중단
         if (receiverId == null || receiverId.equals(actorId)) {
-            return;
+            return null;
         }
 
         NotificationType type = mapToNotificationType(event.getEventType());
@@ -70,10 +131,10 @@ public class NotificationEventListener {
         String message = generateCardMessage(event);
 
         // 메시지가 없으면 알림 생략
-        if (!StringUtils.hasText(message)) return;
+        if (!StringUtils.hasText(message)) return null;
 
         // 3. 알림 객체 생성
-        NotificationDto noti = NotificationDto.builder()
+        return NotificationDto.builder()
                 .id(System.currentTimeMillis())
                 .receiverId(receiverId)
                 .senderId(event.getActorId())
@@ -87,9 +148,6 @@ public class NotificationEventListener {
                 .isRead(false)
                 .createdAt(LocalDateTime.now())
                 .build();
-
-        // redis 저장, 소켓 전송
-        saveAndSendNotification(noti);
     }
 
     /**
@@ -178,7 +236,7 @@ public class NotificationEventListener {
     /**
      * 초대 이벤트 리스너
      */
-    @Async
+    @Async("notificationExecutor")
     @EventListener
     public void handleInvitationEvent(InvitationEvent event) {
         log.info("초대 이벤트 수신: type={}, targetId={}", event.getType(), event.getTargetId());
@@ -247,7 +305,7 @@ public class NotificationEventListener {
     /**
      * 팀 삭제 이벤트 리스너
      */
-    @Async
+    @Async("notificationExecutor")
     @EventListener
     public void handleTeamEvent(TeamEvent event) {
         // 1. '팀 삭제'가 아니면 알림을 보내지 않음
@@ -269,33 +327,27 @@ public class NotificationEventListener {
         // 클릭 시 이동할 경로
         String targetUrl = "/dashboard";
 
-        // 4. 멤버별 알림 발송
-        for (Long receiverId : memberIds) {
-            // 본인에게는 보내지 않음
-            if (receiverId.equals(event.getActorId())) continue;
-
-            NotificationDto noti = NotificationDto.builder()
-                    .id(System.currentTimeMillis())
-                    .receiverId(receiverId)
-                    .senderId(event.getActorId())
-                    .senderNickname(event.getActorNickname())
-                    .senderProfileImg(event.getActorProfileImg())
-                    .targetId(event.getTeamId())
-                    .type(NotificationType.BOARD_DELETED)
-                    .message(message)
-                    .targetUrl(targetUrl)
-                    .isRead(false)
-                    .createdAt(LocalDateTime.now())
-                    .build();
-
-            saveAndSendNotification(noti);
-        }
+        // 4. 멤버 전체에게 일괄 발송 (본인 제외)
+        NotificationDto template = NotificationDto.builder()
+                .id(System.currentTimeMillis())
+                .senderId(event.getActorId())
+                .senderNickname(event.getActorNickname())
+                .senderProfileImg(event.getActorProfileImg())
+                .targetId(event.getTeamId())
+                .type(NotificationType.BOARD_DELETED)
+                .message(message)
+                .targetUrl(targetUrl)
+                .isRead(false)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        saveAndSendNotifications(template, memberIds, event.getActorId());
     }
 
     /**
      * 보드 삭제 이벤트 리스너
      */
-    @Async
+    @Async("notificationExecutor")
     @EventListener
     public void handleBoardEvent(BoardEvent event) {
         // 1. '보드 삭제'가 아니면 알림을 보내지 않음
@@ -317,34 +369,28 @@ public class NotificationEventListener {
         // 클릭 시 이동할 경로
         String targetUrl = "/dashboard";
 
-        // 4. 멤버별 알림 발송
-        for (Long receiverId : memberIds) {
-            // 본인에게는 보내지 않음
-            if (receiverId.equals(event.getActorId())) continue;
-
-            NotificationDto noti = NotificationDto.builder()
-                    .id(System.currentTimeMillis())
-                    .receiverId(receiverId)
-                    .senderId(event.getActorId())
-                    .senderNickname(event.getActorNickname())
-                    .senderProfileImg(event.getActorProfileImg())
-                    .boardId(event.getBoardId())
-                    .targetId(event.getBoardId())
-                    .type(NotificationType.BOARD_DELETED)
-                    .message(message)
-                    .targetUrl(targetUrl)
-                    .isRead(false)
-                    .createdAt(LocalDateTime.now())
-                    .build();
-
-            saveAndSendNotification(noti);
-        }
+        // 4. 멤버 전체에게 일괄 발송 (본인 제외)
+        NotificationDto template = NotificationDto.builder()
+                .id(System.currentTimeMillis())
+                .senderId(event.getActorId())
+                .senderNickname(event.getActorNickname())
+                .senderProfileImg(event.getActorProfileImg())
+                .boardId(event.getBoardId())
+                .targetId(event.getBoardId())
+                .type(NotificationType.BOARD_DELETED)
+                .message(message)
+                .targetUrl(targetUrl)
+                .isRead(false)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        saveAndSendNotifications(template, memberIds, event.getActorId());
     }
 
     /**
      * 멤버 권한 변경 이벤트 알림
      */
-    @Async
+    @Async("notificationExecutor")
     @EventListener
     public void handleMemberEvent(MemberEvent event) {
         log.info("권한 변경 이벤트 수신: type={}, targetId={}", event.getType(), event.getTargetId());
@@ -383,7 +429,7 @@ public class NotificationEventListener {
     /**
      * 팀 공지사항 등록 이벤트 알림
      */
-    @Async
+    @Async("notificationExecutor")
     @EventListener
     public void handleTeamNoticeEvent(TeamNoticeEvent event) {
         // CREATE가 아니면 알림 전송 중단
@@ -403,34 +449,20 @@ public class NotificationEventListener {
         // 클릭 시 이동할 URL (프론트엔드 라우트 경로)
         String targetUrl = "/teams/" + event.getTeamId() + "/notices/" + event.getNoticeId();
 
-        // 3. 반복문을 돌며 한 명씩 전송
-        for (Long receiverId : memberIds) {
-
-            // (선택사항) 작성자 본인에게는 알림을 안 보내려면 이 줄 추가
-            if (receiverId.equals(event.getWriterId())) continue;
+        // 3. 팀 멤버 전체에게 일괄 발송 (작성자 본인 제외)
+        NotificationDto template = NotificationDto.builder()
+                .id(System.currentTimeMillis())
+                .senderId(event.getWriterId())
+                .senderNickname(event.getWriterNickname())
+                .senderProfileImg(event.getWriterProfileImg())
+                .type(event.getType()) // TEAM_NOTICE_CREATED
+                .message(message)
+                .targetUrl(targetUrl)
+                .isRead(false)
+                .createdAt(LocalDateTime.now())
+                .build();
 
-            try {
-                // 4. 알림 객체 생성
-                NotificationDto noti = NotificationDto.builder()
-                        .id(System.currentTimeMillis())
-                        .receiverId(receiverId)
-                        .senderId(event.getWriterId())
-                        .senderNickname(event.getWriterNickname())
-                        .senderProfileImg(event.getWriterProfileImg())
-                        .type(event.getType()) // TEAM_NOTICE_CREATED
-                        .message(message)
-                        .targetUrl(targetUrl)
-                        .isRead(false)
-                        .createdAt(LocalDateTime.now())
-                        .build();
-
-                // 5. 저장 및 전송 (Redis, 소켓, 이메일 처리)
-                saveAndSendNotification(noti);
-            } catch (Exception e) {
-                log.error("알림 전송 실패 (memberId: {}): {}", receiverId, e.getMessage());
-                // 한 명 실패해도 나머지는 계속 보내야 하므로 loop 중단하지 않음
-            }
-        }
+        saveAndSendNotifications(template, memberIds, event.getWriterId());
     }
 
     /**
@@ -444,7 +476,8 @@ public class NotificationEventListener {
     }
 
     // Redis 알림 저장, 소켓 전송 (소켓/푸시/이메일)
-    private void saveAndSendNotification(NotificationDto noti) {
+    // - 반환: 저장할 알림이 없거나 저장 성공 시 true, 저장 실패 시 false (소켓/메일 실패는 저장과 무관)
+    private boolean saveAndSendNotification(NotificationDto noti) {
         Long receiverId = noti.getReceiverId();
 
         // 수신자의 알림 설정 조회 (없으면 기본값)
@@ -452,44 +485,243 @@ public class NotificationEventListener {
                 .orElse(NotificationSettingVo.createDefault(receiverId));
 
         // 1. 방해 금지 모드이면 모든 알림 중단
-        if (settings.isDnd()) return;
+        if (settings.isDnd()) return true;
 
         // 수신자 정보 조회
         UserVo receiver = userMapper.findById(noti.getReceiverId()).orElse(null);
-        if (receiver == null) return;
+        if (receiver == null) return true;
 
         // 2. 실시간 알림 설정 확인
+        boolean stored = true;
         if (shouldSendPush(settings, noti.getType())) {
-            // Redis 저장
-            // key: "np:notification:{userId}"
-            String key = RedisKeyType.NOTIFICATION.getKey(String.valueOf(noti.getReceiverId()));
-            redisUtil.addList(key, noti, RedisKeyType.NOTIFICATION.getDefaultTtl());
-
-            // 용량 관리 (최근 50개만 유지)
-            redisUtil.trimList(key, 110);
+            // Redis 저장 (최근 110개만 유지, 저장 시 id 확정)
+            NotificationDto saved = notificationStore.save(noti);
+            stored = saved != null;
 
             // 이메일로 소켓 메시지 전송
             // WebSocket 실시간 전송
             // 구독 경로: /queue/notifications/{email} <- Spring Security의 username이 이메일이기 때문
             // 프론트엔드가 이 경로를 구독해야 함
-            socketSender.sendGlobalSocketMessage(
-                    receiver.getEmail(),    // 수신자 이메일
-                    noti.getType().name(),  // 타입 (예: CARD_MOVE)
-                    noti.getSenderId(),     // 보낸 사람 ID
-                    noti.getMessage(),      // "홍길동님이 카드를 이동했습니다."
-                    noti);
+            try {
+                socketSender.sendGlobalSocketMessage(
+                        receiver.getEmail(),    // 수신자 이메일
+                        noti.getType().name(),  // 타입 (예: CARD_MOVE)
+                        noti.getSenderId(),     // 보낸 사람 ID
+                        noti.getMessage(),      // "홍길동님이 카드를 이동했습니다."
+                        stored ? saved : noti);
+            } catch (Exception e) {
+                log.error("알림 소켓 전송 실패 (receiverId: {}): {}", receiverId, e.getMessage());
+            }
         }
 
         // 3. 활동 이메일 설정 확인 (멘션, 담당자 지정, 보드 초대)
         if (shouldSendActivityEmail(settings, noti.getType())) {
             String subject = "[SYNCLE] 새로운 알림이 도착했습니다.";
-            emailService.sendActivityNotification(
-                    receiver.getEmail(),
-                    subject,
-                    noti.getMessage(),
-                    noti.getTargetUrl() // 클릭 시 이동할 경로
-            );
-            log.info("활동 알림 메일 발송: receiver={}", receiver.getEmail());
+            try {
+                emailService.sendActivityNotification(
+                        receiver.getEmail(),
+                        subject,
+                        noti.getMessage(),
+                        noti.getTargetUrl() // 클릭 시 이동할 경로
+                );
+                log.info("활동 알림 메일 발송: receiver={}", receiver.getEmail());
+            } catch (Exception e) {
+                log.error("활동 알림 메일 발송 실패 (receiverId: {}): {}", receiverId, e.getMessage());
+            }
+        }
+        return stored;
+    }
+
+    /**
+     * 여러 수신자에게 같은 알림 일괄 발송 (팀 공지, 팀/보드 삭제)
+     * - 알림 설정/사용자 정보: IN 쿼리 1회씩
+     * - Redis 저장: 파이프라인 1회
+     * - 소켓: 한 번에 대기열 등록
+     * - 한 명의 설정/저장/메일 실패가 다른 수신자에게 영향 주지 않음
+     */
+    private void saveAndSendNotifications(NotificationDto template, List<Long> memberIds, Long excludeId) {
+        List<Long> receiverIds = memberIds.stream()
+                .filter(Objects::nonNull)
+                .filter(id -> !id.equals(excludeId))
+                .distinct()
+                .toList();
+        if (receiverIds.isEmpty()) return;
+
+        // 1. 수신자 설정, 사용자 정보 일괄 조회
+        Recipients recipients = findRecipients(receiverIds);
+
+        // 2. 발송 대상 분류
+        List<NotificationDto> pushTargets = new ArrayList<>();
+        List<UserVo> emailTargets = new ArrayList<>();
+        for (Long receiverId : receiverIds) {
+            UserVo receiver = recipients.activeUser(receiverId);
+            if (receiver == null) continue;
+
+            NotificationSettingVo settings = recipients.settings(receiverId);
+
+            if (shouldSendPush(settings, template.getType())) {
+                pushTargets.add(template.toBuilder().receiverId(receiverId).build());
+            }
+            if (shouldSendActivityEmail(settings, template.getType())) {
+                emailTargets.add(receiver);
+            }
+        }
+
+        // 3. Redis 일괄 저장 후 소켓 일괄 전송
+        if (!pushTargets.isEmpty()) {
+            List<NotificationDto> stored = saveAll(pushTargets);
+
+            Map<String, NotificationDto> dataByEmail = new LinkedHashMap<>();
+            for (int i = 0; i < pushTargets.size(); i++) {
+                NotificationDto noti = pushTargets.get(i);
+                UserVo receiver = recipients.usersById().get(noti.getReceiverId());
+                dataByEmail.put(receiver.getEmail(), stored.get(i) != null ? stored.get(i) : noti);
+            }
+            socketSender.sendGlobalSocketMessages(
+                    template.getType().name(),
+                    template.getSenderId(),
+                    template.getMessage(),
+                    dataByEmail);
+        }
+
+        // 4. 활동 이메일 (메일 발송은 mailExecutor에서 비동기 처리)
+        for (UserVo receiver : emailTargets) {
+            try {
+                emailService.sendActivityNotification(
+                        receiver.getEmail(),
+                        "[SYNCLE] 새로운 알림이 도착했습니다.",
+                        template.getMessage(),
+                        template.getTargetUrl());
+            } catch (Exception e) {
+                log.error("활동 알림 메일 발송 실패 (receiverId: {}): {}", receiver.getId(), e.getMessage());
+            }
+        }
+
+        log.info("알림 일괄 발송: type={}, 수신자 {}명, 푸시 {}건, 메일 {}건",
+                template.getType(), receiverIds.size(), pushTargets.size(), emailTargets.size());
+    }
+
+    /**
+     * 카드 이벤트 여러 건 알림 일괄 발송 (카드 수정 묶음, 카드 일괄 처리)
+     * - 알림마다 수신자/메시지가 다름
+     * - 알림 설정/사용자 정보: IN 쿼리 1회씩
+     * - Redis 저장: 파이프라인 1회
+     * - 알림 한 건의 생성/저장/소켓/메일 실패가 다른 알림에 영향 주지 않음
+     */
+    private void saveAndSendCardNotifications(List<CardEvent> events) {
+        List<NotificationDto> notis = new ArrayList<>();
+        for (CardEvent event : events) {
+            try {
+                NotificationDto noti = toCardNotification(event);
+                if (noti != null) notis.add(noti);
+            } catch (Exception e) {
+                log.error("카드 알림 생성 실패 (cardId: {}): {}", event.getCardId(), e.getMessage());
+            }
+        }
+        if (notis.isEmpty()) return;
+
+        List<Long> receiverIds = notis.stream().map(NotificationDto::getReceiverId).distinct().toList();
+
+        // 1. 수신자 설정, 사용자 정보 일괄 조회
+        Recipients recipients = findRecipients(receiverIds);
+
+        // 2. 발송 대상 분류
+        List<NotificationDto> pushTargets = new ArrayList<>();
+        List<NotificationDto> emailTargets = new ArrayList<>();
+        for (NotificationDto noti : notis) {
+            if (recipients.activeUser(noti.getReceiverId()) == null) continue;
+
+            NotificationSettingVo settings = recipients.settings(noti.getReceiverId());
+
+            if (shouldSendPush(settings, noti.getType())) {
+                pushTargets.add(noti);
+            }
+            if (shouldSendActivityEmail(settings, noti.getType())) {
+                emailTargets.add(noti);
+            }
+        }
+
+        // 3. Redis 일괄 저장 후 소켓 전송 (알림마다 메시지가 달라 개별 전송)
+        if (!pushTargets.isEmpty()) {
+            List<NotificationDto> stored = saveAll(pushTargets);
+
+            for (int i = 0; i < pushTargets.size(); i++) {
+                NotificationDto noti = pushTargets.get(i);
+                try {
+                    socketSender.sendGlobalSocketMessage(
+                            recipients.usersById().get(noti.getReceiverId()).getEmail(),
+                            noti.getType().name(),
+                            noti.getSenderId(),
+                            noti.getMessage(),
+                            stored.get(i) != null ? stored.get(i) : noti);
+                } catch (Exception e) {
+                    log.error("알림 소켓 전송 실패 (receiverId: {}): {}", noti.getReceiverId(), e.getMessage());
+                }
+            }
+        }
+
+        // 4. 활동 이메일 (메일 발송은 mailExecutor에서 비동기 처리)
+        for (NotificationDto noti : emailTargets) {
+            try {
+                emailService.sendActivityNotification(
+                        recipients.usersById().get(noti.getReceiverId()).getEmail(),
+                        "[SYNCLE] 새로운 알림이 도착했습니다.",
+                        noti.getMessage(),
+                        noti.getTargetUrl());
+            } catch (Exception e) {
+                log.error("활동 알림 메일 발송 실패 (receiverId: {}): {}", noti.getReceiverId(), e.getMessage());
+            }
+        }
+
+        log.info("카드 알림 일괄 발송: 알림 {}건, 푸시 {}건, 메일 {}건",
+                notis.size(), pushTargets.size(), emailTargets.size());
+    }
+
+    // 수신자 설정, 사용자 정보 일괄 조회 (IN 쿼리 1회씩)
+    private Recipients findRecipients(List<Long> receiverIds) {
+        Map<Long, NotificationSettingVo> settingsByUser = settingMapper.findByUserIds(receiverIds).stream()
+                .collect(Collectors.toMap(NotificationSettingVo::getUserId, Function.identity(), (a, b) -> a));
+        Map<Long, UserVo> usersById = userMapper.findAllByIds(receiverIds).stream()
+                .collect(Collectors.toMap(UserVo::getId, Function.identity(), (a, b) -> a));
+        return new Recipients(settingsByUser, usersById);
+    }
+
+    /**
+     * Redis 알림 일괄 저장
+     * - 파이프라인 실패 시 건별로 다시 저장 (한 건의 실패가 나머지 저장을 막지 않음)
+     * - 저장하지 못한 알림은 null (id 없이 소켓만 전송)
+     */
+    private List<NotificationDto> saveAll(List<NotificationDto> notis) {
+        try {
+            return notificationStore.saveAll(notis);
+        } catch (Exception e) {
+            log.warn("알림 일괄 저장 실패, 건별 저장으로 전환: {}", e.getMessage());
+        }
+
+        List<NotificationDto> stored = new ArrayList<>(notis.size());
+        for (NotificationDto noti : notis) {
+            try {
+                stored.add(notificationStore.save(noti));
+            } catch (Exception e) {
+                log.error("알림 저장 실패 (receiverId: {}): {}", noti.getReceiverId(), e.getMessage());
+                stored.add(null);
+            }
+        }
+        return stored;
+    }
+
+    // 알림 수신자 조회 결과 (설정이 없으면 기본값)
+    private record Recipients(Map<Long, NotificationSettingVo> settingsByUser, Map<Long, UserVo> usersById) {
+
+        NotificationSettingVo settings(Long receiverId) {
+            return settingsByUser.getOrDefault(receiverId, NotificationSettingVo.createDefault(receiverId));
+        }
+
+        // 발송 대상 사용자 (탈퇴한 사용자, 방해 금지 모드는 null)
+        UserVo activeUser(Long receiverId) {
+            UserVo receiver = usersById.get(receiverId);
+            if (receiver == null || settings(receiverId).isDnd()) return null;
+            return receiver;
         }
     }
 
@@ -1,7 +1,9 @@
 package com.nullpointer.domain.notification.mapper;
 
 import com.nullpointer.domain.notification.vo.NotificationSettingVo;
+import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface NotificationSettingMapper {
@@ -9,6 +11,9 @@ public interface NotificationSettingMapper {
     // 조회
     Optional<NotificationSettingVo> findByUserId(Long userId);
 
+    // 여러 사용자 일괄 조회 (설정이 없는 사용자는 결과에서 빠짐)
+    List<NotificationSettingVo> findByUserIds(@Param("userIds") List<Long> userIds);
+
     // 최초 생성
     void insertSettings(NotificationSettingVo settings);
 
@@ -1,11 +1,11 @@
 package com.nullpointer.domain.socket;
 
+import com.nullpointer.global.common.SocketSender;
 import com.nullpointer.global.util.RedisUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
 import java.util.Set;
@@ -14,7 +14,7 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class SocketController {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final SocketSender socketSender;
     private final RedisUtil redisUtil;
 
     private static final String PREFIX = "board:presence:";
@@ -34,7 +34,7 @@ public class SocketController {
         // 접속자 목록 전송
         Set<String> users = redisUtil.getSetMembers(key);
         // 구독 토픽 : /topic/board/{boardId}/presence
-        messagingTemplate.convertAndSend("/topic/board/" + boardId + "/presence", users);
+        socketSender.sendPresenceMessage(boardId, users);
     }
 
     /**
@@ -49,7 +49,7 @@ public class SocketController {
 
         // 갱신된 목록 전송
         Set<String> users = redisUtil.getSetMembers(key);
-        messagingTemplate.convertAndSend("/topic/board/" + boardId + "/presence", users);
+        socketSender.sendPresenceMessage(boardId, users);
     }
 
 }
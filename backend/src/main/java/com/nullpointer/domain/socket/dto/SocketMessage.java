@@ -17,4 +17,6 @@ public class SocketMessage {
     private Object data;    // 변경된 데이터 (선택 사항, 프론트에서 낙관적 업데이트나 갱신에 사용)
 
     private String message; // 알림 메시지
+
+    private Long revision;  // 보드 버전 (보드 메시지만, 재연결 시 이후 변경 조회에 사용)
 }
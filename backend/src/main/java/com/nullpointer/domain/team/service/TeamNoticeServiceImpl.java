@@ -11,6 +11,7 @@ import com.nullpointer.domain.team.vo.TeamNoticeVo;
 import com.nullpointer.domain.team.vo.TeamVo;
 import com.nullpointer.domain.user.mapper.UserMapper;
 import com.nullpointer.domain.user.vo.UserVo;
+import com.nullpointer.global.cache.UserSummaryCache;
 import com.nullpointer.global.common.SocketSender;
 import com.nullpointer.global.common.enums.ErrorCode;
 import com.nullpointer.global.exception.BusinessException;
@@ -30,6 +31,7 @@ public class TeamNoticeServiceImpl implements TeamNoticeService {
     private final TeamNoticeMapper noticeMapper;
     private final MemberValidator memberVal;
     private final UserMapper userMapper;
+    private final UserSummaryCache userSummaryCache;
     private final ApplicationEventPublisher publisher;
     private final SocketSender socketSender;
     private final TeamMapper teamMapper;
@@ -174,7 +176,7 @@ public class TeamNoticeServiceImpl implements TeamNoticeService {
         TeamVo team = teamMapper.findTeamByTeamId(notice.getTeamId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
 
-        UserVo actor = userMapper.findById(actorId)
+        UserVo actor = userSummaryCache.find(actorId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 2. 이벤트 빌드
@@ -20,8 +20,9 @@ import com.nullpointer.domain.team.dto.response.TeamResponse;
 import com.nullpointer.domain.team.event.TeamEvent;
 import com.nullpointer.domain.team.mapper.TeamMapper;
 import com.nullpointer.domain.team.vo.TeamVo;
-import com.nullpointer.domain.user.mapper.UserMapper;
 import com.nullpointer.domain.user.vo.UserVo;
+import com.nullpointer.global.async.ParallelReader;
+import com.nullpointer.global.cache.UserSummaryCache;
 import com.nullpointer.global.common.SocketSender;
 import com.nullpointer.global.common.enums.ErrorCode;
 import com.nullpointer.global.exception.BusinessException;
@@ -42,12 +43,13 @@ public class TeamServiceImpl implements TeamService {
     private final MemberValidator memberVal;
     private final ApplicationEventPublisher publisher;
     private final SocketSender socketSender;
+    private final ParallelReader parallelReader;
 
     private final BoardService boardService;
     private final TeamMapper teamMapper;
     private final TeamMemberMapper teamMemberMapper;
     private final BoardMapper boardMapper;
-    private final UserMapper userMapper;
+    private final UserSummaryCache userSummaryCache;
     private final CardMapper cardMapper;
     private final ChecklistMapper checklistMapper;
     private final CommentMapper commentMapper;
@@ -59,7 +61,7 @@ public class TeamServiceImpl implements TeamService {
     @Transactional
     public void createTeam(CreateTeamRequest req, Long userId) {
         // 관리자 정보 조회
-        UserVo actor = userMapper.findById(userId)
+        UserVo actor = userSummaryCache.find(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 1. 팀 VO 생성 (DTO -> VO)
@@ -86,7 +88,7 @@ public class TeamServiceImpl implements TeamService {
     @Transactional
     public void createPersonalTeam(Long userId, String nickname) {
         // 관리자 정보 조회
-        UserVo actor = userMapper.findById(userId)
+        UserVo actor = userSummaryCache.find(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 1. 기본 팀 생성
@@ -123,8 +125,8 @@ public class TeamServiceImpl implements TeamService {
     }
 
     // 팀 상세 조회
+    // - 멤버/보드 목록은 ParallelReader로 동시 조회 (조회마다 읽기 전용 트랜잭션, 호출 측은 트랜잭션 없음)
     @Override
-    @Transactional(readOnly = true)
     public TeamDetailResponse getTeamDetail(Long teamId, Long userId) {
         // 1. 팀 유효성 검증
         TeamVo teamVo = teamVal.getValidTeam(teamId);
@@ -132,14 +134,18 @@ public class TeamServiceImpl implements TeamService {
         // 2. 접근 권한 검증 (팀원인지 확인)
         memberVal.validateTeamMember(teamId, userId);
 
-        // 3. 팀 멤버 목록
-        List<TeamMemberResponse> members = teamMemberMapper.findMembersByTeamId(teamId);
+        try (ParallelReader.Scope scope = parallelReader.open()) {
+            // 3. 팀 멤버 목록
+            ParallelReader.Fork<List<TeamMemberResponse>> members =
+                    scope.fork(() -> teamMemberMapper.findMembersByTeamId(teamId));
 
-        // 4. 팀 보드 목록 (즐겨찾기 반영)
-        List<BoardResponse> boards = boardMapper.findBoardWithFavoriteStatus(teamId, userId);
+            // 4. 팀 보드 목록 (즐겨찾기 반영)
+            ParallelReader.Fork<List<BoardResponse>> boards =
+                    scope.fork(() -> boardMapper.findBoardWithFavoriteStatus(teamId, userId));
 
-        // 6. 하나의 DTO로 묶기
-        return TeamDetailResponse.of(teamVo, members, boards);
+            // 5. 하나의 DTO로 묶기
+            return TeamDetailResponse.of(teamVo, members.join(), boards.join());
+        }
     }
 
     @Override
@@ -149,7 +155,7 @@ public class TeamServiceImpl implements TeamService {
         TeamVo teamVo = teamVal.getValidTeam(teamId);
 
         // 관리자 정보 조회
-        UserVo actor = userMapper.findById(userId)
+        UserVo actor = userSummaryCache.find(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 2. 수정 권한 검증 (OWNER 여부)
@@ -205,7 +211,7 @@ public class TeamServiceImpl implements TeamService {
         memberVal.validateTeamOwner(teamId, userId, ErrorCode.TEAM_DELETE_FORBIDDEN);
 
         // 관리자 정보 조회
-        UserVo actor = userMapper.findById(userId)
+        UserVo actor = userSummaryCache.find(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 삭제 전에 알림을 받을 멤버 조회
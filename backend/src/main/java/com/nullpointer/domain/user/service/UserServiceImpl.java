@@ -18,10 +18,14 @@ import com.nullpointer.domain.user.mapper.UserMapper;
 import com.nullpointer.domain.user.vo.UserVo;
 import com.nullpointer.domain.user.vo.enums.UserStatus;
 import com.nullpointer.domain.user.vo.enums.VerifyStatus;
+import com.nullpointer.global.cache.BoardAccessCache;
+import com.nullpointer.global.cache.BoardViewCache;
+import com.nullpointer.global.cache.UserSummaryCache;
 import com.nullpointer.global.common.enums.ErrorCode;
 import com.nullpointer.global.common.enums.RedisKeyType;
 import com.nullpointer.global.exception.BusinessException;
 import com.nullpointer.global.security.jwt.JwtTokenProvider;
+import com.nullpointer.global.security.jwt.TokenBlacklist;
 import com.nullpointer.global.util.RedisUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -47,7 +51,11 @@ public class UserServiceImpl implements UserService {
     private final PasswordEncoder passwordEncoder;
     private final RedisUtil redisUtil;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenBlacklist tokenBlacklist;
     private final ApplicationEventPublisher publisher;
+    private final BoardAccessCache boardAccessCache;
+    private final BoardViewCache boardViewCache;
+    private final UserSummaryCache userSummaryCache;
 
     /**
      * 이메일 중복 확인
@@ -118,6 +126,10 @@ public class UserServiceImpl implements UserService {
 
         // 4) DB 저장
         userMapper.updateUser(user);
+        userSummaryCache.evict(id);
+
+        // 5) 닉네임/프로필 이미지가 보이는 보드 스냅샷 무효화 (커밋 후)
+        invalidateBoardViews(boardMemberMapper.findBoardIdsByUserId(id), teamMemberMapper.findTeamIdsByUserId(id));
     }
 
     /**
@@ -189,6 +201,7 @@ public class UserServiceImpl implements UserService {
         // a. [멤버십 정리] 모든 팀/보드에서 탈퇴 처리 (Soft Delete)
         teamMemberMapper.deleteAllByUserId(userId);
         boardMemberMapper.deleteAllByUserId(userId);
+        evictBoardAccess(userId, joinedTeamIds, joinedBoardIds);
 
         // 2) 상태 변경 (ACTIVATED -> DEACTIVATED)
         int updated = userMapper.deactivateUser(userId);
@@ -196,6 +209,7 @@ public class UserServiceImpl implements UserService {
         if (updated != 1) {
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
+        userSummaryCache.evict(userId);
 
         // 3) [알림 발송] 내가 관리자가 아니라면,DB 처리가 끝난 후, 미리 조회해둔 목록으로 알림 전송
         sendLeaveAlertsToOwner(user, joinedTeamIds, joinedBoardIds);
@@ -205,9 +219,7 @@ public class UserServiceImpl implements UserService {
 
         long remainingTime = jwtTokenProvider.getExpiration(accessToken) - System.currentTimeMillis();
 
-        if (remainingTime > 0) {
-            redisUtil.setDataExpire(RedisKeyType.BLACKLIST.getKey(accessToken), "logout", remainingTime);
-        }
+        tokenBlacklist.revoke(accessToken, remainingTime);
     }
 
     /**
@@ -233,6 +245,7 @@ public class UserServiceImpl implements UserService {
         if (updated != 1) {
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
+        userSummaryCache.evict(user.getId());
     }
 
     /**
@@ -256,9 +269,11 @@ public class UserServiceImpl implements UserService {
         // a. [멤버십 정리] 모든 팀/보드에서 탈퇴 처리 (Soft Delete)
         teamMemberMapper.deleteAllByUserId(userId);
         boardMemberMapper.deleteAllByUserId(userId);
+        evictBoardAccess(userId, joinedTeamIds, joinedBoardIds);
 
         // b. 계정 익명화
         userMapper.deleteUser(userId);
+        userSummaryCache.evict(userId);
 
         // 3) [알림 발송] 내가 관리자가 아니라면,DB 처리가 끝난 후, 미리 조회해둔 목록으로 알림 전송
         sendLeaveAlertsToOwner(user, joinedTeamIds, joinedBoardIds);
@@ -309,6 +324,24 @@ public class UserServiceImpl implements UserService {
         }
     }
 
+    /**
+     * 탈퇴/비활성화 시 보드 권한 캐시 무효화 (커밋 후)
+     */
+    private void evictBoardAccess(Long userId, List<Long> teamIds, List<Long> boardIds) {
+        boardIds.forEach(boardId -> boardAccessCache.evictMember(boardId, userId));
+        teamIds.forEach(teamId -> boardAccessCache.evictTeamMember(teamId, userId));
+        invalidateBoardViews(boardIds, teamIds);
+    }
+
+    /**
+     * 사용자가 보이는 보드(보드 멤버, 팀 멤버 목록) 스냅샷 무효화 (커밋 후)
+     * - 보드 데이터 변경이 아니므로 보드 버전/변경 기록은 그대로 (재연결한 클라이언트가 전체 다시 조회하지 않음)
+     */
+    private void invalidateBoardViews(List<Long> boardIds, List<Long> teamIds) {
+        boardIds.forEach(boardViewCache::invalidate);
+        teamIds.forEach(boardViewCache::invalidateTeam);
+    }
+
     /**
      * 탈퇴/비활성화 시 소속된 팀/보드의 관리자에게 알림 발송
      */
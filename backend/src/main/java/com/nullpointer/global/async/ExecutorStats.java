@@ -0,0 +1,121 @@
+package com.nullpointer.global.async;
+
+import lombok.Getter;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * 비동기 실행기 통계
+ * - TaskDecorator로 작업마다 대기 시간(등록 -> 시작), 실행 시간 측정
+ * - 큐 깊이/실행 중 스레드 수는 실행기에서 직접 조회
+ * - AsyncExecutorMonitorScheduler가 주기적으로 스냅샷을 남기고 구간 카운터를 초기화
+ */
+public class ExecutorStats implements TaskDecorator {
+
+    @Getter
+    private final String name;
+    @Getter
+    private final int queueCapacity;
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong totalRunNanos = new AtomicLong();
+
+    // 직전 스냅샷 시점의 누적값
+    private long lastCompleted;
+    private long lastSubmitted;
+
+    // 실행기 생성 후 연결 (기본값: 시작 전 작업 수, 실행 중 작업 수)
+    private IntSupplier queueDepth = () -> (int) Math.max(0, submitted.get() - started.get());
+    private IntSupplier activeCount = () -> (int) Math.max(0, started.get() - completed.get());
+
+    public ExecutorStats(String name, int queueCapacity) {
+        this.name = name;
+        this.queueCapacity = queueCapacity;
+    }
+
+    // ThreadPoolTaskExecutor처럼 큐/스레드 상태를 직접 알 수 있는 경우
+    public void bind(IntSupplier queueDepth, IntSupplier activeCount) {
+        this.queueDepth = queueDepth;
+        this.activeCount = activeCount;
+    }
+
+    @Override
+    public Runnable decorate(Runnable task) {
+        long enqueuedAt = System.nanoTime();
+        submitted.incrementAndGet();
+
+        return () -> {
+            long startedAt = System.nanoTime();
+            long wait = startedAt - enqueuedAt;
+            started.incrementAndGet();
+            totalWaitNanos.addAndGet(wait);
+            maxWaitNanos.accumulateAndGet(wait, Math::max);
+            try {
+                task.run();
+            } finally {
+                totalRunNanos.addAndGet(System.nanoTime() - startedAt);
+                completed.incrementAndGet();
+            }
+        };
+    }
+
+    // 거절된 작업 수 (RejectedExecutionHandler에서 호출)
+    public long recordRejected() {
+        return rejected.incrementAndGet();
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.getAsInt();
+    }
+
+    public int getActiveCount() {
+        return activeCount.getAsInt();
+    }
+
+    /**
+     * 구간 스냅샷 (구간 카운터 초기화)
+     * - submitted/started 누적값은 큐 깊이 계산에 쓰이므로 유지
+     */
+    public synchronized Snapshot snapshotAndReset() {
+        long done = completed.get();
+        long waitSum = totalWaitNanos.getAndSet(0);
+        long runSum = totalRunNanos.getAndSet(0);
+        long doneInPeriod = done - lastCompleted;
+        long submittedInPeriod = submitted.get() - lastSubmitted;
+        lastCompleted = done;
+        lastSubmitted += submittedInPeriod;
+
+        return new Snapshot(
+                name,
+                getActiveCount(),
+                getQueueDepth(),
+                queueCapacity,
+                submittedInPeriod,
+                doneInPeriod,
+                rejected.getAndSet(0),
+                doneInPeriod > 0 ? waitSum / doneInPeriod / 1_000_000 : 0,
+                maxWaitNanos.getAndSet(0) / 1_000_000,
+                doneInPeriod > 0 ? runSum / doneInPeriod / 1_000_000 : 0);
+    }
+
+    public record Snapshot(String name, int active, int queueDepth, int queueCapacity,
+                           long submitted, long completed, long rejected,
+                           long avgWaitMillis, long maxWaitMillis, long avgRunMillis) {
+
+        // 큐가 80% 이상 찼거나 거절된 작업이 있으면 경고
+        public boolean isSaturated() {
+            return rejected > 0 || (queueCapacity > 0 && queueDepth * 5L >= queueCapacity * 4L);
+        }
+
+        public boolean isIdle() {
+            return submitted == 0 && active == 0 && queueDepth == 0;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.nullpointer.global.async;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 독립된 조회 동시 실행 (가상 스레드)
+ * - 서로 의존하지 않는 조회를 동시에 실행해 응답 시간을 합(sum)이 아닌 최댓값(max)으로 줄임
+ * - Scope 단위로 묶어서 사용 (try-with-resources), 끝나지 않은 조회는 close 시 취소
+ *   (StructuredTaskScope는 Java 21에서 preview라 CompletableFuture + 가상 스레드로 구성)
+ *
+ * 트랜잭션/커넥션
+ * - 분기된 조회는 각자 읽기 전용 트랜잭션 1개에서 실행 (@Transactional(readOnly = true)와 같음)
+ *   -> 여러 쿼리로 된 조회(보드 스냅샷 등)도 분기 안에서는 같은 시점 기준
+ *   -> 분기 사이의 시점 차이는 호출 측에서 판단 (ex. BoardViewCache: 조회 전후 보드 버전/세대 번호 비교)
+ * - 호출 측이 트랜잭션(커넥션)을 잡은 채 분기된 조회를 기다리면 커넥션 풀 고갈 시 서로 대기할 수 있으므로
+ *   트랜잭션 안에서 호출되면 분기하지 않고 join 시 호출 스레드에서 실행 (호출 측 트랜잭션에 참여)
+ *   -> 동시 실행하려는 조회 메서드는 @Transactional 없이 사용
+ * - 동시에 분기되는 조회 수는 permits로 제한, 초과분은 호출 스레드에서 자체 읽기 전용 트랜잭션으로 실행
+ */
+@Slf4j
+@Component
+public class ParallelReader {
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("ParallelRead-", 0).factory());
+    private final Semaphore permits;
+    private final TransactionTemplate readOnlyTx;
+
+    // 커넥션 풀 크기보다 작게 (호출 스레드의 조회가 쓸 커넥션을 남겨둠)
+    public ParallelReader(PlatformTransactionManager transactionManager,
+                          @Value("${app.async.parallel-read-limit:5}") int maxConcurrentReads) {
+        this.permits = new Semaphore(Math.max(1, maxConcurrentReads));
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    public Scope open() {
+        return new Scope();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 동시 조회 범위
+     * - fork: 조회 시작 (분기 불가 시 join 때 호출 스레드에서 실행)
+     * - close: join 하지 않은 조회 취소
+     */
+    public class Scope implements AutoCloseable {
+
+        private final boolean inline = TransactionSynchronizationManager.isActualTransactionActive();
+        private final List<Fork<?>> forks = new ArrayList<>();
+
+        public <T> Fork<T> fork(Supplier<T> read) {
+            Supplier<T> task = () -> readOnlyTx.execute(status -> read.get());
+            Fork<T> fork = (!inline && permits.tryAcquire()) ? submit(task) : new Fork<>(null, task);
+            forks.add(fork);
+            return fork;
+        }
+
+        @Override
+        public void close() {
+            forks.forEach(Fork::cancel);
+        }
+
+        private <T> Fork<T> submit(Supplier<T> task) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            try {
+                executor.execute(() -> {
+                    try {
+                        // 시작 전에 취소되었으면 조회하지 않음
+                        if (!future.isDone()) {
+                            future.complete(task.get());
+                        }
+                    } catch (Throwable e) {
+                        future.completeExceptionally(e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+                return new Fork<>(future, task);
+            } catch (RuntimeException e) {
+                // 종료 중 등으로 실행기에 넣지 못하면 호출 스레드에서 실행
+                permits.release();
+                log.debug("동시 조회 분기 실패, 호출 스레드에서 실행: {}", e.getMessage());
+                return new Fork<>(null, task);
+            }
+        }
+    }
+
+    /**
+     * 분기된 조회 결과
+     * - future가 없으면 join 시 호출 스레드에서 실행
+     */
+    public static class Fork<T> {
+
+        private final CompletableFuture<T> future;
+        private final Supplier<T> task;
+
+        private Fork(CompletableFuture<T> future, Supplier<T> task) {
+            this.future = future;
+            this.task = task;
+        }
+
+        public T join() {
+            if (future == null) {
+                return task.get();
+            }
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        private void cancel() {
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+}
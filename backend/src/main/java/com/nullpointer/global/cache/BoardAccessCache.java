@@ -0,0 +1,318 @@
+package com.nullpointer.global.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nullpointer.domain.board.mapper.BoardMapper;
+import com.nullpointer.domain.board.vo.BoardVo;
+import com.nullpointer.domain.member.vo.enums.Role;
+import com.nullpointer.global.common.enums.RedisKeyType;
+import com.nullpointer.global.util.LocalCacheUtil;
+import com.nullpointer.global.util.RedisUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 보드 권한 캐시 (2단계)
+ * - 1차: 서버 로컬 메모리 (짧은 TTL)
+ * - 2차: Redis Hash (np:board:access:{boardId} -> "board", "u:{userId}")
+ * - 캐시 대상: 보드 기본 정보(팀/공개 범위/제목), (boardId, userId) -> 실질 권한
+ * - 무효화: 멤버/보드/팀 이벤트 -> 트랜잭션 커밋 후 Redis 삭제 + Pub/Sub으로 다른 서버 로컬 캐시 삭제
+ * - 조회 도중 무효화 대비: 커밋 전 값을 읽은 조회가 무효화 뒤에 다시 저장하지 않도록
+ *   Redis는 세대 번호(np:board:access-gen:{boardId}), 로컬은 무효화 횟수가 조회 시작 때와 같을 때만 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardAccessCache implements MessageListener {
+
+    private static final long LOCAL_TTL_MILLIS = 30 * 1000L; // 30초
+    private static final int LOCAL_MAX_BOARDS = 5_000;
+
+    private static final String BOARD_FIELD = "board";
+    private static final String USER_FIELD_PREFIX = "u:";
+    private static final String NO_ROLE = "NONE";
+
+    // KEYS: 권한 캐시, 세대 번호 / ARGV: 조회 시작 때 세대 번호, field, value, ttl(ms)
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end
+            redis.call('HSET', KEYS[1], ARGV[2], ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return 1
+            """, Long.class);
+
+    // KEYS: 권한 캐시, 세대 번호 / ARGV: field (빈 값이면 보드 전체), ttl(ms)
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            if ARGV[1] == '' then redis.call('DEL', KEYS[1]) else redis.call('HDEL', KEYS[1], ARGV[1]) end
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final RedisUtil redisUtil;
+    private final ObjectMapper objectMapper;
+    private final BoardMapper boardMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // boardId -> 보드 기본 정보
+    private final Map<Long, LocalEntry<BoardVo>> localBoards = new ConcurrentHashMap<>();
+    // boardId -> (userId -> 권한), 권한 없음은 Optional.empty 대신 NO_ROLE 문자열로 저장
+    private final Map<Long, Map<Long, LocalEntry<String>>> localRoles = new ConcurrentHashMap<>();
+
+    // 로컬 무효화 횟수 - 조회 도중 무효화가 일어나면 조회한 (이전) 값을 로컬에 저장하지 않음
+    private final AtomicLong evictions = new AtomicLong();
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyType.BOARD_ACCESS_CHANNEL.getPrefix()));
+    }
+
+    // ========================================================
+    //  1. 조회
+    // ========================================================
+
+    /**
+     * 보드 기본 정보 조회 (없으면 null)
+     * - 호출 측에서 수정해도 캐시에 영향이 없도록 복사본 반환
+     */
+    public BoardVo getBoard(Long boardId) {
+        LocalEntry<BoardVo> local = localBoards.get(boardId);
+        if (local != null && !local.isExpired()) {
+            return copyOf(local.value());
+        }
+
+        long evictionsBefore = evictions.get();
+        BoardVo board = readBoard(redisUtil.getHashField(RedisKeyType.BOARD_ACCESS.getKey(boardId), BOARD_FIELD));
+        boolean cacheable = true;
+
+        if (board == null) {
+            String gen = currentGen(boardId);
+            board = boardMapper.findBoardByBoardId(boardId).map(BoardAccessCache::copyOf).orElse(null);
+            if (board == null) {
+                return null;
+            }
+            cacheable = writeBoard(boardId, gen, board);
+        }
+
+        if (cacheable && evictions.get() == evictionsBefore) {
+            putLocalBoard(boardId, board);
+        }
+        return copyOf(board);
+    }
+
+    /**
+     * (boardId, userId) 실질 권한 조회
+     * - 캐시에 없으면 loader로 계산 후 저장 (권한 없음(null)도 저장)
+     */
+    public Role getRole(Long boardId, Long userId, Supplier<Role> loader) {
+        Map<Long, LocalEntry<String>> boardRoles = localRoles.get(boardId);
+        LocalEntry<String> local = boardRoles != null ? boardRoles.get(userId) : null;
+        if (local != null && !local.isExpired()) {
+            return toRole(local.value());
+        }
+
+        long evictionsBefore = evictions.get();
+        String field = USER_FIELD_PREFIX + userId;
+        String cached = redisUtil.getHashField(RedisKeyType.BOARD_ACCESS.getKey(boardId), field);
+        boolean cacheable = true;
+
+        if (cached == null) {
+            // 세대 번호를 먼저 읽은 뒤 조회 -> 그 사이 무효화되면 Redis에 저장되지 않음
+            String gen = currentGen(boardId);
+            Role role = loader.get();
+            cached = role != null ? role.name() : NO_ROLE;
+            cacheable = putIfCurrentGen(boardId, gen, field, cached);
+        }
+
+        if (cacheable && evictions.get() == evictionsBefore) {
+            putLocalRole(boardId, userId, cached);
+        }
+        return toRole(cached);
+    }
+
+    // ========================================================
+    //  2. 무효화 (트랜잭션 중이면 커밋 후 실행)
+    // ========================================================
+
+    // 보드 전체 무효화 (보드 수정/삭제, 보드 권한 변경)
+    public void evictBoard(Long boardId) {
+        runAfterCommit(() -> {
+            evictRedis(boardId, "");
+            broadcast("B:" + boardId);
+        });
+    }
+
+    // 보드 멤버 1명 무효화 (보드 초대/추방/탈퇴)
+    public void evictMember(Long boardId, Long userId) {
+        runAfterCommit(() -> {
+            evictRedis(boardId, USER_FIELD_PREFIX + userId);
+            broadcast("M:" + boardId + ":" + userId);
+        });
+    }
+
+    // 팀 하위 보드 전체 무효화 (팀 수정/삭제)
+    public void evictTeam(Long teamId) {
+        List<Long> boardIds = boardMapper.findBoardIdsByTeamId(teamId);
+        boardIds.forEach(this::evictBoard);
+    }
+
+    // 팀 하위 보드에서 특정 멤버 무효화 (팀 초대 수락/추방/탈퇴/권한 변경)
+    public void evictTeamMember(Long teamId, Long userId) {
+        List<Long> boardIds = boardMapper.findBoardIdsByTeamId(teamId);
+        boardIds.forEach(boardId -> evictMember(boardId, userId));
+    }
+
+    // 다른 서버(자신 포함)에서 보낸 무효화 메시지 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            evictLocal(body);
+        } catch (RuntimeException e) {
+            log.warn("보드 권한 캐시 무효화 메시지 처리 실패: {}", body);
+        }
+    }
+
+    /**
+     * Helper Methods
+     */
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    // Redis 캐시 삭제 + 세대 번호 증가 (field가 빈 값이면 보드 전체)
+    private void evictRedis(Long boardId, String field) {
+        redisUtil.executeScript(EVICT_SCRIPT,
+                List.of(RedisKeyType.BOARD_ACCESS.getKey(boardId), RedisKeyType.BOARD_ACCESS_GEN.getKey(boardId)),
+                field, String.valueOf(RedisKeyType.BOARD_ACCESS_GEN.getDefaultTtl()));
+    }
+
+    // 현재 세대 번호 (무효화된 적 없으면 "0")
+    private String currentGen(Long boardId) {
+        String gen = redisUtil.getData(RedisKeyType.BOARD_ACCESS_GEN.getKey(boardId));
+        return gen != null ? gen : "0";
+    }
+
+    // 세대 번호가 조회 시작 때와 같을 때만 저장, 저장 여부 반환
+    private boolean putIfCurrentGen(Long boardId, String gen, String field, String value) {
+        Long stored = redisUtil.executeScript(PUT_SCRIPT,
+                List.of(RedisKeyType.BOARD_ACCESS.getKey(boardId), RedisKeyType.BOARD_ACCESS_GEN.getKey(boardId)),
+                gen, field, value, String.valueOf(RedisKeyType.BOARD_ACCESS.getDefaultTtl()));
+        return stored != null && stored == 1L;
+    }
+
+    // 로컬 캐시를 먼저 비운 뒤 다른 서버에 전파
+    private void broadcast(String message) {
+        evictLocal(message);
+        redisUtil.publish(RedisKeyType.BOARD_ACCESS_CHANNEL.getPrefix(), message);
+    }
+
+    // 무효화 메시지 형식: "B:{boardId}" (보드 전체) | "M:{boardId}:{userId}" (멤버 1명)
+    private void evictLocal(String message) {
+        String[] parts = message.split(":");
+        Long boardId = Long.valueOf(parts[1]);
+        evictions.incrementAndGet();
+
+        if ("B".equals(parts[0])) {
+            localBoards.remove(boardId);
+            localRoles.remove(boardId);
+            return;
+        }
+
+        Map<Long, LocalEntry<String>> boardRoles = localRoles.get(boardId);
+        if (boardRoles != null) {
+            boardRoles.remove(Long.valueOf(parts[2]));
+        }
+    }
+
+    // 로컬 캐시가 가득 차면 만료/오래된 항목부터 일부만 삭제 (전체를 비우면 모든 요청이 한꺼번에 Redis로 몰림)
+    private void putLocalBoard(Long boardId, BoardVo board) {
+        long now = System.currentTimeMillis();
+        LocalCacheUtil.trim(localBoards, LOCAL_MAX_BOARDS, LocalEntry::expiresAt, now);
+        localBoards.put(boardId, new LocalEntry<>(board, now + LOCAL_TTL_MILLIS));
+    }
+
+    // 권한은 보드 단위로 묶여 있으므로 보드별 가장 최근 저장 시각 기준으로 보드 묶음을 삭제
+    private void putLocalRole(Long boardId, Long userId, String role) {
+        long now = System.currentTimeMillis();
+        LocalCacheUtil.trim(localRoles, LOCAL_MAX_BOARDS, BoardAccessCache::latestExpiresAt, now);
+        localRoles.computeIfAbsent(boardId, id -> new ConcurrentHashMap<>())
+                .put(userId, new LocalEntry<>(role, now + LOCAL_TTL_MILLIS));
+    }
+
+    private static long latestExpiresAt(Map<Long, LocalEntry<String>> boardRoles) {
+        long latest = 0L;
+        for (LocalEntry<String> entry : boardRoles.values()) {
+            latest = Math.max(latest, entry.expiresAt());
+        }
+        return latest;
+    }
+
+    private boolean writeBoard(Long boardId, String gen, BoardVo board) {
+        try {
+            return putIfCurrentGen(boardId, gen, BOARD_FIELD, objectMapper.writeValueAsString(board));
+        } catch (JsonProcessingException e) {
+            log.warn("보드 권한 캐시 저장 실패 (boardId: {}): {}", boardId, e.getMessage());
+            return false;
+        }
+    }
+
+    private BoardVo readBoard(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, BoardVo.class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static Role toRole(String value) {
+        return NO_ROLE.equals(value) ? null : Role.valueOf(value);
+    }
+
+    // 권한 판단/알림에 필요한 필드만 복사
+    private static BoardVo copyOf(BoardVo board) {
+        return BoardVo.builder()
+                .id(board.getId())
+                .teamId(board.getTeamId())
+                .teamName(board.getTeamName())
+                .title(board.getTitle())
+                .description(board.getDescription())
+                .visibility(board.getVisibility())
+                .build();
+    }
+
+    private record LocalEntry<T>(T value, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
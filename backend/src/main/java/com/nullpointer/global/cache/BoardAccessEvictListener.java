@@ -0,0 +1,85 @@
+package com.nullpointer.global.cache;
+
+import com.nullpointer.domain.board.event.BoardEvent;
+import com.nullpointer.domain.invitation.event.InvitationEvent;
+import com.nullpointer.domain.member.event.MemberEvent;
+import com.nullpointer.domain.notification.vo.enums.NotificationType;
+import com.nullpointer.domain.team.event.TeamEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 보드 권한 캐시 무효화 리스너
+ * - 기존 멤버/보드/팀/초대 이벤트를 구독하여 BoardAccessCache 무효화
+ * - 팀 단위 변경(팀 이름, 팀 멤버)은 보드 소켓 메시지가 없으므로 BoardViewCache 스냅샷도 여기서 무효화 (변경 기록 없음)
+ * - 동기 실행: 발행 트랜잭션이 있으면 각 캐시에서 커밋 후로 미룸
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardAccessEvictListener {
+
+    // 보드 멤버십이 바뀌는 알림 타입
+    private static final Set<NotificationType> BOARD_MEMBERSHIP_TYPES = EnumSet.of(
+            NotificationType.BOARD_INVITE,
+            NotificationType.BOARD_MEMBER_KICKED,
+            NotificationType.BOARD_MEMBER_LEFT
+    );
+
+    // 팀 멤버십이 바뀌는 알림 타입 (팀 하위 보드 권한에 영향)
+    private static final Set<NotificationType> TEAM_MEMBERSHIP_TYPES = EnumSet.of(
+            NotificationType.INVITE_ACCEPTED,
+            NotificationType.TEAM_MEMBER_KICKED,
+            NotificationType.TEAM_MEMBER_LEFT
+    );
+
+    private final BoardAccessCache boardAccessCache;
+    private final BoardViewCache boardViewCache;
+
+    // 권한 변경
+    @EventListener
+    public void handleMemberEvent(MemberEvent event) {
+        if (event.getTargetType() == MemberEvent.TargetType.BOARD) {
+            // OWNER 위임 시 기존 OWNER 권한도 바뀌므로 보드 전체 무효화
+            boardAccessCache.evictBoard(event.getTargetId());
+        } else {
+            boardAccessCache.evictTeamMember(event.getTargetId(), event.getTargetUserId());
+            boardViewCache.invalidateTeam(event.getTargetId());
+        }
+    }
+
+    // 보드 수정(공개 범위/제목)/삭제
+    @EventListener
+    public void handleBoardEvent(BoardEvent event) {
+        if (event.getEventType() == BoardEvent.EventType.UPDATE_BOARD
+                || event.getEventType() == BoardEvent.EventType.DELETE_BOARD) {
+            boardAccessCache.evictBoard(event.getBoardId());
+        }
+    }
+
+    // 팀 수정(팀 이름)/삭제
+    @EventListener
+    public void handleTeamEvent(TeamEvent event) {
+        if (event.getEventType() == TeamEvent.EventType.UPDATE_TEAM
+                || event.getEventType() == TeamEvent.EventType.DELETE_TEAM) {
+            boardAccessCache.evictTeam(event.getTeamId());
+            boardViewCache.invalidateTeam(event.getTeamId());
+        }
+    }
+
+    // 초대/추방/탈퇴 (sender, receiver 중 누가 대상인지는 타입마다 달라 둘 다 무효화)
+    @EventListener
+    public void handleInvitationEvent(InvitationEvent event) {
+        if (BOARD_MEMBERSHIP_TYPES.contains(event.getType())) {
+            boardAccessCache.evictMember(event.getTargetId(), event.getSenderId());
+            boardAccessCache.evictMember(event.getTargetId(), event.getReceiverId());
+        } else if (TEAM_MEMBERSHIP_TYPES.contains(event.getType())) {
+            boardAccessCache.evictTeamMember(event.getTargetId(), event.getSenderId());
+            boardAccessCache.evictTeamMember(event.getTargetId(), event.getReceiverId());
+            boardViewCache.invalidateTeam(event.getTargetId());
+        }
+    }
+}
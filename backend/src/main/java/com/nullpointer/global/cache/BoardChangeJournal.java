@@ -0,0 +1,185 @@
+package com.nullpointer.global.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nullpointer.domain.board.dto.response.BoardChangeResponse;
+import com.nullpointer.domain.board.dto.response.BoardChangesResponse;
+import com.nullpointer.domain.card.dto.CardResponse;
+import com.nullpointer.domain.checklist.vo.ChecklistVo;
+import com.nullpointer.domain.comment.dto.CommentResponse;
+import com.nullpointer.domain.file.dto.FileResponse;
+import com.nullpointer.domain.list.dto.ListResponse;
+import com.nullpointer.global.common.enums.RedisKeyType;
+import com.nullpointer.global.util.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 보드 변경 기록 (Redis Sorted Set, np:board:journal:{boardId})
+ * - 보드 버전 증가와 변경 기록 추가를 Lua 스크립트로 한 번에 처리 (score = 증가된 버전)
+ * - member: "{seq}:{json}" (type, senderId, entityId, data)
+ * - 보드당 최근 MAX_SIZE건만 보관, 그보다 오래된 버전부터는 전체 다시 조회
+ * - 재연결한 클라이언트는 마지막으로 받은 버전 이후 변경만 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardChangeJournal {
+
+    // 보드당 최대 보관 개수
+    private static final int MAX_SIZE = 500;
+
+    // KEYS: version, journal / ARGV: json, maxSize, ttl(ms)
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+            local seq = redis.call('INCR', KEYS[1])
+            redis.call('ZADD', KEYS[2], seq, seq .. ':' .. ARGV[1])
+            local over = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[2])
+            if over > 0 then redis.call('ZREMRANGEBYRANK', KEYS[2], 0, over - 1) end
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            return seq
+            """, Long.class);
+
+    private final RedisUtil redisUtil;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 보드 버전 증가 + 변경 기록 추가 (커밋 후 호출)
+     * - 증가된 버전 반환
+     */
+    public long append(Long boardId, String type, Long senderId, Object data) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("type", type);
+        entry.put("senderId", senderId);
+        entry.put("entityId", entityIdOf(data));
+        entry.put("data", data);
+
+        Long seq = redisUtil.executeScript(APPEND_SCRIPT,
+                List.of(RedisKeyType.BOARD_VERSION.getKey(boardId), RedisKeyType.BOARD_JOURNAL.getKey(boardId)),
+                toJson(entry), String.valueOf(MAX_SIZE), String.valueOf(RedisKeyType.BOARD_JOURNAL.getDefaultTtl()));
+        return seq != null ? seq : 0L;
+    }
+
+    /**
+     * since 이후 변경 조회
+     * - since가 현재 버전과 같으면 빈 목록
+     * - since + 1부터 빠짐없이 남아 있지 않으면 (오래됨, 만료, 버전 초기화) 전체 다시 조회
+     */
+    public BoardChangesResponse readSince(Long boardId, long since) {
+        String value = redisUtil.getData(RedisKeyType.BOARD_VERSION.getKey(boardId));
+        long current = value != null ? Long.parseLong(value) : 0L;
+
+        if (since > current || current - since > MAX_SIZE) {
+            return BoardChangesResponse.reload(current);
+        }
+        if (since == current) {
+            return BoardChangesResponse.builder()
+                    .revision(current)
+                    .fullReload(false)
+                    .changes(List.of())
+                    .build();
+        }
+
+        // 현재 버전까지만 조회 (조회 도중 추가된 변경은 다음 조회에서)
+        List<String> entries = redisUtil.getSortedSetRangeByScore(RedisKeyType.BOARD_JOURNAL.getKey(boardId), since + 1, current);
+
+        List<BoardChangeResponse> changes = new ArrayList<>(entries.size());
+        long expected = since + 1;
+        for (String entry : entries) {
+            BoardChangeResponse change = parse(entry);
+            if (change == null || change.getSeq() != expected) {
+                return BoardChangesResponse.reload(current);
+            }
+            changes.add(change);
+            expected++;
+        }
+        if (expected != current + 1) {
+            return BoardChangesResponse.reload(current);
+        }
+
+        return BoardChangesResponse.builder()
+                .revision(current)
+                .fullReload(false)
+                .changes(changes)
+                .build();
+    }
+
+    /**
+     * Helper Methods
+     */
+
+    private String toJson(Map<String, Object> entry) {
+        try {
+            return objectMapper.writeValueAsString(entry);
+        } catch (JsonProcessingException e) {
+            // 데이터 직렬화 실패 시 타입만 기록 (클라이언트는 해당 부분 다시 조회)
+            log.warn("보드 변경 기록 직렬화 실패 (type: {}): {}", entry.get("type"), e.getMessage());
+            entry.put("data", null);
+            try {
+                return objectMapper.writeValueAsString(entry);
+            } catch (JsonProcessingException ex) {
+                return "{}";
+            }
+        }
+    }
+
+    // "{seq}:{json}"
+    private BoardChangeResponse parse(String entry) {
+        int sep = entry.indexOf(':');
+        if (sep < 0) {
+            return null;
+        }
+        try {
+            JsonNode node = objectMapper.readTree(entry.substring(sep + 1));
+            JsonNode data = node.get("data");
+            return BoardChangeResponse.builder()
+                    .seq(Long.parseLong(entry.substring(0, sep)))
+                    .type(node.path("type").asText(null))
+                    .senderId(longOrNull(node.get("senderId")))
+                    .entityId(longOrNull(node.get("entityId")))
+                    .data(data == null || data.isNull() ? null : data)
+                    .build();
+        } catch (JsonProcessingException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Long longOrNull(JsonNode node) {
+        return node == null || node.isNull() ? null : node.asLong();
+    }
+
+    // 변경된 항목 id (소켓 데이터 형태별)
+    private static Long entityIdOf(Object data) {
+        if (data instanceof CardResponse card) {
+            return card.getId();
+        }
+        if (data instanceof ListResponse list) {
+            return list.getId();
+        }
+        if (data instanceof ChecklistVo checklist) {
+            return checklist.getId();
+        }
+        if (data instanceof CommentResponse comment) {
+            return comment.getId();
+        }
+        if (data instanceof FileResponse file) {
+            return file.getId();
+        }
+        if (data instanceof Map<?, ?> map) {
+            for (String key : List.of("id", "cardId", "listId")) {
+                if (map.get(key) instanceof Number id) {
+                    return id.longValue();
+                }
+            }
+        }
+        return null;
+    }
+}
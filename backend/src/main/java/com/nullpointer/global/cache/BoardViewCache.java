@@ -0,0 +1,306 @@
+package com.nullpointer.global.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nullpointer.domain.board.dto.response.BoardViewResponse;
+import com.nullpointer.domain.board.mapper.BoardMapper;
+import com.nullpointer.domain.board.vo.enums.BoardViewMode;
+import com.nullpointer.global.common.enums.RedisKeyType;
+import com.nullpointer.global.util.LocalCacheUtil;
+import com.nullpointer.global.util.RedisUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 보드 페이지 스냅샷 캐시 (2단계)
+ * - 캐시 대상: 보드 페이지 중 사용자와 무관한 부분 (보드/리스트/카드/멤버/설정, 첨부파일 URL 변환 완료)
+ *   사용자별 부분(즐겨찾기)은 호출 측에서 덧씌움, 조회 권한은 BoardAccessCache에서 확인
+ * - 1차: 서버 로컬 메모리 (짧은 TTL)
+ * - 2차: Redis String (np:board:view:{boardId}[:summary] -> "{version}.{gen}:{json}")
+ * - 조회 방식(BoardViewMode)별로 따로 저장, 무효화는 보드 단위로 함께 처리
+ * - 보드 버전(np:board:version:{boardId}) 또는 세대 번호(np:board:view-gen:{boardId})가 바뀌면 이전 스냅샷은 사용하지 않음
+ *   조건부 조회(ETag)도 같은 버전/세대 번호로 판단
+ * - 무효화 (트랜잭션 커밋 후, Pub/Sub으로 다른 서버 로컬 캐시 삭제)
+ *   보드 소켓 메시지 발송(SocketSender): 버전 증가 + 변경 기록(BoardChangeJournal)
+ *   스냅샷에만 보이는 변경(프로필, 팀 이름/멤버 - UserServiceImpl, BoardAccessEvictListener): 세대 번호만 증가, 변경 기록 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardViewCache implements MessageListener {
+
+    private static final long LOCAL_TTL_MILLIS = 30 * 1000L; // 30초
+    private static final int LOCAL_MAX_BOARDS = 500;
+
+    // 조회 도중 보드가 바뀌었을 때 다시 조회하는 최대 횟수
+    private static final int LOAD_ATTEMPTS = 2;
+
+    // 304 응답으로 다운로드 URL을 재사용할 수 있는 구간
+    // - 스냅샷의 URL은 남은 유효기간 20분 이상으로 발급, 스냅샷은 최대 10분 사용 -> 응답 시점에 10분 이상 남음
+    private static final long PRESIGN_WINDOW_MILLIS = 5 * 60 * 1000L; // 5분
+
+    private final RedisUtil redisUtil;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final BoardMapper boardMapper;
+    private final SingleFlight<String, BoardViewResponse> boardViewFlight;
+    private final BoardChangeJournal boardChangeJournal;
+
+    // boardId -> 조회 방식별 스냅샷
+    private final Map<Long, Map<BoardViewMode, LocalEntry>> localViews = new ConcurrentHashMap<>();
+    // 로컬 무효화 횟수 (조회 도중 무효화된 스냅샷을 로컬에 저장하지 않기 위해 사용)
+    private final AtomicLong evictions = new AtomicLong();
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyType.BOARD_VIEW_CHANNEL.getPrefix()));
+    }
+
+    // ========================================================
+    //  1. 조회
+    // ========================================================
+
+    /**
+     * 보드 스냅샷 조회
+     * - 캐시에 없거나 버전이 다르면 loader로 만든 뒤 저장
+     * - 반환된 스냅샷은 여러 요청이 공유하므로 호출 측에서 수정하지 않음 (toBuilder로 복사 후 덧씌움)
+     */
+    public BoardViewResponse get(Long boardId, BoardViewMode mode, Supplier<BoardViewResponse> loader) {
+        Map<BoardViewMode, LocalEntry> locals = localViews.get(boardId);
+        LocalEntry local = locals != null ? locals.get(mode) : null;
+        if (local != null && !local.isExpired()) {
+            return local.view();
+        }
+
+        // 버전/세대 번호를 먼저 읽어야 조회 도중 변경되더라도 이전 태그로 저장됨
+        long evictionsBefore = evictions.get();
+        ViewTag tag = readTag(boardId);
+        String key = mode == BoardViewMode.FULL
+                ? RedisKeyType.BOARD_VIEW.getKey(boardId)
+                : RedisKeyType.BOARD_VIEW.getKey(boardId + ":" + mode.name().toLowerCase());
+
+        // 같은 보드/버전을 동시에 조회하면 1번만 조회 (소켓 메시지 수신 후 구독자 전체가 다시 조회하는 경우)
+        BoardViewResponse view = boardViewFlight.execute(boardId + ":" + mode + ":" + tag.value(), () -> {
+            BoardViewResponse cached = readView(redisUtil.getData(key), tag.value());
+            if (cached != null) {
+                return cached;
+            }
+            return load(boardId, key, tag, loader);
+        });
+
+        if (evictions.get() == evictionsBefore) {
+            putLocal(boardId, mode, view);
+        }
+        return view;
+    }
+
+    // 현재 보드 버전 (조회 요청 합치기 키 등에 사용)
+    public String version(Long boardId) {
+        String version = redisUtil.getData(RedisKeyType.BOARD_VERSION.getKey(boardId));
+        return version != null ? version : "0";
+    }
+
+    /**
+     * 보드 버전 + 세대 번호 기반 ETag (조건부 조회)
+     * - scope: 응답 종류와 대상 id (ex. "cards-3"), 사용자별 응답이면 사용자별 값 포함
+     * - 데이터 조회 전에 읽으므로 응답 데이터가 ETag보다 최신일 수는 있어도 오래될 수는 없음
+     */
+    public String eTag(Long boardId, String scope) {
+        return "\"" + scope + "-v" + readTag(boardId).value() + "\"";
+    }
+
+    /**
+     * 첨부파일 다운로드 URL이 포함된 응답의 ETag
+     * - URL 발급 구간(PRESIGN_WINDOW)이 바뀌면 ETag도 바뀌어 304로 만료된 URL을 계속 쓰지 않음
+     */
+    public String eTagWithPresignedUrls(Long boardId, String scope) {
+        return eTag(boardId, scope + "-p" + System.currentTimeMillis() / PRESIGN_WINDOW_MILLIS);
+    }
+
+    // ========================================================
+    //  2. 무효화 (트랜잭션 중이면 커밋 후 실행)
+    // ========================================================
+
+    /**
+     * 보드 버전 증가 + 변경 기록 (커밋 후 호출, SocketSender)
+     * - 증가된 버전 반환, 실패 시 null
+     * - 버전은 변경 기록 순번으로도 쓰이므로 만료 없이 유지 (BoardChangeJournal)
+     */
+    public Long record(Long boardId, String type, Long senderId, Object data) {
+        try {
+            long revision = boardChangeJournal.append(boardId, type, senderId, data);
+            broadcast(boardId);
+            return revision;
+        } catch (RuntimeException e) {
+            // 버전 증가 실패 시 로컬만 비움 (Redis 스냅샷은 TTL로 만료)
+            evictLocal(boardId);
+            log.warn("보드 버전 증가 실패 (boardId: {}): {}", boardId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 스냅샷만 무효화 (보드 버전/변경 기록은 그대로)
+     * - 보드 데이터가 아니라 스냅샷에 함께 담긴 정보가 바뀐 경우: 멤버 닉네임/프로필 이미지, 팀 이름/멤버
+     * - 세대 번호를 올려 이전 스냅샷(조회 중이던 것 포함)을 사용하지 않게 함
+     */
+    public void invalidate(Long boardId) {
+        runAfterCommit(() -> {
+            try {
+                redisUtil.increment(RedisKeyType.BOARD_VIEW_GEN.getKey(boardId), RedisKeyType.BOARD_VIEW_GEN.getDefaultTtl());
+                broadcast(boardId);
+            } catch (RuntimeException e) {
+                evictLocal(boardId);
+                log.warn("보드 스냅샷 무효화 실패 (boardId: {}): {}", boardId, e.getMessage());
+            }
+        });
+    }
+
+    // 팀 하위 보드 전체 스냅샷 무효화 (팀 이름, 팀 멤버 변경)
+    public void invalidateTeam(Long teamId) {
+        List<Long> boardIds = boardMapper.findBoardIdsByTeamId(teamId);
+        boardIds.forEach(this::invalidate);
+    }
+
+    // 다른 서버(자신 포함)에서 보낸 무효화 메시지 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            evictLocal(Long.valueOf(body));
+        } catch (RuntimeException e) {
+            log.warn("보드 스냅샷 캐시 무효화 메시지 처리 실패: {}", body);
+        }
+    }
+
+    /**
+     * Helper Methods
+     */
+
+    /**
+     * 캐시 미스 시 스냅샷 조회 후 저장
+     * - loader의 조회들은 각자 다른 트랜잭션에서 동시에 실행될 수 있음 (ParallelReader)
+     * - 조회 후 태그가 그대로면 조회 도중 커밋된 보드 변경이 없으므로 한 시점의 스냅샷으로 보고 저장
+     *   (커밋 직후 버전 증가 전에 조회된 변경은 곧 버전이 올라 이 스냅샷은 더 이상 사용되지 않고, 소켓 메시지로 다시 반영됨)
+     * - 태그가 바뀌었으면 새 태그로 다시 조회 (최대 LOAD_ATTEMPTS회), 끝까지 바뀌면 저장하지 않고 반환
+     *   -> 응답의 revision은 조회 전 버전이므로 클라이언트는 이후 변경을 소켓/변경 기록으로 다시 받음
+     */
+    private BoardViewResponse load(Long boardId, String key, ViewTag tag, Supplier<BoardViewResponse> loader) {
+        ViewTag current = tag;
+        BoardViewResponse loaded = null;
+        for (int attempt = 0; attempt < LOAD_ATTEMPTS; attempt++) {
+            // 응답에 기준 버전 포함 (클라이언트는 이후 변경을 since={revision}으로 조회)
+            loaded = loader.get().toBuilder()
+                    .revision(current.version())
+                    .build();
+
+            ViewTag after = readTag(boardId);
+            if (after.equals(current)) {
+                writeView(key, current.value(), loaded);
+                return loaded;
+            }
+            current = after;
+        }
+        log.debug("보드 스냅샷 조회 중 계속 변경되어 캐시하지 않음 (boardId: {})", boardId);
+        return loaded;
+    }
+
+    // 보드 버전 + 세대 번호 (MGET 1회)
+    private ViewTag readTag(Long boardId) {
+        List<String> values = redisUtil.getDataList(List.of(
+                RedisKeyType.BOARD_VERSION.getKey(boardId), RedisKeyType.BOARD_VIEW_GEN.getKey(boardId)));
+        long version = values.get(0) != null ? Long.parseLong(values.get(0)) : 0L;
+        long gen = values.get(1) != null ? Long.parseLong(values.get(1)) : 0L;
+        return new ViewTag(version, gen);
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    // 로컬 캐시를 먼저 비운 뒤 다른 서버에 전파
+    private void broadcast(Long boardId) {
+        evictLocal(boardId);
+        redisUtil.publish(RedisKeyType.BOARD_VIEW_CHANNEL.getPrefix(), String.valueOf(boardId));
+    }
+
+    private void evictLocal(Long boardId) {
+        evictions.incrementAndGet();
+        localViews.remove(boardId);
+    }
+
+    // 로컬 캐시가 가득 차면 만료/오래된 보드부터 일부만 삭제 (전체를 비우면 모든 조회가 한꺼번에 Redis로 몰림)
+    private void putLocal(Long boardId, BoardViewMode mode, BoardViewResponse view) {
+        long now = System.currentTimeMillis();
+        LocalCacheUtil.trim(localViews, LOCAL_MAX_BOARDS, BoardViewCache::latestExpiresAt, now);
+        localViews.computeIfAbsent(boardId, id -> new ConcurrentHashMap<>())
+                .put(mode, new LocalEntry(view, now + LOCAL_TTL_MILLIS));
+    }
+
+    // 보드의 조회 모드별 스냅샷 중 가장 늦게 만료되는 시각 (모두 만료되면 보드 묶음째 삭제 대상)
+    private static long latestExpiresAt(Map<BoardViewMode, LocalEntry> locals) {
+        long latest = 0L;
+        for (LocalEntry entry : locals.values()) {
+            latest = Math.max(latest, entry.expiresAt());
+        }
+        return latest;
+    }
+
+    private void writeView(String key, String tag, BoardViewResponse view) {
+        try {
+            redisUtil.setDataExpire(key, tag + ":" + objectMapper.writeValueAsString(view),
+                    RedisKeyType.BOARD_VIEW.getDefaultTtl());
+        } catch (JsonProcessingException e) {
+            log.warn("보드 스냅샷 캐시 저장 실패 (boardId: {}): {}", view.getId(), e.getMessage());
+        }
+    }
+
+    // "{version}.{gen}:{json}" 형식, 태그가 다르면 null
+    private BoardViewResponse readView(String cached, String tag) {
+        if (cached == null || !cached.startsWith(tag + ":")) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(cached.substring(tag.length() + 1), BoardViewResponse.class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    // 스냅샷 태그 ("{version}.{gen}")
+    private record ViewTag(long version, long gen) {
+        String value() {
+            return version + "." + gen;
+        }
+    }
+
+    private record LocalEntry(BoardViewResponse view, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.nullpointer.global.cache;
+
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 동일 조회 요청 합치기 (single-flight)
+ * - 같은 키로 조회 중인 요청이 있으면 DB를 다시 조회하지 않고 먼저 시작한 요청의 결과를 함께 받음
+ * - 소켓 메시지(data = null) 수신 후 보드 구독자 전체가 동시에 다시 조회하는 경우 대비
+ * - 결과 객체는 대기 중인 요청이 공유하므로 호출 측에서 수정하지 않음
+ * - 키에 보드 버전을 포함하면 변경 이후 들어온 요청이 변경 이전 조회 결과를 받지 않음
+ */
+public class SingleFlight<K, V> {
+
+    @Getter
+    private final String name;
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    // 통계 (SingleFlightMonitorScheduler에서 주기적으로 기록 후 초기화)
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder collapsed = new LongAdder();
+
+    public SingleFlight(String name) {
+        this.name = name;
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        calls.increment();
+
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            // 이미 조회 중 -> 결과 대기
+            collapsed.increment();
+            return await(running);
+        }
+
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            // 대기 중인 요청도 같은 예외를 받음
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    // 구간 통계 반환 후 초기화
+    public Snapshot snapshotAndReset() {
+        return new Snapshot(name, calls.sumThenReset(), collapsed.sumThenReset(), inFlight.size());
+    }
+
+    /**
+     * Helper Methods
+     */
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 구간 통계
+     * - calls: 전체 요청 수
+     * - collapsed: 다른 요청의 결과를 받은 요청 수 (DB 조회 생략)
+     * - executions: 실제 조회 수 (calls - collapsed)
+     */
+    public record Snapshot(String name, long calls, long collapsed, int inFlight) {
+
+        public long executions() {
+            return calls - collapsed;
+        }
+
+        // 합쳐진 비율 (%)
+        public long collapseRatio() {
+            return calls == 0 ? 0 : collapsed * 100 / calls;
+        }
+
+        public boolean isIdle() {
+            return calls == 0;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.nullpointer.global.cache;
+
+import com.nullpointer.domain.user.mapper.UserMapper;
+import com.nullpointer.domain.user.vo.UserVo;
+import com.nullpointer.global.common.enums.RedisKeyType;
+import com.nullpointer.global.util.LocalCacheUtil;
+import com.nullpointer.global.util.RedisUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 요약 정보 캐시 (서버 로컬 메모리)
+ * - 소켓/알림 이벤트의 작업자(actor) 정보(닉네임, 프로필 이미지) 조회용
+ * - 캐시 대상: id, email, nickname, profileImg, 상태 (비밀번호 등 나머지 필드는 저장하지 않음)
+ * - 무효화: 프로필 수정/비활성화/재활성화/삭제 -> 트랜잭션 커밋 후 Pub/Sub으로 모든 서버 로컬 캐시 삭제
+ * - 메시지 유실 대비 TTL 5분
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSummaryCache implements MessageListener {
+
+    private static final long LOCAL_TTL_MILLIS = 5 * 60 * 1000L; // 5분
+    private static final int LOCAL_MAX_USERS = 10_000;
+
+    private final UserMapper userMapper;
+    private final RedisUtil redisUtil;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // userId -> 사용자 요약 정보
+    private final Map<Long, LocalEntry> localUsers = new ConcurrentHashMap<>();
+
+    // 무효화 횟수 - DB 조회 도중 무효화가 일어나면 조회한 (이전) 값을 저장하지 않음
+    private final AtomicLong evictions = new AtomicLong();
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyType.USER_SUMMARY_CHANNEL.getPrefix()));
+    }
+
+    /**
+     * 사용자 요약 정보 조회 (userMapper.findById와 같은 조건, 삭제된 사용자는 empty)
+     * - 호출 측에서 수정해도 캐시에 영향이 없도록 복사본 반환
+     */
+    public Optional<UserVo> find(Long userId) {
+        LocalEntry local = localUsers.get(userId);
+        if (local != null && !local.isExpired()) {
+            return Optional.of(copyOf(local.user()));
+        }
+
+        long evictionsBefore = evictions.get();
+        Optional<UserVo> loaded = userMapper.findById(userId).map(UserSummaryCache::copyOf);
+
+        // 없는 사용자는 저장하지 않음 (가입 직후 조회 등)
+        loaded.ifPresent(user -> {
+            if (evictions.get() == evictionsBefore) {
+                putLocal(userId, user);
+            }
+        });
+        return loaded.map(UserSummaryCache::copyOf);
+    }
+
+    /**
+     * 사용자 1명 무효화 (트랜잭션 중이면 커밋 후 실행)
+     */
+    public void evict(Long userId) {
+        runAfterCommit(() -> {
+            evictLocal(userId);
+            redisUtil.publish(RedisKeyType.USER_SUMMARY_CHANNEL.getPrefix(), String.valueOf(userId));
+        });
+    }
+
+    // 다른 서버(자신 포함)에서 보낸 무효화 메시지 수신: "{userId}"
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            evictLocal(Long.valueOf(body));
+        } catch (RuntimeException e) {
+            log.warn("사용자 요약 캐시 무효화 메시지 처리 실패: {}", body);
+        }
+    }
+
+    /**
+     * Helper Methods
+     */
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private void evictLocal(Long userId) {
+        evictions.incrementAndGet();
+        localUsers.remove(userId);
+    }
+
+    private void putLocal(Long userId, UserVo user) {
+        // 로컬 캐시가 가득 차면 만료 항목, 그다음 오래된 항목부터 일부만 삭제
+        long now = System.currentTimeMillis();
+        LocalCacheUtil.trim(localUsers, LOCAL_MAX_USERS, LocalEntry::expiresAt, now);
+        localUsers.put(userId, new LocalEntry(user, now + LOCAL_TTL_MILLIS));
+    }
+
+    // 이벤트 발행/권한 판단에 필요한 필드만 복사
+    private static UserVo copyOf(UserVo user) {
+        return UserVo.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .nickname(user.getNickname())
+                .profileImg(user.getProfileImg())
+                .verifyStatus(user.getVerifyStatus())
+                .userStatus(user.getUserStatus())
+                .build();
+    }
+
+    private record LocalEntry(UserVo user, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
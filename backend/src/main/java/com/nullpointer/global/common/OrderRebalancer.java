@@ -0,0 +1,103 @@
+package com.nullpointer.global.common;
+
+import com.nullpointer.domain.card.mapper.CardMapper;
+import com.nullpointer.domain.list.mapper.ListMapper;
+import com.nullpointer.global.common.constants.AppConstants;
+import com.nullpointer.global.common.enums.RedisKeyType;
+import com.nullpointer.global.util.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카드/리스트 순서값 재정렬
+ * - 즉시 재정렬: 이동 위치의 간격이 소진된 경우 (이동 트랜잭션 안에서 실행)
+ * - 지연 재정렬: 간격이 좁아진 경우 Redis Set에 등록 -> OrderRebalanceScheduler가 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderRebalancer {
+
+    private static final String CARD_PREFIX = "card";
+    private static final String LIST_PREFIX = "list";
+
+    private final CardMapper cardMapper;
+    private final ListMapper listMapper;
+    private final RedisUtil redisUtil;
+    private final SocketSender socketSender;
+
+    // 리스트 내 카드 즉시 재정렬
+    public void rebalanceCards(Long listId) {
+        int updated = cardMapper.rebalanceOrderIndexes(listId, AppConstants.ORDER_INDEX_GAP);
+        log.debug("카드 순서 재정렬 (listId: {}, rows: {})", listId, updated);
+    }
+
+    // 보드 내 리스트 즉시 재정렬
+    public void rebalanceLists(Long boardId) {
+        int updated = listMapper.rebalanceOrderIndexes(boardId, AppConstants.ORDER_INDEX_GAP);
+        log.debug("리스트 순서 재정렬 (boardId: {}, rows: {})", boardId, updated);
+    }
+
+    // 카드 지연 재정렬 요청
+    public void requestCardRebalance(Long boardId, Long listId) {
+        redisUtil.addSet(RedisKeyType.ORDER_REBALANCE.getKey(), CARD_PREFIX + ":" + boardId + ":" + listId);
+    }
+
+    // 리스트 지연 재정렬 요청
+    public void requestListRebalance(Long boardId) {
+        redisUtil.addSet(RedisKeyType.ORDER_REBALANCE.getKey(), LIST_PREFIX + ":" + boardId);
+    }
+
+    /**
+     * 대기 중인 재정렬 처리
+     * - 재정렬은 상대 순서를 바꾸지 않으므로 클라이언트에는 갱신 신호만 전송
+     * - SPOP으로 꺼낸 대상은 Set에서 빠지므로, 재정렬이 실패하면 다시 등록해 다음 주기에 재시도
+     *   (형식이 잘못된 값은 재시도해도 실패하므로 버림)
+     */
+    public int drainPending(int batchSize) {
+        List<String> targets = redisUtil.popSet(RedisKeyType.ORDER_REBALANCE.getKey(), batchSize);
+
+        for (String target : targets) {
+            String[] parts = target.split(":");
+            Long boardId;
+            Long listId;
+            try {
+                boardId = Long.valueOf(parts[1]);
+                listId = CARD_PREFIX.equals(parts[0]) ? Long.valueOf(parts[2]) : null;
+            } catch (RuntimeException e) {
+                log.warn("잘못된 재정렬 대상 버림 ({})", target);
+                continue;
+            }
+
+            try {
+                if (listId != null) {
+                    rebalanceCards(listId);
+                    socketSender.sendSocketMessage(boardId, "CARD_REORDER", null, Map.of("listId", listId));
+                } else {
+                    rebalanceLists(boardId);
+                    socketSender.sendSocketMessage(boardId, "LIST_REORDER", null, null);
+                }
+            } catch (Exception e) {
+                log.warn("순서 재정렬 실패, 다시 등록 ({}): {}", target, e.getMessage());
+                requeue(target);
+            }
+        }
+        return targets.size();
+    }
+
+    /**
+     * Helper Methods
+     */
+
+    private void requeue(String target) {
+        try {
+            redisUtil.addSet(RedisKeyType.ORDER_REBALANCE.getKey(), target);
+        } catch (Exception e) {
+            log.error("재정렬 대상 재등록 실패 ({}): {}", target, e.getMessage());
+        }
+    }
+}
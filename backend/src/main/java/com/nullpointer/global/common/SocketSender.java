@@ -1,15 +1,70 @@
 package com.nullpointer.global.common;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nullpointer.domain.card.dto.CardResponse;
 import com.nullpointer.domain.socket.dto.SocketMessage;
-import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import com.nullpointer.global.cache.BoardViewCache;
+import com.nullpointer.global.socket.SocketRelay;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 소켓 메시지 전송
+ * refactor) 서비스 트랜잭션 안에서 동기 전송 -> 커밋 후 목적지별 대기열에 넣고 비동기 전송
+ * - 커밋 후 전송: 롤백된 변경이 클라이언트에 전달되지 않음
+ * - 묶음 전송: flush 간격 안에 같은 카드/같은 타입 메시지가 여러 번 오면 마지막 것만 전송
+ * - 직렬화 1회: JSON 변환 후 byte[]로 SocketRelay에 전달 (구독자 수와 무관)
+ * - 전달 방식은 SocketRelay 구현체가 결정 (단일 서버 SimpleBroker | 다중 서버 Redis Pub/Sub)
+ * - 커밋 후 작업은 목적지별로 예외를 잡음: 이미 커밋된 요청이 500으로 끝나거나
+ *   같은 트랜잭션의 다른 커밋 후 작업(다른 목적지 전송, 캐시 무효화)이 건너뛰어지지 않도록
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class SocketSender {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private static final String BOARD_TOPIC = "/topic/board/";
+    private static final String TEAM_TOPIC = "/topic/team/";
+    private static final String USER_PREFIX = "/user/";
+    private static final String NOTIFICATION_QUEUE = "/queue/notifications";
+
+    private final SocketRelay socketRelay;
+    private final BoardViewCache boardViewCache;
+    private final ObjectMapper objectMapper;
+    private final long flushWindowMillis;
+
+    // 목적지(destination) -> 대기 중인 메시지 (전송 후 비면 제거 -> 대기 중인 목적지만 유지)
+    private final Map<String, Outbox> outboxes = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "SocketFlush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SocketSender(SocketRelay socketRelay,
+                        BoardViewCache boardViewCache,
+                        ObjectMapper objectMapper,
+                        @Value("${app.socket.flush-window-ms:50}") long flushWindowMillis) {
+        this.socketRelay = socketRelay;
+        this.boardViewCache = boardViewCache;
+        this.objectMapper = objectMapper;
+        this.flushWindowMillis = flushWindowMillis;
+    }
 
     public void sendGlobalSocketMessage(String receiverEmail, String type, Long senderId, String message, Object data) {
         SocketMessage socketMessage = SocketMessage.builder()
@@ -21,27 +76,217 @@ public class SocketSender {
 
         // /user/{receiverEmail}/queue/notifications
         // 프론트엔드에서 /user/queue/notifications 구독
-        messagingTemplate.convertAndSendToUser(receiverEmail, "/queue/notifications", socketMessage);
+        // 알림은 건마다 내용이 다르므로 묶지 않음
+        enqueueAfterCommit(userDestination(receiverEmail), uniqueKey(), socketMessage);
     }
 
-    public void sendTeamSocketMessage(Long teamId, String type, Long senderId, Object data) {
-        SocketMessage socketMessage = SocketMessage.builder()
+    /**
+     * 여러 사용자에게 같은 종류의 알림을 한 번에 전송 (알림 일괄 발송)
+     * - dataByEmail: 수신자 이메일 -> 수신자별 payload
+     * - 대기열 등록 후 flush 예약은 1번만
+     */
+    public void sendGlobalSocketMessages(String type, Long senderId, String message, Map<String, ?> dataByEmail) {
+        if (dataByEmail.isEmpty()) return;
+
+        Map<String, SocketMessage> messages = new LinkedHashMap<>();
+        dataByEmail.forEach((receiverEmail, data) -> messages.put(userDestination(receiverEmail), SocketMessage.builder()
                 .type(type)
-                .teamId(teamId)
                 .senderId(senderId)
+                .message(message)
                 .data(data)
-                .build();
+                .build()));
 
-        messagingTemplate.convertAndSend("/topic/team/" + teamId, socketMessage);
+        runAfterCommit(USER_PREFIX + "*" + NOTIFICATION_QUEUE, () -> {
+            List<String> destinations = new ArrayList<>();
+            messages.forEach((destination, socketMessage) -> {
+                try {
+                    if (offer(destination, uniqueKey(), socketMessage)) {
+                        destinations.add(destination);
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("소켓 메시지 대기열 등록 실패 ({}): {}", destination, e.getMessage());
+                }
+            });
+            if (!destinations.isEmpty()) {
+                scheduleFlush(() -> destinations.forEach(this::flush));
+            }
+        });
     }
 
-    public void sendSocketMessage(Long boardId, String type, Long senderId, Object data) {
+    public void sendTeamSocketMessage(Long teamId, String type, Long senderId, Object data) {
         SocketMessage socketMessage = SocketMessage.builder()
                 .type(type)
-                .boardId(boardId)
+                .teamId(teamId)
                 .senderId(senderId)
                 .data(data)
                 .build();
-        messagingTemplate.convertAndSend("/topic/board/" + boardId, socketMessage);
+
+        enqueueAfterCommit(TEAM_TOPIC + teamId, coalesceKey(type, senderId, data), socketMessage);
+    }
+
+    /**
+     * 보드 구독자에게 전송
+     * - 보드 데이터가 바뀌었다는 뜻이므로 커밋 후 보드 버전 증가 + 변경 기록 (BoardViewCache)
+     * - 증가된 버전을 메시지에 포함 (묶음 전송 시 마지막 버전만 전달될 수 있음)
+     * - 버전 증가는 커밋한 스레드에서 실행: 응답 직후 다시 조회(If-None-Match)해도 이전 스냅샷을 받지 않도록
+     *   (실패해도 record가 예외 대신 null을 반환하므로 메시지는 버전 없이 전송)
+     */
+    public void sendSocketMessage(Long boardId, String type, Long senderId, Object data) {
+        String destination = BOARD_TOPIC + boardId;
+        String key = coalesceKey(type, senderId, data);
+
+        runAfterCommit(destination, () -> {
+            Long revision = boardViewCache.record(boardId, type, senderId, data);
+
+            SocketMessage socketMessage = SocketMessage.builder()
+                    .type(type)
+                    .boardId(boardId)
+                    .senderId(senderId)
+                    .data(data)
+                    .revision(revision)
+                    .build();
+
+            if (offer(destination, key, socketMessage)) {
+                scheduleFlush(() -> flush(destination));
+            }
+        });
+    }
+
+    // 보드 접속자 목록 (/topic/board/{boardId}/presence), 최신 목록만 전송
+    public void sendPresenceMessage(Long boardId, Object users) {
+        enqueueAfterCommit(BOARD_TOPIC + boardId + "/presence", "presence", users);
+    }
+
+    // 종료 시 남은 메시지 전송
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        outboxes.keySet().forEach(this::flush);
+    }
+
+    /**
+     * Helper Methods
+     */
+
+    // 트랜잭션 중이면 커밋 후, 아니면 즉시 대기열에 추가
+    private void enqueueAfterCommit(String destination, String key, Object message) {
+        runAfterCommit(destination, () -> {
+            if (offer(destination, key, message)) {
+                scheduleFlush(() -> flush(destination));
+            }
+        });
+    }
+
+    private void runAfterCommit(String destination, Runnable task) {
+        Runnable guarded = () -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("소켓 메시지 대기열 등록 실패 ({}): {}", destination, e.getMessage());
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guarded.run();
+                }
+            });
+        } else {
+            guarded.run();
+        }
+    }
+
+    // 대기열에 추가, flush 예약이 필요하면 true
+    private boolean offer(String destination, String key, Object message) {
+        while (true) {
+            Outbox outbox = outboxes.computeIfAbsent(destination, d -> new Outbox());
+
+            synchronized (outbox) {
+                // flush 후 제거된 대기열이면 새 대기열로 다시 시도
+                if (outbox.closed) {
+                    continue;
+                }
+                // 같은 키는 이전 메시지를 지우고 맨 뒤에 다시 넣음 (순서 유지 + 마지막 상태만 전송)
+                outbox.pending.remove(key);
+                outbox.pending.put(key, message);
+                boolean schedule = !outbox.scheduled;
+                outbox.scheduled = true;
+                return schedule;
+            }
+        }
+    }
+
+    private void scheduleFlush(Runnable flushTask) {
+        try {
+            flushExecutor.schedule(flushTask, flushWindowMillis, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            // 종료 중이면 바로 전송
+            flushTask.run();
+        }
+    }
+
+    private void flush(String destination) {
+        Outbox outbox = outboxes.get(destination);
+        if (outbox == null) {
+            return;
+        }
+
+        List<Object> messages;
+        synchronized (outbox) {
+            messages = new ArrayList<>(outbox.pending.values());
+            outbox.pending.clear();
+            outbox.scheduled = false;
+
+            // 비운 대기열은 제거 (보드/사용자마다 쌓이지 않도록), 이후 offer는 새 대기열 생성
+            outbox.closed = true;
+            outboxes.remove(destination, outbox);
+        }
+
+        for (Object message : messages) {
+            try {
+                // JSON 직렬화는 메시지당 1번만
+                socketRelay.relay(destination, objectMapper.writeValueAsBytes(message));
+            } catch (Exception e) {
+                log.warn("소켓 메시지 전송 실패 ({}): {}", destination, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 묶음 전송 키
+     * - 카드 데이터가 있으면 (타입, 카드 id) -> 카드 전체 상태이므로 마지막 것만 전송
+     * - 카드 하위 항목(체크리스트/댓글/파일, id 포함)은 건마다 다르므로 묶지 않음
+     * - 데이터가 없으면 (타입, 보낸 사람) -> 클라이언트는 어차피 다시 조회하므로 1번이면 충분
+     * - 그 외에는 묶지 않음
+     */
+    private String coalesceKey(String type, Long senderId, Object data) {
+        if (data == null) {
+            return type + "|sender:" + senderId;
+        }
+        if (data instanceof CardResponse card && card.getId() != null) {
+            return type + "|card:" + card.getId();
+        }
+        if (data instanceof Map<?, ?> map && map.get("cardId") != null && !map.containsKey("id")) {
+            return type + "|card:" + map.get("cardId");
+        }
+        return uniqueKey();
+    }
+
+    // /user/{receiverEmail}/queue/notifications
+    private static String userDestination(String receiverEmail) {
+        return USER_PREFIX + StringUtils.replace(receiverEmail, "/", "%2F") + NOTIFICATION_QUEUE;
+    }
+
+    private String uniqueKey() {
+        return "#" + sequence.incrementAndGet();
+    }
+
+    // 목적지별 대기열
+    private static class Outbox {
+        private final LinkedHashMap<String, Object> pending = new LinkedHashMap<>();
+        private boolean scheduled;
+        private boolean closed;
     }
 }
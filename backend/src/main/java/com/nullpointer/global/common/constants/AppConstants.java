@@ -5,6 +5,9 @@ public class AppConstants {
     private AppConstants() {
     }
 
-    // 카드/리스트 생성 시 기본 순서값 (맨 뒤에 위치시키기 위함)
-    public static final int DEFAULT_ORDER_INDEX = 9999;
+    // 카드/리스트 순서값 간격 (이동 시 앞뒤 순서값 사이에 끼워 넣어 1개 행만 수정하기 위함)
+    public static final int ORDER_INDEX_GAP = 1024;
+
+    // 이동 후 앞뒤 간격이 이 값보다 작아지면 백그라운드 재정렬 요청
+    public static final int ORDER_INDEX_MIN_GAP = 8;
 }
@@ -81,9 +81,17 @@ public enum ErrorCode {
     // 카드
     CARD_NOT_FOUND(HttpStatus.NOT_FOUND, "CD001", "존재하지 않는 카드입니다."),
     CARD_DELETED(HttpStatus.GONE, "CD002", "삭제된 카드입니다."),
+    CARD_VERSION_CONFLICT(HttpStatus.CONFLICT, "CD003", "다른 사용자가 먼저 카드를 수정했습니다."),
+
+    // 리스트
+    LIST_VERSION_CONFLICT(HttpStatus.CONFLICT, "L001", "다른 사용자가 먼저 리스트를 수정했습니다."),
 
     // 체크리스트
     CHECKLIST_NOT_FOUND(HttpStatus.NOT_FOUND, "CL001", "존재하지 않는 체크리스트입니다."),
+    CHECKLIST_VERSION_CONFLICT(HttpStatus.CONFLICT, "CL002", "다른 사용자가 먼저 체크리스트를 수정했습니다."),
+
+    // 댓글
+    COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "CM001", "존재하지 않는 댓글입니다."),
 
     // 파일
     FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "F001", "존재하지 않는 파일입니다."),
@@ -10,7 +10,10 @@ public enum RedisKeyType {
      */
     // 인증 토큰
     REFRESH_TOKEN("np:auth:refresh:%s", 60 * 60 * 24 * 14L * 1000L), // 2주
-    BLACKLIST("np:auth:blacklist:%s", 0L),
+    BLACKLIST("np:auth:blacklist:%s", 0L), // %s: 토큰 해시
+
+    // 로그아웃 토큰 전파 채널 (Pub/Sub) - 서버별 로컬 블랙리스트 동기화
+    TOKEN_REVOKE_CHANNEL("np:channel:token-revoke", 0L),
 
     // 이메일 인증 코드/링크
     VERIFICATION_CODE("np:auth:code:%s:%s", 60 * 5L * 1000L), // 5분
@@ -22,12 +25,55 @@ public enum RedisKeyType {
     // 팀 초대 - 7일
     INVITATION("np:team:invitation:%s", 60 * 60 * 24 * 7L * 1000L),
 
-    // 알림 - 30일
+    // 알림 (이전 JSON List 저장 방식, 조회 시 새 구조로 옮긴 뒤 삭제)
     NOTIFICATION("np:notification:%s", 60 * 60 * 24 * 30L * 1000L),
 
+    // 알림 - 30일
+    // index: Sorted Set (member: 알림 id, score: 생성 시각)
+    // data: Hash (알림 id -> JSON), unread: Set (안 읽은 알림 id)
+    NOTIFICATION_INDEX("np:notification:%s:index", 60 * 60 * 24 * 30L * 1000L),
+    NOTIFICATION_DATA("np:notification:%s:data", 60 * 60 * 24 * 30L * 1000L),
+    NOTIFICATION_UNREAD("np:notification:%s:unread", 60 * 60 * 24 * 30L * 1000L),
+
     // 마감 임박 알림 발송 여부 확인 - 2일
     // 중복 알림 발송하지 않기 위해 사용
-    DEADLINE_ALERT("np:notification:deadline:%s", 60 * 60 * 48L * 1000L);
+    DEADLINE_ALERT("np:notification:deadline:%s", 60 * 60 * 48L * 1000L),
+
+    // 마감 임박 스캔 기준점 (Hash: "to" 마지막으로 조회한 구간 끝, "ranAt" 마지막 실행 시각, epoch ms)
+    DEADLINE_WATERMARK("np:scheduler:deadline:watermark", 0L),
+
+    // 보드 권한 캐시 (보드 정보 + 사용자별 실질 권한) - 10분
+    BOARD_ACCESS("np:board:access:%s", 60 * 10L * 1000L),
+
+    // 보드 권한 캐시 세대 번호 (무효화마다 증가, 조회 도중 무효화되면 캐시에 저장하지 않음) - 10분
+    BOARD_ACCESS_GEN("np:board:access-gen:%s", 60 * 10L * 1000L),
+
+    // 보드 페이지 스냅샷 ("{version}:{json}", 사용자와 무관한 부분만) - 10분 (첨부파일 URL 유효기간 1시간보다 짧게)
+    BOARD_VIEW("np:board:view:%s", 60 * 10L * 1000L),
+
+    // 보드 버전 (보드 소켓 메시지 발송 시 증가, 변경 기록 순번/ETag로 사용하므로 만료 없음)
+    BOARD_VERSION("np:board:version:%s", 0L),
+
+    // 보드 스냅샷 세대 번호 (소켓 메시지 없이 스냅샷만 바뀌는 변경: 프로필, 팀 이름/멤버) - 스냅샷보다 길게 유지
+    BOARD_VIEW_GEN("np:board:view-gen:%s", 60 * 20L * 1000L),
+
+    // 보드 변경 기록 (Sorted Set, score = 보드 버전) - 1일
+    BOARD_JOURNAL("np:board:journal:%s", 60 * 60 * 24L * 1000L),
+
+    // 순서값 재정렬 대기 목록 (Set) - "card:{boardId}:{listId}" | "list:{boardId}"
+    ORDER_REBALANCE("np:order:rebalance", 0L),
+
+    // 보드 권한 캐시 무효화 채널 (Pub/Sub)
+    BOARD_ACCESS_CHANNEL("np:channel:board-access", 0L),
+
+    // 보드 스냅샷 캐시 무효화 채널 (Pub/Sub)
+    BOARD_VIEW_CHANNEL("np:channel:board-view", 0L),
+
+    // 사용자 요약 캐시 무효화 채널 (Pub/Sub) - 프로필 수정/비활성화/삭제
+    USER_SUMMARY_CHANNEL("np:channel:user-summary", 0L),
+
+    // 소켓 메시지 중계 채널 (Pub/Sub, app.socket.broker=redis)
+    SOCKET_CHANNEL("np:channel:socket", 0L);
 
     private final String prefix;
     private final long defaultTtl;
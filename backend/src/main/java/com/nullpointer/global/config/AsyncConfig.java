@@ -1,26 +1,115 @@
 package com.nullpointer.global.config;
 
+import com.nullpointer.global.async.ExecutorStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
 
+@Slf4j
 @Configuration
 @EnableAsync // 비동기 기능 활성화
 public class AsyncConfig {
+
+    /**
+     * refactor) 리스너 종류별 실행기 분리
+     * - 알림 폭주(팀 공지 등)가 활동 로그/메일 처리를 막지 않도록 스레드/대기열을 따로 둠
+     * - 대기열이 가득 차면 호출한 스레드에서 직접 실행 (유실 불가, 호출 측이 느려지는 방식으로 부하 전달)
+     *   알림: 작업 하나가 Redis 저장 + 소켓 전송이라 버리면 알림 목록에도 남지 않음 (마감/초대/팀 공지 유실)
+     *   활동 로그, 메일: 버리면 복구할 곳이 없음
+     * - app.async.virtual-threads=true: 가상 스레드 사용 (동시 실행 수 제한, 초과 시 호출 측 대기)
+     */
+    @Value("${app.async.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    // ========================================================
+    //  실행기 통계 (AsyncExecutorMonitorScheduler에서 주기적으로 기록)
+    // ========================================================
+
+    @Bean
+    public ExecutorStats mailExecutorStats() {
+        return new ExecutorStats("mail", 50);
+    }
+
+    @Bean
+    public ExecutorStats notificationExecutorStats() {
+        return new ExecutorStats("notification", 500);
+    }
+
+    @Bean
+    public ExecutorStats activityExecutorStats() {
+        return new ExecutorStats("activity", 1000);
+    }
+
+    // ========================================================
+    //  실행기
+    // ========================================================
+
     /**
      * 스레드 개수 제한, 그 이상의 요청은 Queue에서 관리
      */
     @Bean(name = "mailExecutor")
     public Executor mailExecutor() {
+        return createExecutor("MailAsync-", 5, 10, mailExecutorStats(), callerRuns(mailExecutorStats()));
+    }
+
+    // 알림 저장/소켓 전송 (NotificationEventListener)
+    @Bean(name = "notificationExecutor")
+    public Executor notificationExecutor() {
+        return createExecutor("NotiAsync-", 4, 8, notificationExecutorStats(), callerRuns(notificationExecutorStats()));
+    }
+
+    // 카드 활동 로그 저장 (ActivityEventListener 카드 이벤트, 커밋 후)
+    @Bean(name = "activityExecutor")
+    public Executor activityExecutor() {
+        return createExecutor("ActivityAsync-", 2, 4, activityExecutorStats(), callerRuns(activityExecutorStats()));
+    }
+
+    /**
+     * Helper Methods
+     */
+
+    private Executor createExecutor(String threadNamePrefix, int corePoolSize, int maxPoolSize,
+                                    ExecutorStats stats, RejectedExecutionHandler rejectedHandler) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(maxPoolSize * 4);
+            executor.setTaskDecorator(stats);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5); // 평소에 대기하는 스레드 수
-        executor.setMaxPoolSize(10); // 바쁠 때 늘릴 최대 스레드 수
-        executor.setQueueCapacity(50); // 대기열 크기
-        executor.setThreadNamePrefix("MailAsync-");
+        executor.setCorePoolSize(corePoolSize); // 평소에 대기하는 스레드 수
+        executor.setMaxPoolSize(maxPoolSize); // 바쁠 때 늘릴 최대 스레드 수
+        executor.setQueueCapacity(stats.getQueueCapacity()); // 대기열 크기
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setTaskDecorator(stats);
+        executor.setRejectedExecutionHandler(rejectedHandler);
+        // 종료 시 대기 중인 작업 처리
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
         executor.initialize();
+
+        stats.bind(executor::getQueueSize, executor::getActiveCount);
         return executor;
     }
+
+    // 대기열 초과 시 호출한 스레드에서 실행 (종료 중이면 버림)
+    private static RejectedExecutionHandler callerRuns(ExecutorStats stats) {
+        return (task, pool) -> {
+            long rejected = stats.recordRejected();
+            if (!pool.isShutdown()) {
+                task.run();
+                return;
+            }
+            log.warn("[Async] {} 실행기 종료 중 작업 버림 (구간 누적 {}건)", stats.getName(), rejected);
+        };
+    }
 }
@@ -70,6 +70,9 @@ public class SecurityConfig {
         // 허용할 헤더
         config.setAllowedHeaders(List.of("*"));
 
+        // 조건부 조회(If-None-Match)에 사용할 ETag를 클라이언트에서 읽을 수 있도록 노출
+        config.setExposedHeaders(List.of("ETag"));
+
         // 자격 증명 허용 (쿠키, Authorization 헤더 등)
         config.setAllowCredentials(true);
 
@@ -0,0 +1,37 @@
+package com.nullpointer.global.config;
+
+import com.nullpointer.domain.board.dto.response.BoardViewResponse;
+import com.nullpointer.domain.card.dto.CardResponse;
+import com.nullpointer.domain.comment.dto.CommentResponse;
+import com.nullpointer.global.cache.SingleFlight;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 조회 요청 합치기(single-flight)
+ * - 키: "{id}:{보드 버전}" (보드 버전은 BoardViewCache, 보드 소켓 메시지 발송 시 증가)
+ * - 권한 확인은 요청마다 먼저 수행하고, 사용자와 무관한 조회만 합침
+ */
+@Configuration
+public class SingleFlightConfig {
+
+    // 보드 페이지 스냅샷 (BoardViewCache 미스 시)
+    @Bean
+    public SingleFlight<String, BoardViewResponse> boardViewFlight() {
+        return new SingleFlight<>("boardView");
+    }
+
+    // 리스트별 카드 목록
+    @Bean
+    public SingleFlight<String, List<CardResponse>> cardListFlight() {
+        return new SingleFlight<>("cardList");
+    }
+
+    // 카드별 댓글 목록
+    @Bean
+    public SingleFlight<String, List<CommentResponse>> commentListFlight() {
+        return new SingleFlight<>("commentList");
+    }
+}
@@ -1,6 +1,7 @@
 package com.nullpointer.global.config;
 
-import com.nullpointer.global.security.jwt.JwtTokenProvider;
+import com.nullpointer.global.security.jwt.JwtClaimsCache;
+import com.nullpointer.global.security.jwt.TokenBlacklist;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
@@ -11,6 +12,7 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -30,7 +32,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
      * ...
      */
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtClaimsCache jwtClaimsCache;
+    private final TokenBlacklist tokenBlacklist;
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
@@ -47,9 +50,11 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                     if (authHeader != null && authHeader.startsWith("Bearer ")) {
                         String token = authHeader.substring(7);
 
-                        // 토큰 검증, Authentication 객체 생성
-                        if (jwtTokenProvider.validateToken(token)) {
-                            Authentication auth = jwtTokenProvider.getAuthentication(token);
+                        // 토큰 검증 (캐시), 로그아웃 토큰 제외 후 Authentication 객체 생성
+                        JwtClaimsCache.CachedToken cached = jwtClaimsCache.resolve(token);
+                        if (cached != null && !tokenBlacklist.isRevoked(cached.tokenHash())) {
+                            Authentication auth = new UsernamePasswordAuthenticationToken(
+                                    cached.userDetails(), null, cached.userDetails().getAuthorities());
                             // 소켓 세션에 principal 등록
                             accessor.setUser(auth);
                         }
@@ -28,7 +28,7 @@ public class EmailServiceImpl implements EmailService {
     /**
      * 인증번호 발송 (회원가입, 비밀번호 재설정)
      */
-    @Async // 메일 전송 때문에 회원가입 응답이 느려지는 것을 방지하기 위해 비동기 처리
+    @Async("mailExecutor") // 메일 전송 때문에 회원가입 응답이 느려지는 것을 방지하기 위해 비동기 처리
     @Override
     public void sendVerificationEmail(String toEmail, String code, VerificationType type) {
         String subject = (type == VerificationType.SIGNUP)
@@ -54,7 +54,7 @@ public class EmailServiceImpl implements EmailService {
     /**
      * 이메일 재인증 링크 발송
      */
-    @Async
+    @Async("mailExecutor")
     @Override
     public void sendVerificationLink(String toEmail, String token) {
         String subject = "[SYNCLE] 이메일 재인증 링크";
@@ -111,7 +111,7 @@ public class EmailServiceImpl implements EmailService {
      * 문의하기 발송
      */
     @Override
-    @Async
+    @Async("mailExecutor")
     public void sendInquiryEmail(String userEmail, String type, String title, String content) {
         String adminEmail = "syncle2025@gmail.com";
         String typeLabel = getInquiryTypeLabel(type);
@@ -0,0 +1,20 @@
+package com.nullpointer.global.exception;
+
+import com.nullpointer.global.common.enums.ErrorCode;
+import lombok.Getter;
+
+/**
+ * 낙관적 동시성 제어 충돌 (요청 버전 != 현재 버전)
+ * - current: 충돌 시점의 현재 상태 (응답 data로 전달)
+ */
+@Getter
+public class ConflictException extends BusinessException {
+
+    private final Object current;
+
+    public ConflictException(ErrorCode errorCode, Object current) {
+        super(errorCode);
+        this.current = current;
+    }
+
+}
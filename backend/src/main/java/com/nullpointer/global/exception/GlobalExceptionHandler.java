@@ -10,6 +10,7 @@ import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import jakarta.servlet.http.HttpServletRequest;
@@ -36,6 +37,19 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getErrorCode()));
     }
 
+    /**
+     * 1-1) 동시 수정 충돌 (버전 불일치)
+     * -> 409 + 현재 상태 반환 (클라이언트에서 변경 내용을 합쳐 다시 요청)
+     */
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ApiResponse<Object>> handleConflictException(ConflictException ex) {
+        log.info("동시 수정 충돌: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(ex.getErrorCode().getStatus())
+                .body(ApiResponse.error(ex.getErrorCode(), ex.getCurrent()));
+    }
+
     /**
      * 2) @Valid, @Validated 바인딩 실패 (DTO 필드 검증 오류)
      * -> 필드별 상세 에러 반환
@@ -58,9 +72,10 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * 3, 4) 단일 파라미터 검증 실패(@RequestParam, @PathVariable 등)
+     * 3, 4) 단일 파라미터 검증 실패(@RequestParam, @PathVariable 등, 필수 파라미터 누락 포함)
      */
-    @ExceptionHandler({BindException.class, ConstraintViolationException.class})
+    @ExceptionHandler({BindException.class, ConstraintViolationException.class,
+            MissingServletRequestParameterException.class})
     public ResponseEntity<ApiResponse<Void>> handleBindException(Exception ex) {
         log.warn("단일 파라미터 값 바인딩/검증 실패: {}", ex.getMessage());
 
@@ -0,0 +1,40 @@
+package com.nullpointer.global.scheduler;
+
+import com.nullpointer.global.async.ExecutorStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 비동기 실행기 상태 기록
+ * - 1분마다 실행기별 큐 깊이, 처리/거절 건수, 평균/최대 대기 시간, 평균 실행 시간 기록
+ * - 큐가 80% 이상 찼거나 거절된 작업이 있으면 WARN
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AsyncExecutorMonitorScheduler {
+
+    private final List<ExecutorStats> executorStats;
+
+    @Scheduled(fixedDelay = 60_000L, initialDelay = 60_000L)
+    public void report() {
+        for (ExecutorStats stats : executorStats) {
+            ExecutorStats.Snapshot s = stats.snapshotAndReset();
+            if (s.isIdle()) continue;
+
+            if (s.isSaturated()) {
+                log.warn("[Async] {} - active: {}, queue: {}/{}, submitted: {}, completed: {}, rejected: {}, wait avg/max: {}/{}ms, run avg: {}ms",
+                        s.name(), s.active(), s.queueDepth(), s.queueCapacity(), s.submitted(), s.completed(),
+                        s.rejected(), s.avgWaitMillis(), s.maxWaitMillis(), s.avgRunMillis());
+            } else {
+                log.info("[Async] {} - active: {}, queue: {}/{}, submitted: {}, completed: {}, wait avg/max: {}/{}ms, run avg: {}ms",
+                        s.name(), s.active(), s.queueDepth(), s.queueCapacity(), s.submitted(), s.completed(),
+                        s.avgWaitMillis(), s.maxWaitMillis(), s.avgRunMillis());
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.nullpointer.global.scheduler;
+
+import com.nullpointer.domain.card.mapper.CardMapper;
+import com.nullpointer.global.cache.BoardViewCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 카드 카운터(comment_count, checklist_total, checklist_done) 보정
+ * - 평소에는 댓글/체크리스트 변경과 같은 트랜잭션에서 갱신
+ * - 직접 수정한 데이터나 누락된 경로로 어긋난 값을 실제 행 기준으로 다시 계산
+ * - 카드 id 범위 단위로 처리해 한 번에 잠그는 행 수 제한
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CardCounterReconcileScheduler {
+
+    private static final long ID_RANGE = 1_000L;
+
+    private final CardMapper cardMapper;
+    private final BoardViewCache boardViewCache;
+
+    // 매일 새벽 4시 30분 실행
+    @Scheduled(cron = "0 30 4 * * *")
+    public void reconcile() {
+        Long maxId = cardMapper.findMaxCardId();
+        if (maxId == null) return;
+
+        int fixed = 0;
+        for (long fromId = 0; fromId < maxId; fromId += ID_RANGE) {
+            long toId = fromId + ID_RANGE;
+            try {
+                List<Long> boardIds = cardMapper.findBoardIdsWithCounterDrift(fromId, toId);
+                if (boardIds.isEmpty()) continue;
+
+                fixed += cardMapper.reconcileCounters(fromId, toId);
+
+                // 캐시된 보드 스냅샷에 보정 전 값이 남지 않도록 무효화 (변경 기록 없음)
+                boardIds.forEach(boardViewCache::invalidate);
+            } catch (Exception e) {
+                log.warn("[Scheduler] 카드 카운터 보정 실패 (id: {} ~ {}): {}", fromId + 1, toId, e.getMessage());
+            }
+        }
+
+        if (fixed > 0) {
+            log.info("[Scheduler] 카드 카운터 보정 완료: {}건", fixed);
+        }
+    }
+}
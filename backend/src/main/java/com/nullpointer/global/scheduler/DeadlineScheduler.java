@@ -1,25 +1,32 @@
 package com.nullpointer.global.scheduler;
 
+import com.nullpointer.domain.card.dto.DeadlineCardResponse;
 import com.nullpointer.domain.card.event.CardEvent;
 import com.nullpointer.domain.card.mapper.CardMapper;
-import com.nullpointer.domain.card.vo.CardVo;
-import com.nullpointer.domain.list.mapper.ListMapper;
-import com.nullpointer.domain.list.vo.ListVo;
-import com.nullpointer.global.common.enums.ErrorCode;
+import com.nullpointer.domain.notification.listener.NotificationEventListener;
 import com.nullpointer.global.common.enums.RedisKeyType;
 import com.nullpointer.global.common.enums.SystemActor;
-import com.nullpointer.global.exception.BusinessException;
 import com.nullpointer.global.util.RedisUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 
+/**
+ * 마감 임박 알림 스케줄러
+ * refactor) 매번 24시간 구간 전체 조회 + 카드마다 Redis/DB 4번 조회 -> 기준점(watermark) 기반 증분 조회
+ * - 직전 실행에서 조회한 구간 끝(to) 이후로 새로 들어온 구간만 조회
+ * - 직전 실행 이후 수정된 카드(마감일/담당자 변경)는 별도로 함께 조회
+ * - 담당자/보드 id를 한 쿼리로 조회, 중복 방지 키는 SET NX 파이프라인으로 한 번에 저장
+ * - 알림은 이벤트(비동기 리스너) 대신 이 스레드에서 저장까지 처리
+ *   -> 저장 실패를 알 수 있어야 중복 방지 키/기준점을 되돌려 다음 실행에서 다시 발송 가능
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -27,14 +34,19 @@ public class DeadlineScheduler {
 
     private final CardMapper cardMapper;
     private final RedisUtil redisUtil;
-    private final ApplicationEventPublisher publisher;
+    private final NotificationEventListener notificationEventListener;
 
     // 알림 발송 기준: 마감 24시간 전
     private static final int HOURS_BEFORE_DEADLINE = 24;
-    private final ListMapper listMapper;
+
+    // DB(updated_at = NOW())와 서버 시각 차이 보정
+    private static final long CLOCK_SKEW_MINUTES = 1;
+
+    private static final String FIELD_TO = "to";
+    private static final String FIELD_RAN_AT = "ranAt";
 
     /**
-     * 10분마다 마감 임박 카드 확인
+     * 30분마다 마감 임박 카드 확인
      */
     @Scheduled(cron = "0 0/30 * * * *")
     @Transactional(readOnly = true)
@@ -42,52 +54,89 @@ public class DeadlineScheduler {
         log.info("=== 마감 임박 알림 발송 시작 ===");
 
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime deadline = now.plusHours(HOURS_BEFORE_DEADLINE);
+        LocalDateTime to = now.plusHours(HOURS_BEFORE_DEADLINE);
 
-        // 마감 시간이 [현재 ~ 24시간 뒤] 사이인 카드 id 조회
-        List<CardVo> cards = cardMapper.findCardsDueBetween(now, deadline);
+        // 1. 직전 실행 기준점 (없으면 전체 구간 조회)
+        String watermarkKey = RedisKeyType.DEADLINE_WATERMARK.getKey();
+        LocalDateTime lastTo = readTime(watermarkKey, FIELD_TO);
+        LocalDateTime lastRanAt = readTime(watermarkKey, FIELD_RAN_AT);
 
-        for (CardVo card : cards) {
-            // "np:notification:deadline:{cardId}"
-            String redisKey = RedisKeyType.DEADLINE_ALERT.getKey(card.getId());
+        LocalDateTime from = lastTo != null && lastTo.isAfter(now) ? lastTo : now;
+        LocalDateTime updatedSince = (lastRanAt != null ? lastRanAt : now).minusMinutes(CLOCK_SKEW_MINUTES);
 
-            if (redisUtil.hasKey(redisKey)) {
-                continue; // 이미 보냈으면 알림 발송 x
-            }
+        // 2. 새로 구간에 들어온 카드 + 최근 수정된 카드 (담당자, 보드 id 포함)
+        List<DeadlineCardResponse> targets = cardMapper.findDeadlineTargets(from, to, now, updatedSince);
 
-            // 알림 발송 대상(카드 담당자) 조회
-            Long assigneeId = cardMapper.findAssigneeIdByCardId(card.getId());
+        // 3. 중복 방지 키 일괄 저장 -> 처음 저장된 카드만 발송
+        List<String> keys = targets.stream()
+                .map(target -> RedisKeyType.DEADLINE_ALERT.getKey(target.getCardId()))
+                .toList();
+        List<Boolean> firstAlerts = redisUtil.setIfAbsentPipelined(keys, "SENT", RedisKeyType.DEADLINE_ALERT.getDefaultTtl());
 
-            if (assigneeId == null) {
-                continue; // 담당자가 없으면 알림 발송 x
+        int sent = 0;
+        int failed = 0;
+        for (int i = 0; i < targets.size(); i++) {
+            if (!firstAlerts.get(i)) {
+                continue; // 이미 보냈으면 알림 발송 x
+            }
+            // [알림] 마감 임박 카드 알림 저장/발송 (카드별로 처리, 실패해도 나머지 카드는 계속 발송)
+            boolean stored;
+            try {
+                stored = deliverDeadlineNotification(targets.get(i));
+            } catch (Exception e) {
+                log.warn("마감 임박 알림 발송 실패 (cardId: {}): {}", targets.get(i).getCardId(), e.getMessage());
+                stored = false;
             }
 
-            // [알림] 마감 임박 카드 알림 발송
-            publishDeadlineEvent(card, assigneeId);
-
-            // 중복 방지 설정
-            redisUtil.setDataExpire(redisKey, "SENT", RedisKeyType.DEADLINE_ALERT.getDefaultTtl());
+            if (stored) {
+                sent++;
+            } else {
+                // 저장 실패한 카드는 중복 방지 키를 지워 다음 실행에서 다시 발송
+                failed++;
+                redisUtil.deleteData(keys.get(i));
+            }
+        }
 
-            log.info("=== 마감 임박 알림 발송 완료: cardId={}, userId={} ===", card.getId(), assigneeId);
+        // 4. 기준점 갱신 (실패한 카드가 있으면 갱신하지 않음 -> 다음 실행에서 같은 구간을 다시 조회, 보낸 카드는 키로 제외)
+        if (failed == 0) {
+            redisUtil.putHashField(watermarkKey, FIELD_TO, String.valueOf(toEpochMilli(to)), null);
+            redisUtil.putHashField(watermarkKey, FIELD_RAN_AT, String.valueOf(toEpochMilli(now)), null);
         }
-    }
 
-    private void publishDeadlineEvent(CardVo card, Long assigneeId) {
-        ListVo list = listMapper.findById(card.getListId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_NOT_FOUND));
+        log.info("=== 마감 임박 알림 발송 완료: 구간 ({} ~ {}], 조회 {}건, 발송 {}건, 실패 {}건 ===",
+                from, to, targets.size(), sent, failed);
+    }
 
+    // 저장할 알림이 없거나(담당자 없음, 알림 꺼짐) 저장 성공 시 true
+    private boolean deliverDeadlineNotification(DeadlineCardResponse target) {
         CardEvent event = CardEvent.builder()
-                .cardId(card.getId())
-                .cardTitle(card.getTitle())
-                .boardId(list.getBoardId())
-                .listId(list.getId())
+                .cardId(target.getCardId())
+                .cardTitle(target.getCardTitle())
+                .boardId(target.getBoardId())
+                .listId(target.getListId())
                 .actorId(null)
                 .actorNickname(SystemActor.NAME.getLabel())
                 .actorProfileImg(SystemActor.IMAGE_KEY.getLabel())
-                .assigneeId(assigneeId)
+                .assigneeId(target.getAssigneeId())
                 .eventType(CardEvent.EventType.DEADLINE_NEAR)
                 .build();
 
-        publisher.publishEvent(event);
+        return notificationEventListener.deliverCardNotification(event);
+    }
+
+    private LocalDateTime readTime(String key, String field) {
+        String value = redisUtil.getHashField(key, field);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(value)), ZoneId.systemDefault());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
 }
@@ -0,0 +1,28 @@
+package com.nullpointer.global.scheduler;
+
+import com.nullpointer.global.common.OrderRebalancer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderRebalanceScheduler {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final OrderRebalancer orderRebalancer;
+
+    /**
+     * 1분마다 간격이 좁아진 리스트/보드의 순서값 재정렬
+     */
+    @Scheduled(fixedDelay = 60 * 1000L)
+    public void rebalancePending() {
+        int processed = orderRebalancer.drainPending(BATCH_SIZE);
+        if (processed > 0) {
+            log.info("[Scheduler] 순서값 재정렬 완료: {}건", processed);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.nullpointer.global.scheduler;
+
+import com.nullpointer.global.cache.SingleFlight;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 조회 요청 합치기(single-flight) 통계 기록
+ * - 1분마다 조회 종류별 요청 수, 실제 DB 조회 수, 합쳐진 비율 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SingleFlightMonitorScheduler {
+
+    private final List<SingleFlight<?, ?>> singleFlights;
+
+    @Scheduled(fixedDelay = 60_000L, initialDelay = 60_000L)
+    public void report() {
+        for (SingleFlight<?, ?> flight : singleFlights) {
+            SingleFlight.Snapshot s = flight.snapshotAndReset();
+            if (s.isIdle()) continue;
+
+            log.info("[SingleFlight] {} - calls: {}, executions: {}, collapsed: {} ({}%), in-flight: {}",
+                    s.name(), s.calls(), s.executions(), s.collapsed(), s.collapseRatio(), s.inFlight());
+        }
+    }
+}
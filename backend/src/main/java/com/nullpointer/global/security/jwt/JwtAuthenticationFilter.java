@@ -1,7 +1,5 @@
 package com.nullpointer.global.security.jwt;
 
-import com.nullpointer.global.common.enums.RedisKeyType;
-import com.nullpointer.global.util.RedisUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,8 +23,8 @@ import java.io.IOException;
 // OncePerRequestFilter : 하나의 요청 당 한 번만 필터링을 할 수 있도록 보장
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
-    private final RedisUtil redisUtil;
+    private final JwtClaimsCache jwtClaimsCache;
+    private final TokenBlacklist tokenBlacklist;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -36,31 +34,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1) Authorization 헤더에서 JWT 추출
         String token = resolveToken(request);
 
-        // 2) 토큰 유효성 검사
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            // 로그아웃 여부 확인
-            String blacklistKey = RedisKeyType.BLACKLIST.getKey(token);
+        // 2) 토큰 유효성 검사 (검증된 토큰은 로컬 캐시에서 바로 조회)
+        JwtClaimsCache.CachedToken cached = token != null ? jwtClaimsCache.resolve(token) : null;
 
-            if (!redisUtil.hasKey(blacklistKey)) {
-                // 3) 토큰에서 userId, email 추출
-                Long userId = jwtTokenProvider.getUserId(token);
-                String email = jwtTokenProvider.getEmail(token);
+        if (cached != null) {
+            // 로그아웃 여부 확인 (로컬 블랙리스트, Redis 조회 없음)
+            if (!tokenBlacklist.isRevoked(cached.tokenHash())) {
+                // 3) 토큰에서 추출한 userId, email로 만든 UserDetails
+                UserDetails userDetails = cached.userDetails();
 
-                // 4) UserDetails 생성
-                UserDetails userDetails = new CustomUserDetails(userId, email);
-
-                // 5) SecurityContext 인증 객체 저장
+                // 4) SecurityContext 인증 객체 저장
                 Authentication authentication =
                         new UsernamePasswordAuthenticationToken(
                                 userDetails, null, userDetails.getAuthorities());
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             } else {
-                log.warn("로그아웃된 토큰으로 접근 시도: {}", token);
+                log.warn("로그아웃된 토큰으로 접근 시도: userId={}", cached.userDetails().getUserId());
             }
         }
 
-        // 6) 다음 필터로 요청 전달
+        // 5) 다음 필터로 요청 전달
         filterChain.doFilter(request, response);
     }
 
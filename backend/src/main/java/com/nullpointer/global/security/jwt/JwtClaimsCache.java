@@ -0,0 +1,74 @@
+package com.nullpointer.global.security.jwt;
+
+import com.nullpointer.global.common.enums.RedisKeyType;
+import com.nullpointer.global.util.LocalCacheUtil;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증된 토큰 정보 캐시 (서버 로컬)
+ * - 기존: 요청마다 서명 검증 1회 + userId/email 추출 시 파싱 2회
+ * - 변경: 토큰 해시 -> (사용자 정보, 만료 시각) 캐시, 첫 요청에서만 파싱/서명 검증
+ * - 캐시 수명은 토큰 만료 시각을 넘지 않음 (만료 후에는 다시 파싱 -> 만료 토큰으로 거부)
+ * - 로그아웃 여부는 캐시하지 않고 TokenBlacklist에서 매번 확인
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtClaimsCache {
+
+    private static final int MAX_SIZE = 20_000;
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    private final Map<String, CachedToken> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 토큰 검증 + 사용자 정보 조회 (유효하지 않으면 null)
+     */
+    public CachedToken resolve(String token) {
+        String tokenHash = JwtTokenProvider.hashToken(token);
+        long now = System.currentTimeMillis();
+
+        CachedToken cached = cache.get(tokenHash);
+        if (cached != null) {
+            if (cached.expiresAt() > now) {
+                return cached;
+            }
+            cache.remove(tokenHash);
+        }
+
+        Claims claims = jwtTokenProvider.parseValidClaims(token);
+        if (claims == null) {
+            return null;
+        }
+
+        // 만료 시간이 없는 토큰은 발급하지 않지만, 있더라도 refresh 토큰 수명 이상 캐시하지 않음
+        long expiresAt = claims.getExpiration() != null
+                ? claims.getExpiration().getTime()
+                : now + RedisKeyType.REFRESH_TOKEN.getDefaultTtl();
+
+        CachedToken resolved = new CachedToken(
+                tokenHash,
+                new CustomUserDetails(
+                        claims.get(JwtConstants.CLAIM_USER_ID.getValue(), Long.class),
+                        claims.getSubject()),
+                expiresAt);
+
+        // 가득 차면 만료 항목, 그다음 만료가 가장 가까운 항목부터 일부만 삭제
+        LocalCacheUtil.trim(cache, MAX_SIZE, CachedToken::expiresAt, now);
+        cache.put(tokenHash, resolved);
+        return resolved;
+    }
+
+    /**
+     * 캐시 항목
+     * - tokenHash: 블랙리스트 조회 키
+     * - userDetails: SecurityContext에 저장할 사용자 정보 (불변)
+     */
+    public record CachedToken(String tokenHash, CustomUserDetails userDetails, long expiresAt) {
+    }
+}
@@ -13,6 +13,9 @@ import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 
 // JWT 생성, 정보 추출, 검증
@@ -62,15 +65,20 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    // JWT 유효성 검증
+    // JWT 유효성 검증 (검증 규칙은 parseValidClaims 한 곳에서 관리)
     public boolean validateToken(String token) { // token : 클라이언트가 보낸 JWT
+        return parseValidClaims(token) != null;
+    }
+
+    // 검증 + Claims 추출을 한 번에 (유효하지 않으면 null)
+    public Claims parseValidClaims(String token) {
         try {
-            Jwts
+            return Jwts
                     .parserBuilder()
                     .setSigningKey(key)
                     .build()
-                    .parseClaimsJws(token);
-            return true;
+                    .parseClaimsJws(token)
+                    .getBody();
         } catch (SecurityException | MalformedJwtException e) {
             log.warn("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -80,7 +88,7 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.warn("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return null;
     }
 
     // 토큰에서 Claims 추출 -> 유효하지 않은 토큰이면 예외 발생
@@ -122,6 +130,16 @@ public class JwtTokenProvider {
         return parseClaims(token).getSubject();
     }
 
+    // 토큰 식별용 해시 (SHA-256, Base64URL) -> 캐시/블랙리스트 키에 원본 토큰 대신 사용
+    public static String hashToken(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원", e);
+        }
+    }
+
     // 토큰 만료 시간 추출
     public Long getExpiration(String token) {
         return parseClaims(token).getExpiration().getTime();
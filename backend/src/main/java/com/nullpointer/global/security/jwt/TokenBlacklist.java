@@ -0,0 +1,127 @@
+package com.nullpointer.global.security.jwt;
+
+import com.nullpointer.global.common.enums.RedisKeyType;
+import com.nullpointer.global.util.RedisUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그아웃(폐기)된 Access Token 목록
+ * - 원본: Redis np:auth:blacklist:{토큰 해시} (남은 유효 시간만큼 TTL)
+ * - 서버 로컬 복제본: 토큰 해시 -> 만료 시각, 요청마다 Redis 조회 없이 확인
+ * - 동기화: 등록 시 Pub/Sub으로 전파 + 시작 시/5분마다 Redis 전체와 재동기화 (메시지 유실 대비)
+ * - 폐기 토큰은 Access Token 수명(1시간) 이내에만 유지되므로 정확한 Set으로 충분 (Bloom filter 불필요)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklist implements MessageListener {
+
+    // 재동기화 시 PTTL을 한 번에 보내는 키 수 (SCAN count와 같은 단위)
+    private static final int RESYNC_BATCH_SIZE = 500;
+
+    private final RedisUtil redisUtil;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // 토큰 해시 -> 만료 시각 (ms)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyType.TOKEN_REVOKE_CHANNEL.getPrefix()));
+        try {
+            resync();
+        } catch (RuntimeException e) {
+            log.warn("토큰 블랙리스트 초기 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    // 로그아웃 여부 (로컬 조회만)
+    public boolean isRevoked(String tokenHash) {
+        Long expiresAt = revoked.get(tokenHash);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt <= System.currentTimeMillis()) {
+            revoked.remove(tokenHash);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 토큰 폐기 (로그아웃, 계정 비활성화)
+     * - remainingMillis: 토큰의 남은 유효 시간
+     */
+    public void revoke(String token, long remainingMillis) {
+        if (remainingMillis <= 0) {
+            return;
+        }
+        String tokenHash = JwtTokenProvider.hashToken(token);
+        long expiresAt = System.currentTimeMillis() + remainingMillis;
+
+        redisUtil.setDataExpire(RedisKeyType.BLACKLIST.getKey(tokenHash), "logout", remainingMillis);
+        revoked.put(tokenHash, expiresAt);
+        redisUtil.publish(RedisKeyType.TOKEN_REVOKE_CHANNEL.getPrefix(), tokenHash + ":" + expiresAt);
+    }
+
+    // 다른 서버(자신 포함)에서 폐기한 토큰 수신: "{토큰 해시}:{만료 시각}"
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        try {
+            revoked.put(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("토큰 폐기 메시지 처리 실패: {}", body);
+        }
+    }
+
+    /**
+     * Redis 원본과 재동기화 (5분마다)
+     * - Pub/Sub 메시지는 연결이 끊긴 동안 유실될 수 있으므로 주기적으로 전체를 다시 읽음
+     * - 만료된 로컬 항목도 함께 정리
+     * - 남은 만료 시간은 키마다 왕복하지 않고 PTTL을 파이프라인으로 묶어 조회
+     */
+    @Scheduled(fixedDelay = 5 * 60 * 1000L, initialDelay = 5 * 60 * 1000L)
+    public void resync() {
+        String prefix = RedisKeyType.BLACKLIST.getKey("");
+        long now = System.currentTimeMillis();
+
+        List<String> keys = redisUtil.scanKeys(prefix + "*");
+        int loaded = 0;
+        for (int from = 0; from < keys.size(); from += RESYNC_BATCH_SIZE) {
+            List<String> batch = keys.subList(from, Math.min(from + RESYNC_BATCH_SIZE, keys.size()));
+            List<Long> ttls = redisUtil.getExpireMillisPipelined(batch);
+
+            for (int i = 0; i < batch.size(); i++) {
+                long ttl = ttls.get(i);
+                if (ttl <= 0) {
+                    continue;
+                }
+                String suffix = batch.get(i).substring(prefix.length());
+                // 해시 키 도입 이전에 원본 토큰으로 저장된 항목
+                String tokenHash = suffix.contains(".") ? JwtTokenProvider.hashToken(suffix) : suffix;
+                revoked.merge(tokenHash, now + ttl, Math::max);
+                loaded++;
+            }
+        }
+
+        // 만료된 항목 정리 (폐기 항목은 Redis에서 만료로만 사라지므로 추가만 하면 됨)
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+
+        log.debug("토큰 블랙리스트 동기화: Redis {}건, 로컬 {}건", loaded, revoked.size());
+    }
+}
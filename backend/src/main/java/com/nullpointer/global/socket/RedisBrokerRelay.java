@@ -0,0 +1,95 @@
+package com.nullpointer.global.socket;
+
+import com.nullpointer.global.common.enums.RedisKeyType;
+import com.nullpointer.global.util.RedisUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Redis Pub/Sub 중계 (다중 서버)
+ * - 발행: 메시지 1건당 Redis PUBLISH 1회 (구독자 수와 무관)
+ * - 수신: 서버마다 1번 받아 내장 브로커로 로컬 구독자에게 전달 (자기 자신 포함)
+ * - /user/** 목적지도 그대로 중계 -> 각 서버가 자신에게 연결된 세션만 찾아 전달
+ * - 프레임 형식: "{destination}\n{payload}"
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.socket.broker", havingValue = "redis")
+public class RedisBrokerRelay implements SocketRelay, MessageListener {
+
+    private static final byte SEPARATOR = '\n';
+
+    private final RedisUtil redisUtil;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final SimpleBrokerRelay localRelay;
+
+    public RedisBrokerRelay(RedisUtil redisUtil,
+                            RedisMessageListenerContainer listenerContainer,
+                            SimpMessagingTemplate messagingTemplate) {
+        this.redisUtil = redisUtil;
+        this.listenerContainer = listenerContainer;
+        this.localRelay = new SimpleBrokerRelay(messagingTemplate);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyType.SOCKET_CHANNEL.getPrefix()));
+    }
+
+    @Override
+    public void relay(String destination, byte[] payload) {
+        try {
+            redisUtil.publish(RedisKeyType.SOCKET_CHANNEL.getPrefix(), encode(destination, payload));
+        } catch (RuntimeException e) {
+            // Redis 장애 시 최소한 같은 서버 구독자에게는 전달
+            log.warn("소켓 메시지 Redis 중계 실패, 로컬 전달로 대체 ({}): {}", destination, e.getMessage());
+            localRelay.relay(destination, payload);
+        }
+    }
+
+    // 다른 서버(자신 포함)에서 발행한 메시지 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        byte[] frame = message.getBody();
+        int separator = indexOf(frame, SEPARATOR);
+        if (separator <= 0) {
+            log.warn("잘못된 소켓 중계 메시지 무시 ({} bytes)", frame.length);
+            return;
+        }
+
+        String destination = new String(frame, 0, separator, StandardCharsets.UTF_8);
+        localRelay.relay(destination, Arrays.copyOfRange(frame, separator + 1, frame.length));
+    }
+
+    /**
+     * Helper Methods
+     */
+
+    private static byte[] encode(String destination, byte[] payload) {
+        byte[] dest = destination.getBytes(StandardCharsets.UTF_8);
+        byte[] frame = new byte[dest.length + 1 + payload.length];
+        System.arraycopy(dest, 0, frame, 0, dest.length);
+        frame[dest.length] = SEPARATOR;
+        System.arraycopy(payload, 0, frame, dest.length + 1, payload.length);
+        return frame;
+    }
+
+    private static int indexOf(byte[] bytes, byte target) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,31 @@
+package com.nullpointer.global.socket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 서버 내장 브로커(SimpleBroker)로 전달
+ * - 같은 서버에 연결된 구독자에게만 전달됨
+ * - RedisBrokerRelay에서 서버별 로컬 전달에도 사용
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.socket.broker", havingValue = "simple", matchIfMissing = true)
+public class SimpleBrokerRelay implements SocketRelay {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public void relay(String destination, byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(destination, MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+    }
+}
@@ -0,0 +1,12 @@
+package com.nullpointer.global.socket;
+
+/**
+ * 소켓 메시지 중계
+ * - SocketSender가 직렬화한 메시지를 구독자에게 전달하는 방식
+ * - app.socket.broker: simple(기본, 단일 서버) | redis(다중 서버, Redis Pub/Sub)
+ */
+public interface SocketRelay {
+
+    // destination 구독자에게 JSON 메시지 전달
+    void relay(String destination, byte[] payload);
+}
@@ -0,0 +1,29 @@
+package com.nullpointer.global.util;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 조건부 조회 (ETag / If-None-Match)
+ * - Cache-Control: no-cache -> 브라우저가 저장은 하되 매번 ETag로 다시 확인
+ *   (Spring Security 기본값 no-store는 응답에 Cache-Control이 이미 있으면 덧쓰지 않음)
+ * - If-None-Match가 같으면 304 (컨트롤러는 null 반환)
+ */
+public final class ETagUtil {
+
+    private ETagUtil() {
+    }
+
+    public static boolean checkNotModified(WebRequest webRequest, String eTag) {
+        if (webRequest instanceof NativeWebRequest nativeRequest) {
+            HttpServletResponse response = nativeRequest.getNativeResponse(HttpServletResponse.class);
+            if (response != null) {
+                response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+            }
+        }
+        return webRequest.checkNotModified(eTag);
+    }
+}
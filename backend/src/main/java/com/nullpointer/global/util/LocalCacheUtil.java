@@ -0,0 +1,43 @@
+package com.nullpointer.global.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * 서버 로컬 캐시(Map) 크기 제한
+ * - 가득 차면 만료된 항목부터 삭제
+ * - 그래도 가득 차 있으면 만료 시각이 가장 이른(가장 오래 저장된) 항목부터 최대 크기의 10%를 삭제
+ * - 전체를 비우지 않으므로 캐시가 가득 찬 순간 모든 항목을 한꺼번에 다시 조회하지 않음
+ */
+public final class LocalCacheUtil {
+
+    private static final int EVICT_PERCENT = 10;
+
+    private LocalCacheUtil() {
+    }
+
+    // 저장 전에 호출, 크기가 maxSize 미만이면 아무것도 하지 않음
+    public static <K, V> void trim(Map<K, V> cache, int maxSize, ToLongFunction<V> expiresAt, long now) {
+        if (cache.size() < maxSize) {
+            return;
+        }
+
+        cache.values().removeIf(value -> expiresAt.applyAsLong(value) <= now);
+        if (cache.size() < maxSize) {
+            return;
+        }
+
+        int evictCount = cache.size() - maxSize + Math.max(1, maxSize * EVICT_PERCENT / 100);
+        List<Map.Entry<K, V>> entries = new ArrayList<>(cache.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<K, V> entry) -> expiresAt.applyAsLong(entry.getValue())));
+
+        for (int i = 0; i < evictCount && i < entries.size(); i++) {
+            Map.Entry<K, V> entry = entries.get(i);
+            // 그 사이 새 값으로 바뀐 항목은 남김
+            cache.remove(entry.getKey(), entry.getValue());
+        }
+    }
+}
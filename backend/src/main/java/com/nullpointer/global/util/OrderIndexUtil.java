@@ -0,0 +1,63 @@
+package com.nullpointer.global.util;
+
+import com.nullpointer.global.common.constants.AppConstants;
+
+/**
+ * 간격 기반(sparse) 순서값 계산
+ * - 순서값은 ORDER_INDEX_GAP 간격으로 배치 (0, 1024, 2048 ...)
+ * - 이동 시 앞(prev)/뒤(next) 순서값의 중간값을 사용 -> 이동한 카드/리스트 1개 행만 수정
+ * - 중간값이 없으면(간격 소진) null 반환 -> 호출 측에서 재정렬 후 다시 계산
+ */
+public final class OrderIndexUtil {
+
+    // int 범위 초과 방지 (재정렬 시 다시 0부터 배치)
+    private static final int UPPER_LIMIT = Integer.MAX_VALUE / 2;
+    private static final int LOWER_LIMIT = Integer.MIN_VALUE / 2;
+
+    private OrderIndexUtil() {
+    }
+
+    /**
+     * prev와 next 사이의 순서값 계산
+     * - prev == null: 맨 앞
+     * - next == null: 맨 뒤
+     */
+    public static Integer between(Integer prev, Integer next) {
+        if (prev == null && next == null) {
+            return 0;
+        }
+        if (prev == null) {
+            long candidate = (long) next - AppConstants.ORDER_INDEX_GAP;
+            return candidate < LOWER_LIMIT ? null : (int) candidate;
+        }
+        if (next == null) {
+            return after(prev);
+        }
+        if ((long) next - prev < 2) {
+            return null;
+        }
+        return (int) (prev + ((long) next - prev) / 2);
+    }
+
+    // 맨 뒤 순서값 (max == null이면 첫 번째)
+    public static Integer after(Integer max) {
+        if (max == null) {
+            return 0;
+        }
+        long candidate = (long) max + AppConstants.ORDER_INDEX_GAP;
+        return candidate > UPPER_LIMIT ? null : (int) candidate;
+    }
+
+    // 맨 뒤에 count개를 이어 붙일 때 첫 순서값 (max == null이면 0부터), 범위를 넘으면 null
+    public static Integer appendStart(Integer max, int count) {
+        long start = max == null ? 0L : (long) max + AppConstants.ORDER_INDEX_GAP;
+        long last = start + (long) Math.max(0, count - 1) * AppConstants.ORDER_INDEX_GAP;
+        return last > UPPER_LIMIT ? null : (int) start;
+    }
+
+    // 앞뒤 간격이 좁아져 미리 재정렬이 필요한지 확인
+    public static boolean isCrowded(Integer prev, int key, Integer next) {
+        return (prev != null && (long) key - prev < AppConstants.ORDER_INDEX_MIN_GAP)
+                || (next != null && (long) next - key < AppConstants.ORDER_INDEX_MIN_GAP);
+    }
+}
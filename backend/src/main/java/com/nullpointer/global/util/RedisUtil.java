@@ -3,10 +3,21 @@ package com.nullpointer.global.util;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -32,6 +43,34 @@ public class RedisUtil {
         stringRedisTemplate.opsForValue().set(key, value, expireDuration);
     }
 
+    // 여러 키를 SET NX로 한 번에 저장 (파이프라인), 키 순서대로 저장 성공 여부 반환
+    public List<Boolean> setIfAbsentPipelined(List<String> keys, String value, long duration) {
+        if (keys.isEmpty()) return List.of();
+
+        byte[] rawValue = value.getBytes(StandardCharsets.UTF_8);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.stringCommands().set(key.getBytes(StandardCharsets.UTF_8), rawValue,
+                        Expiration.milliseconds(duration), RedisStringCommands.SetOption.SET_IF_ABSENT);
+            }
+            return null;
+        });
+        return results.stream().map(Boolean.TRUE::equals).toList();
+    }
+
+    // 여러 키 조회 (요청 순서대로, 없는 키는 null)
+    public List<String> getDataList(List<String> keys) {
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+        return values != null ? values : new ArrayList<>(Collections.nCopies(keys.size(), null));
+    }
+
+    // 1 증가 (+ 만료 시간 ms), 증가된 값 반환
+    public long increment(String key, long duration) {
+        Long value = stringRedisTemplate.opsForValue().increment(key);
+        stringRedisTemplate.expire(key, Duration.ofMillis(duration));
+        return value != null ? value : 0L;
+    }
+
     // 데이터 삭제
     public void deleteData(String key) {
         stringRedisTemplate.delete(key);
@@ -41,6 +80,35 @@ public class RedisUtil {
         return stringRedisTemplate.hasKey(key);
     }
 
+    // 남은 만료 시간 (ms), 키가 없거나 만료 시간이 없으면 음수
+    public long getExpireMillis(String key) {
+        Long ttl = stringRedisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+        return ttl != null ? ttl : -2L;
+    }
+
+    // 여러 키의 남은 만료 시간 (ms, PTTL 파이프라인), 키 순서대로 반환 (키가 없거나 만료 시간이 없으면 음수)
+    public List<Long> getExpireMillisPipelined(List<String> keys) {
+        if (keys.isEmpty()) return List.of();
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.keyCommands().pTtl(key.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+        return results.stream().map(ttl -> ttl instanceof Long millis ? millis : -2L).toList();
+    }
+
+    // 패턴에 맞는 키 조회 (SCAN, 블로킹 KEYS 대신 사용)
+    public List<String> scanKeys(String pattern) {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(500).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        return keys;
+    }
+
     /**
      * Set - 보드 접속자 관리
      */
@@ -59,36 +127,21 @@ public class RedisUtil {
         return stringRedisTemplate.opsForSet().members(key);
     }
 
+    // 데이터 꺼내기 (최대 count개, 꺼낸 데이터는 삭제)
+    public List<String> popSet(String key, long count) {
+        List<String> popped = stringRedisTemplate.opsForSet().pop(key, count);
+        return popped != null ? popped : List.of();
+    }
+
     // 키 만료 시간 설정
     public void expire(String key, int minutes) {
         stringRedisTemplate.expire(key, minutes, TimeUnit.MINUTES);
     }
 
     /**
-     * List - 알림 저장용
+     * List - 이전 알림 저장 구조 (NotificationStore 마이그레이션용)
      */
 
-    // 리스트 앞쪽에 데이터 추가 (최신 알림이 0번)
-    public <T> void addList(String key, T data, Long duration) {
-        try {
-            String value = objectMapper.writeValueAsString(data);
-            stringRedisTemplate.opsForList().leftPush(key, value);
-
-            // 만료 시간 갱신 (알림이 쌓일 때마다 수명 연장)
-            if (duration != null) {
-                stringRedisTemplate.expire(key, duration, TimeUnit.SECONDS);
-            }
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Redis 데이터 저장 실패 (JSON 변환 오류)", e);
-        }
-    }
-
-    // 리스트 길이 제한 (오래된 알림 자동 삭제)
-    // trimList(key, 0, 49) -> 최신 50개만 유지
-    public void trimList(String key, int count) {
-        stringRedisTemplate.opsForList().trim(key, 0, count - 1);
-    }
-
     // 리스트 전체 조회
     public <T> List<T> getList(String key, Class<T> clazz) {
         List<String> jsonList = stringRedisTemplate.opsForList().range(key, 0, -1);
@@ -103,14 +156,156 @@ public class RedisUtil {
         }).toList();
     }
 
-    // 리스트의 특정 인덱스 데이터 수정 (알림 읽음 처리용)
-    public <T> void updateListIndex(String key, int index, T data) {
+    /**
+     * Sorted Set - 알림 인덱스 (score: 생성 시각)
+     */
+    // 최신순 전체 조회
+    public List<String> getSortedSetDesc(String key) {
+        Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(key, 0, -1);
+        return members != null ? new ArrayList<>(members) : List.of();
+    }
+
+    // score 범위 조회 (min <= score <= max, 오름차순)
+    public List<String> getSortedSetRangeByScore(String key, double min, double max) {
+        Set<String> members = stringRedisTemplate.opsForZSet().rangeByScore(key, min, max);
+        return members != null ? new ArrayList<>(members) : List.of();
+    }
+
+    // 멤버 존재 여부
+    public boolean hasSortedSetMember(String key, String member) {
+        return stringRedisTemplate.opsForZSet().score(key, member) != null;
+    }
+
+    /**
+     * Set - 크기/삭제 결과
+     */
+    // 원소 개수 (O(1))
+    public long getSetSize(String key) {
+        Long size = stringRedisTemplate.opsForSet().size(key);
+        return size != null ? size : 0L;
+    }
+
+    // 원소 삭제 후 실제 삭제 여부 반환
+    public boolean removeSetMember(String key, String value) {
+        Long removed = stringRedisTemplate.opsForSet().remove(key, value);
+        return removed != null && removed > 0;
+    }
+
+    /**
+     * Lua Script - 여러 키를 한 번에 원자적으로 변경
+     */
+    public <T> T executeScript(RedisScript<T> script, List<String> keys, Object... args) {
+        return stringRedisTemplate.execute(script, keys, args);
+    }
+
+    /**
+     * 같은 스크립트를 여러 키 묶음에 대해 파이프라인으로 실행 (왕복 1회)
+     * - keys.get(i), args.get(i)가 i번째 실행의 KEYS, ARGV
+     * - 결과는 실행 순서대로 반환 (정수 결과만 지원)
+     * - EVALSHA로 실행, 스크립트가 캐시에 없으면(NOSCRIPT) EVAL로 다시 실행 (RedisTemplate.execute(RedisScript)와 같은 방식)
+     *   NOSCRIPT는 파이프라인 전체가 같은 이유로 실패하므로 다시 실행해도 중복 실행되지 않음
+     */
+    public List<Object> executeScriptPipelined(RedisScript<Long> script, List<List<String>> keys, List<List<String>> args) {
+        List<byte[][]> params = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            List<String> keysAndArgs = new ArrayList<>(keys.get(i));
+            keysAndArgs.addAll(args.get(i));
+
+            byte[][] raw = new byte[keysAndArgs.size()][];
+            for (int j = 0; j < raw.length; j++) {
+                raw[j] = keysAndArgs.get(j).getBytes(StandardCharsets.UTF_8);
+            }
+            params.add(raw);
+        }
+
         try {
-            String value = objectMapper.writeValueAsString(data);
-            stringRedisTemplate.opsForList().set(key, index, value);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Redis 데이터 수정 실패 (JSON 변환 오류)", e);
+            return stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int i = 0; i < params.size(); i++) {
+                    connection.scriptingCommands().evalSha(script.getSha1(), ReturnType.INTEGER, keys.get(i).size(), params.get(i));
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            if (!isNoScriptError(e)) {
+                throw e;
+            }
+        }
+
+        // 스크립트 본문 전송 (EVAL 실행 시 서버 스크립트 캐시에도 등록됨)
+        byte[] body = script.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        return stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < params.size(); i++) {
+                connection.scriptingCommands().eval(body, ReturnType.INTEGER, keys.get(i).size(), params.get(i));
+            }
+            return null;
+        });
+    }
+
+    // NOSCRIPT 오류 여부 (파이프라인 오류는 명령별 결과에 담겨 있을 수 있음)
+    private static boolean isNoScriptError(Throwable e) {
+        if (e instanceof RedisPipelineException pipeline) {
+            for (Object result : pipeline.getPipelineResult()) {
+                if (result instanceof Throwable failed && failed != e && isNoScriptError(failed)) {
+                    return true;
+                }
+            }
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Hash - 보드 권한 캐시
+     */
+    // 필드 조회
+    public String getHashField(String key, String field) {
+        Object value = stringRedisTemplate.opsForHash().get(key, field);
+        return value != null ? value.toString() : null;
+    }
+
+    // 필드 저장 (+ 키 만료 시간 ms)
+    public void putHashField(String key, String field, String value, Long duration) {
+        stringRedisTemplate.opsForHash().put(key, field, value);
+        if (duration != null) {
+            stringRedisTemplate.expire(key, Duration.ofMillis(duration));
         }
     }
 
+    // 여러 필드 조회 (요청 순서대로, 없는 필드는 null)
+    public List<String> getHashFields(String key, List<String> fields) {
+        if (fields.isEmpty()) return List.of();
+        List<Object> values = stringRedisTemplate.opsForHash().multiGet(key, new ArrayList<>(fields));
+        return values.stream().map(value -> value != null ? value.toString() : null).toList();
+    }
+
+    // 전체 값 조회
+    public List<String> getHashValues(String key) {
+        return stringRedisTemplate.opsForHash().values(key).stream().map(Object::toString).toList();
+    }
+
+    // 필드 삭제
+    public void deleteHashFields(String key, Object... fields) {
+        stringRedisTemplate.opsForHash().delete(key, fields);
+    }
+
+    /**
+     * Pub/Sub - 서버 간 로컬 캐시 무효화, 소켓 메시지 중계
+     */
+    public void publish(String channel, String message) {
+        stringRedisTemplate.convertAndSend(channel, message);
+    }
+
+    // 바이너리 메시지 발행 (소켓 중계 - 직렬화된 payload를 그대로 전달)
+    public void publish(String channel, byte[] message) {
+        stringRedisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.publish(channel.getBytes(StandardCharsets.UTF_8), message));
+    }
+
 }
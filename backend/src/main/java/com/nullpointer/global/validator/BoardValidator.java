@@ -1,8 +1,8 @@
 package com.nullpointer.global.validator;
 
-import com.nullpointer.domain.board.mapper.BoardMapper;
 import com.nullpointer.domain.board.vo.BoardVo;
 import com.nullpointer.domain.member.mapper.BoardMemberMapper;
+import com.nullpointer.global.cache.BoardAccessCache;
 import com.nullpointer.global.common.enums.ErrorCode;
 import com.nullpointer.global.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
@@ -11,7 +11,7 @@ import org.springframework.stereotype.Component;
 @Component
 @RequiredArgsConstructor
 public class BoardValidator {
-    private final BoardMapper boardMapper;
+    private final BoardAccessCache boardAccessCache;
     private final BoardMemberMapper boardMemberMapper;
     // ========================================================
     //  1. 리소스 존재 및 유효성 확인
@@ -19,10 +19,13 @@ public class BoardValidator {
 
     /**
      * 유효한 보드 가져오기
+     * - 보드 권한 캐시를 거쳐 조회 (보드 수정/삭제 시 이벤트로 무효화)
      */
     public BoardVo getValidBoard(Long boardId) {
-        BoardVo board = boardMapper.findBoardByBoardId(boardId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_NOT_FOUND));
+        BoardVo board = boardAccessCache.getBoard(boardId);
+        if (board == null) {
+            throw new BusinessException(ErrorCode.BOARD_NOT_FOUND);
+        }
         if (board.getDeletedAt() != null) {
             throw new BusinessException(ErrorCode.BOARD_DELETED);
         }
@@ -1,6 +1,5 @@
 package com.nullpointer.global.validator;
 
-import com.nullpointer.domain.board.mapper.BoardMapper;
 import com.nullpointer.domain.board.mapper.BoardSettingMapper;
 import com.nullpointer.domain.board.vo.BoardSettingVo;
 import com.nullpointer.domain.board.vo.BoardVo;
@@ -11,6 +10,7 @@ import com.nullpointer.domain.member.mapper.TeamMemberMapper;
 import com.nullpointer.domain.member.vo.BoardMemberVo;
 import com.nullpointer.domain.member.vo.TeamMemberVo;
 import com.nullpointer.domain.member.vo.enums.Role;
+import com.nullpointer.global.cache.BoardAccessCache;
 import com.nullpointer.global.common.enums.ErrorCode;
 import com.nullpointer.global.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
@@ -23,7 +23,7 @@ import java.util.function.Function;
 public class MemberValidator {
     private final TeamMemberMapper teamMemberMapper;
     private final BoardMemberMapper boardMemberMapper;
-    private final BoardMapper boardMapper;
+    private final BoardAccessCache boardAccessCache;
     private final BoardSettingMapper boardSettingMapper;
     // ========================================================
     //  1. 팀 권한 확인
@@ -150,33 +150,59 @@ public class MemberValidator {
      * 3. 보드가 TEAM 공개이면 팀 멤버를 확인하여 권한 매핑
      * - OWNER/MEMBER -> MEMBER
      * - VIEWER -> VIEWER
+     * refactor) 보드 정보와 계산된 권한은 BoardAccessCache에 저장 (멤버/보드/팀 이벤트로 무효화)
      */
     private Role resolveEffectiveBoardRole(Long boardId, Long userId) {
         // 1. 보드 정보 조회
-        BoardVo board = boardMapper.findBoardByBoardId(boardId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_NOT_FOUND));
+        BoardVo board = boardAccessCache.getBoard(boardId);
+        if (board == null) {
+            throw new BusinessException(ErrorCode.BOARD_NOT_FOUND);
+        }
+
+        return boardAccessCache.getRole(boardId, userId, () -> computeEffectiveBoardRole(board, userId));
+    }
+
+    // 캐시 미스 시 DB 조회로 권한 계산
+    private Role computeEffectiveBoardRole(BoardVo board, Long userId) {
+        Long boardId = board.getId();
 
         // 2. 명시적 권한 확인 - 보드 멤버 테이블 조회
         // 사용자가 이 보드에 직접 초대되어 멤버로 등록되어 있는지 확인
         BoardMemberVo boardMember = boardMemberMapper.findMember(boardId, userId);
-        if (boardMember != null) {
-            return boardMember.getRole(); // DB에 저장된 role 반환
+        if (boardMember != null || board.getVisibility() == Visibility.PRIVATE) {
+            // 보드 멤버이거나 PRIVATE 보드이면 팀 멤버는 확인하지 않음
+            return effectiveRole(board.getVisibility(), boardMember != null ? boardMember.getRole() : null, null);
+        }
+
+        // 3. 같은 팀 멤버 확인
+        TeamMemberVo teamMember = teamMemberMapper.findMember(board.getTeamId(), userId);
+        return effectiveRole(board.getVisibility(), null, teamMember != null ? teamMember.getRole() : null);
+    }
+
+    /**
+     * 보드 멤버 / 팀 멤버 역할 -> 최종 권한
+     * - 권한 계산 규칙 (카드 작업 컨텍스트 CardContextResolver도 같은 규칙 사용)
+     * - 역할이 없으면 null
+     */
+    public static Role effectiveRole(Visibility visibility, Role boardMemberRole, Role teamMemberRole) {
+        // 명시적 보드 멤버 -> DB에 저장된 role
+        if (boardMemberRole != null) {
+            return boardMemberRole;
         }
 
         // PRIVATE 보드 차단
-        if (board.getVisibility() == Visibility.PRIVATE) {
+        if (visibility == Visibility.PRIVATE) {
             return null;
         }
 
-        // 3. 같은 팀 멤버 확인
-        TeamMemberVo teamMember = teamMemberMapper.findMember(board.getTeamId(), userId);
-        if (teamMember != null) {
-            return (teamMember.getRole() == Role.VIEWER) ? Role.VIEWER : Role.MEMBER;
+        // 같은 팀 멤버 (OWNER/MEMBER -> MEMBER, VIEWER -> VIEWER)
+        if (teamMemberRole != null) {
+            return (teamMemberRole == Role.VIEWER) ? Role.VIEWER : Role.MEMBER;
         }
 
         // 4. PUBLIC 보드 확인 (변경 사항)
         //        팀원도 아니고 보드 멤버도 아니지만, PUBLIC이면 누구나 조회 가능(VIEWER)
-        if (board.getVisibility() == Visibility.PUBLIC) {
+        if (visibility == Visibility.PUBLIC) {
             return Role.VIEWER;
         }
 
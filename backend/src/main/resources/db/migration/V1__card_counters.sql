@@ -0,0 +1,22 @@
+-- 카드 카운터 컬럼 (댓글 수, 체크리스트 전체/완료 개수)
+-- - 댓글/체크리스트 변경과 같은 트랜잭션에서 갱신, CardCounterReconcileScheduler가 매일 보정
+-- - 이미 수동으로 추가된 DB에서도 실행되도록 IF NOT EXISTS
+ALTER TABLE card
+    ADD COLUMN IF NOT EXISTS comment_count   INT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS checklist_total INT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS checklist_done  INT NOT NULL DEFAULT 0;
+
+-- 기존 카드 값 채우기 (삭제된 카드는 0 유지)
+UPDATE card c
+    LEFT JOIN (SELECT card_id, COUNT(*) AS cnt
+               FROM comment
+               WHERE deleted_at IS NULL
+               GROUP BY card_id) cm ON cm.card_id = c.id
+    LEFT JOIN (SELECT card_id, COUNT(*) AS total, SUM(done = true) AS done
+               FROM check_list
+               WHERE deleted_at IS NULL
+               GROUP BY card_id) ck ON ck.card_id = c.id
+SET c.comment_count   = COALESCE(cm.cnt, 0),
+    c.checklist_total = COALESCE(ck.total, 0),
+    c.checklist_done  = COALESCE(ck.done, 0)
+WHERE c.deleted_at IS NULL;
@@ -0,0 +1,11 @@
+-- 낙관적 잠금 버전 컬럼 (카드, 리스트, 체크리스트)
+-- - 수정 시 요청 버전과 같을 때만 수정 + 버전 증가, 다르면 409 (현재 상태 반환)
+-- - 이미 수동으로 추가된 DB에서도 실행되도록 IF NOT EXISTS, 기존 행은 0부터 시작
+ALTER TABLE card
+    ADD COLUMN IF NOT EXISTS version INT NOT NULL DEFAULT 0;
+
+ALTER TABLE list
+    ADD COLUMN IF NOT EXISTS version INT NOT NULL DEFAULT 0;
+
+ALTER TABLE check_list
+    ADD COLUMN IF NOT EXISTS version INT NOT NULL DEFAULT 0;
@@ -0,0 +1,5 @@
+-- 댓글 커서 조회 인덱스 (CommentMapper findRootCommentsByCardIdCursor / findRepliesCursor)
+-- - 최상위 댓글 페이지: card_id = ? AND parent_id IS NULL AND id > ? ORDER BY id
+-- - 답글 페이지, 최상위 댓글별 replyCount: card_id = ? AND parent_id = ? (AND id > ?)
+-- - 이미 수동으로 추가된 DB에서도 실행되도록 IF NOT EXISTS
+CREATE INDEX IF NOT EXISTS idx_comment_card_parent_id ON comment (card_id, parent_id, id);
@@ -0,0 +1,222 @@
+package com.nullpointer.domain.board.helper;
+
+import com.nullpointer.domain.board.mapper.BoardMapper;
+import com.nullpointer.domain.board.vo.BoardVo;
+import com.nullpointer.domain.card.dto.CardResponse;
+import com.nullpointer.domain.card.mapper.CardMapper;
+import com.nullpointer.domain.checklist.mapper.ChecklistMapper;
+import com.nullpointer.domain.checklist.vo.ChecklistVo;
+import com.nullpointer.domain.comment.dto.CommentResponse;
+import com.nullpointer.domain.comment.mapper.CommentMapper;
+import com.nullpointer.domain.file.dto.FileResponse;
+import com.nullpointer.domain.file.mapper.FileMapper;
+import com.nullpointer.domain.list.dto.ListWithCardsResponse;
+import com.nullpointer.domain.list.mapper.ListMapper;
+import com.nullpointer.domain.list.vo.ListVo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * 보드 스냅샷 로더
+ * - 카드 수와 관계없이 테이블별 1회 조회 (총 6회), 카드/리스트별 추가 조회 없음
+ * - 테이블마다 해당 테이블의 행만 조회 (mapper가 돌려준 행 수로 확인)
+ * - 조회한 행이 빠짐/중복 없이 카드별로 조립됨
+ */
+@ExtendWith(MockitoExtension.class)
+class BoardSnapshotLoaderTest {
+
+    private static final Long BOARD_ID = 1L;
+
+    @Mock
+    private BoardMapper boardMapper;
+    @Mock
+    private ListMapper listMapper;
+    @Mock
+    private CardMapper cardMapper;
+    @Mock
+    private ChecklistMapper checklistMapper;
+    @Mock
+    private FileMapper fileMapper;
+    @Mock
+    private CommentMapper commentMapper;
+
+    @InjectMocks
+    private BoardSnapshotLoader loader;
+
+    // 테이블별로 mapper가 돌려준 행 수
+    private final Map<String, Integer> fetchedRows = new LinkedHashMap<>();
+
+    @Test
+    void 카드_하나에_체크리스트_파일_댓글이_많아도_테이블별_행만_조회한다() {
+        // 체크리스트 10, 파일 5, 댓글 30 (카드 x 하위 데이터 곱으로 늘어나지 않음)
+        stubBoard(List.of(list(10L)), List.of(card(100L, 10L)), 10, 5, 30);
+
+        BoardSnapshotLoader.BoardSnapshot snapshot = loader.load(BOARD_ID);
+
+        assertThat(fetchedRows).containsExactly(
+                entry("list", 1), entry("card", 1), entry("check_list", 10), entry("file", 5), entry("comment", 30));
+
+        CardResponse card = snapshot.lists().get(0).getCards().get(0);
+        assertThat(card.getChecklists()).hasSize(10);
+        assertThat(card.getFiles()).hasSize(5);
+        assertThat(card.getComments()).hasSize(30);
+        assertThat(card.getFileCount()).isEqualTo(5);
+
+        verifyOneQueryPerTable();
+    }
+
+    @Test
+    void 카드가_많아도_조회_횟수는_늘지_않고_카드별로_조립된다() {
+        List<ListVo> lists = List.of(list(10L), list(20L), list(30L));
+        List<CardResponse> cards = LongStream.rangeClosed(1, 200)
+                .mapToObj(id -> card(id, lists.get((int) (id % lists.size())).getId()))
+                .toList();
+        stubBoard(lists, cards, 2, 1, 3);
+
+        BoardSnapshotLoader.BoardSnapshot snapshot = loader.load(BOARD_ID);
+
+        // 카드 200장이어도 테이블마다 1회, 행 수는 테이블 행 수 그대로
+        assertThat(fetchedRows).containsExactly(
+                entry("list", 3), entry("card", 200), entry("check_list", 400), entry("file", 200), entry("comment", 600));
+
+        assertThat(snapshot.lists()).extracting(ListWithCardsResponse::getId).containsExactly(10L, 20L, 30L);
+        assertThat(snapshot.lists()).flatExtracting(ListWithCardsResponse::getCards).hasSize(200);
+        for (ListWithCardsResponse list : snapshot.lists()) {
+            for (CardResponse card : list.getCards()) {
+                assertThat(card.getListId()).isEqualTo(list.getId());
+                assertThat(card.getChecklists()).hasSize(2).allMatch(ck -> ck.getCardId().equals(card.getId()));
+                assertThat(card.getFiles()).hasSize(1).allMatch(f -> f.getCardId().equals(card.getId()));
+                assertThat(card.getComments()).hasSize(3).allMatch(cm -> cm.getCardId().equals(card.getId()));
+            }
+        }
+
+        verifyOneQueryPerTable();
+    }
+
+    @Test
+    void 하위_데이터가_없는_카드와_빈_리스트는_빈_목록으로_채운다() {
+        stubBoard(List.of(list(10L), list(20L)), List.of(card(100L, 10L)), 0, 0, 0);
+
+        BoardSnapshotLoader.BoardSnapshot snapshot = loader.load(BOARD_ID);
+
+        CardResponse card = snapshot.lists().get(0).getCards().get(0);
+        assertThat(card.getChecklists()).isEmpty();
+        assertThat(card.getFiles()).isEmpty();
+        assertThat(card.getComments()).isEmpty();
+        assertThat(card.getFileCount()).isZero();
+        assertThat(snapshot.lists().get(1).getCards()).isEmpty();
+
+        verifyOneQueryPerTable();
+    }
+
+    @Test
+    void 하위_데이터가_없는_카드는_같은_리스트의_다른_카드_데이터를_받지_않는다() {
+        CardResponse withChildren = card(100L, 10L);
+        CardResponse empty = card(200L, 10L);
+        stubBoard(List.of(list(10L)), List.of(withChildren, empty), 0, 0, 0);
+        // 100번 카드에만 하위 데이터
+        doAnswer(rows("check_list", List.of(
+                ChecklistVo.builder().id(1L).cardId(100L).title("ck").done(false).build())))
+                .when(checklistMapper).findChecklistsByBoardId(BOARD_ID);
+        doAnswer(rows("file", List.of(
+                FileResponse.builder().id(2L).cardId(100L).fileName("f").build())))
+                .when(fileMapper).findFilesByBoardId(BOARD_ID);
+        doAnswer(rows("comment", List.of(
+                CommentResponse.builder().id(3L).cardId(100L).content("c").build(),
+                CommentResponse.builder().id(4L).cardId(100L).content("c").build())))
+                .when(commentMapper).findCommentsByBoardId(BOARD_ID);
+
+        BoardSnapshotLoader.BoardSnapshot snapshot = loader.load(BOARD_ID);
+
+        List<CardResponse> cards = snapshot.lists().get(0).getCards();
+        assertThat(cards).extracting(CardResponse::getId).containsExactly(100L, 200L);
+
+        assertThat(cards.get(0).getChecklists()).extracting(ChecklistVo::getId).containsExactly(1L);
+        assertThat(cards.get(0).getFiles()).extracting(FileResponse::getId).containsExactly(2L);
+        assertThat(cards.get(0).getComments()).extracting(CommentResponse::getId).containsExactly(3L, 4L);
+        assertThat(cards.get(0).getFileCount()).isEqualTo(1);
+
+        assertThat(cards.get(1).getChecklists()).isEmpty();
+        assertThat(cards.get(1).getFiles()).isEmpty();
+        assertThat(cards.get(1).getComments()).isEmpty();
+        assertThat(cards.get(1).getFileCount()).isZero();
+        // 빈 카드끼리 같은 목록 객체를 공유하지 않음 (소켓 이벤트로 한 카드에 추가해도 다른 카드에 보이지 않도록)
+        assertThat(cards.get(1).getComments()).isNotSameAs(cards.get(0).getComments());
+
+        verifyOneQueryPerTable();
+    }
+
+    // 카드마다 체크리스트/파일/댓글을 지정한 개수만큼 만들어 mapper 응답으로 등록
+    private void stubBoard(List<ListVo> lists, List<CardResponse> cards,
+                           int checklistsPerCard, int filesPerCard, int commentsPerCard) {
+        List<ChecklistVo> checklists = new ArrayList<>();
+        List<FileResponse> files = new ArrayList<>();
+        List<CommentResponse> comments = new ArrayList<>();
+        long seq = 1;
+        for (CardResponse card : cards) {
+            for (int i = 0; i < checklistsPerCard; i++) {
+                checklists.add(ChecklistVo.builder().id(seq++).cardId(card.getId()).title("ck").done(false).build());
+            }
+            for (int i = 0; i < filesPerCard; i++) {
+                files.add(FileResponse.builder().id(seq++).cardId(card.getId()).fileName("f").build());
+            }
+            for (int i = 0; i < commentsPerCard; i++) {
+                comments.add(CommentResponse.builder().id(seq++).cardId(card.getId()).content("c").build());
+            }
+        }
+
+        lenient().when(boardMapper.findBoardByBoardId(BOARD_ID))
+                .thenReturn(Optional.of(BoardVo.builder().id(BOARD_ID).title("board").build()));
+        lenient().when(listMapper.findByBoardId(BOARD_ID)).thenAnswer(rows("list", lists));
+        lenient().when(cardMapper.findCardsByBoardId(BOARD_ID)).thenAnswer(rows("card", cards));
+        lenient().when(checklistMapper.findChecklistsByBoardId(BOARD_ID)).thenAnswer(rows("check_list", checklists));
+        lenient().when(fileMapper.findFilesByBoardId(BOARD_ID)).thenAnswer(rows("file", files));
+        lenient().when(commentMapper.findCommentsByBoardId(BOARD_ID)).thenAnswer(rows("comment", comments));
+    }
+
+    // mapper 응답 + 돌려준 행 수 기록 (같은 테이블을 다시 조회하면 누적)
+    private <T> Answer<List<T>> rows(String table, List<T> rows) {
+        return invocation -> {
+            fetchedRows.merge(table, rows.size(), Integer::sum);
+            return new ArrayList<>(rows);
+        };
+    }
+
+    // 테이블별 1회, 그 외 조회(카드/리스트별 조회 등) 없음
+    private void verifyOneQueryPerTable() {
+        verify(boardMapper, times(1)).findBoardByBoardId(BOARD_ID);
+        verify(listMapper, times(1)).findByBoardId(BOARD_ID);
+        verify(cardMapper, times(1)).findCardsByBoardId(BOARD_ID);
+        verify(checklistMapper, times(1)).findChecklistsByBoardId(BOARD_ID);
+        verify(fileMapper, times(1)).findFilesByBoardId(BOARD_ID);
+        verify(commentMapper, times(1)).findCommentsByBoardId(BOARD_ID);
+        verifyNoMoreInteractions(boardMapper, listMapper, cardMapper, checklistMapper, fileMapper, commentMapper);
+    }
+
+    private static ListVo list(Long id) {
+        return ListVo.builder().id(id).boardId(BOARD_ID).title("list-" + id).isArchived(false).build();
+    }
+
+    private static CardResponse card(Long id, Long listId) {
+        return CardResponse.builder().id(id).listId(listId).title("card-" + id).build();
+    }
+}
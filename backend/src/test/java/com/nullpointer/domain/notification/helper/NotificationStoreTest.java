@@ -0,0 +1,151 @@
+package com.nullpointer.domain.notification.helper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nullpointer.domain.notification.dto.NotificationDto;
+import com.nullpointer.domain.notification.vo.enums.NotificationType;
+import com.nullpointer.global.common.enums.RedisKeyType;
+import com.nullpointer.global.util.RedisUtil;
+import com.nullpointer.support.RedisContainerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 저장 Lua 스크립트 (저장 / 개수 제한 / 기간 만료) + 파이프라인 일괄 저장
+ */
+class NotificationStoreTest extends RedisContainerTest {
+
+    private static final Long USER_ID = 1L;
+    private static final int MAX_SIZE = 110;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    private NotificationStore store;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        store = new NotificationStore(new RedisUtil(redisTemplate, objectMapper), objectMapper);
+    }
+
+    @Test
+    void 저장하면_안_읽은_알림으로_조회된다() {
+        NotificationDto saved = store.save(noti(100L, BASE));
+
+        assertThat(saved.getId()).isEqualTo(100L);
+        assertThat(saved.getIsRead()).isFalse();
+        assertThat(store.getUnreadCount(USER_ID)).isEqualTo(1L);
+        assertThat(store.getNotifications(USER_ID))
+                .singleElement()
+                .satisfies(noti -> {
+                    assertThat(noti.getId()).isEqualTo(100L);
+                    assertThat(noti.getMessage()).isEqualTo("알림 100");
+                    assertThat(noti.getIsRead()).isFalse();
+                });
+        for (String key : keys()) {
+            assertThat(redisTemplate.getExpire(key)).as(key).isPositive();
+        }
+    }
+
+    @Test
+    void id가_겹치면_1씩_올려_저장한다() {
+        store.save(noti(100L, BASE));
+
+        NotificationDto second = store.save(noti(100L, BASE));
+
+        assertThat(second.getId()).isEqualTo(101L);
+        assertThat(store.getNotifications(USER_ID)).hasSize(2);
+    }
+
+    @Test
+    void 최대_개수를_넘으면_오래된_알림부터_세_키에서_모두_삭제한다() {
+        for (int i = 0; i < MAX_SIZE + 5; i++) {
+            store.save(noti(100L + i, BASE.plusMinutes(i)));
+        }
+
+        assertThat(redisTemplate.opsForZSet().zCard(keys().get(0))).isEqualTo(MAX_SIZE);
+        assertThat(redisTemplate.opsForHash().size(keys().get(1))).isEqualTo(MAX_SIZE);
+        assertThat(store.getUnreadCount(USER_ID)).isEqualTo(MAX_SIZE);
+        assertThat(store.getNotifications(USER_ID))
+                .extracting(NotificationDto::getId)
+                .doesNotContain(100L, 101L, 102L, 103L, 104L)
+                .startsWith(100L + MAX_SIZE + 4);
+    }
+
+    @Test
+    void 기준_시각_이전_알림을_세_키에서_모두_삭제한다() {
+        store.save(noti(100L, BASE.minusDays(40)));
+        store.save(noti(101L, BASE.minusDays(31)));
+        store.save(noti(102L, BASE));
+
+        long removed = store.expireBefore(USER_ID, BASE.minusDays(30));
+
+        assertThat(removed).isEqualTo(2L);
+        assertThat(store.getUnreadCount(USER_ID)).isEqualTo(1L);
+        assertThat(redisTemplate.opsForHash().keys(keys().get(1))).containsExactly("102");
+        assertThat(store.getNotifications(USER_ID)).extracting(NotificationDto::getId).containsExactly(102L);
+        assertThat(store.expireBefore(USER_ID, BASE.minusDays(30))).isZero();
+    }
+
+    @Test
+    void 일괄_저장은_스크립트가_캐시에_없어도_저장된다() {
+        // EVALSHA -> NOSCRIPT -> EVAL 재실행 경로
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.scriptingCommands().scriptFlush();
+            return null;
+        });
+
+        List<NotificationDto> saved = store.saveAll(List.of(
+                noti(1L, 100L, BASE),
+                noti(2L, 100L, BASE),
+                noti(3L, 100L, BASE)));
+
+        assertThat(saved).extracting(NotificationDto::getId).containsExactly(100L, 100L, 100L);
+        for (long userId = 1; userId <= 3; userId++) {
+            assertThat(store.getUnreadCount(userId)).isEqualTo(1L);
+        }
+
+        // 스크립트가 캐시된 뒤 (EVALSHA 그대로 성공)
+        store.saveAll(List.of(noti(1L, 200L, BASE.plusMinutes(1))));
+        assertThat(store.getUnreadCount(1L)).isEqualTo(2L);
+    }
+
+    @Test
+    void 일괄_저장에서_id가_겹친_항목만_개별_저장으로_재시도한다() {
+        store.save(noti(100L, BASE));
+
+        List<NotificationDto> saved = store.saveAll(List.of(
+                noti(100L, BASE),
+                noti(2L, 100L, BASE)));
+
+        assertThat(saved).extracting(NotificationDto::getId).containsExactly(101L, 100L);
+        assertThat(store.getNotifications(USER_ID)).extracting(NotificationDto::getId).containsExactly(101L, 100L);
+        assertThat(store.getUnreadCount(2L)).isEqualTo(1L);
+    }
+
+    private static NotificationDto noti(Long id, LocalDateTime createdAt) {
+        return noti(USER_ID, id, createdAt);
+    }
+
+    private static NotificationDto noti(Long receiverId, Long id, LocalDateTime createdAt) {
+        return NotificationDto.builder()
+                .id(id)
+                .receiverId(receiverId)
+                .senderId(99L)
+                .type(NotificationType.COMMENT)
+                .message("알림 " + id)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private static List<String> keys() {
+        return List.of(
+                RedisKeyType.NOTIFICATION_INDEX.getKey(USER_ID),
+                RedisKeyType.NOTIFICATION_DATA.getKey(USER_ID),
+                RedisKeyType.NOTIFICATION_UNREAD.getKey(USER_ID));
+    }
+}
@@ -0,0 +1,166 @@
+package com.nullpointer.global.async;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelReaderTest {
+
+    private final RecordingTransactionManager transactionManager = new RecordingTransactionManager();
+    private ParallelReader reader = new ParallelReader(transactionManager, 5);
+
+    @AfterEach
+    void shutdown() {
+        reader.shutdown();
+    }
+
+    @Test
+    void 분기된_조회는_동시에_실행된다() {
+        // 세 조회가 모두 시작되어야 끝남 (순서대로 실행되면 allStarted가 0이 되지 않아 timeout)
+        CountDownLatch allStarted = new CountDownLatch(3);
+        Thread caller = Thread.currentThread();
+
+        try (ParallelReader.Scope scope = reader.open()) {
+            ParallelReader.Fork<Thread> first = scope.fork(() -> arrive(allStarted));
+            ParallelReader.Fork<Thread> second = scope.fork(() -> arrive(allStarted));
+            ParallelReader.Fork<Thread> third = scope.fork(() -> arrive(allStarted));
+
+            assertThat(first.join()).isNotSameAs(caller);
+            assertThat(second.join()).isNotSameAs(caller);
+            assertThat(third.join()).isNotSameAs(caller);
+        }
+    }
+
+    @Test
+    void 분기마다_각자_읽기_전용_트랜잭션에서_실행된다() {
+        try (ParallelReader.Scope scope = reader.open()) {
+            ParallelReader.Fork<Boolean> first = scope.fork(ParallelReaderTest::inReadOnlyTransaction);
+            ParallelReader.Fork<Boolean> second = scope.fork(ParallelReaderTest::inReadOnlyTransaction);
+
+            assertThat(first.join()).isTrue();
+            assertThat(second.join()).isTrue();
+        }
+        assertThat(transactionManager.begun).hasValue(2);
+        assertThat(transactionManager.committed).hasValue(2);
+    }
+
+    @Test
+    void 조회가_실패하면_join에서_같은_예외를_던진다() {
+        IllegalStateException failure = new IllegalStateException("db down");
+
+        try (ParallelReader.Scope scope = reader.open()) {
+            ParallelReader.Fork<String> fork = scope.fork(() -> {
+                throw failure;
+            });
+
+            assertThatThrownBy(fork::join).isSameAs(failure);
+        }
+        assertThat(transactionManager.rolledBack).hasValue(1);
+    }
+
+    @Test
+    void 동시_분기_수를_넘으면_호출_스레드에서_읽기_전용_트랜잭션으로_실행된다() {
+        reader.shutdown();
+        reader = new ParallelReader(transactionManager, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread caller = Thread.currentThread();
+
+        try (ParallelReader.Scope scope = reader.open()) {
+            ParallelReader.Fork<Thread> forked = scope.fork(() -> {
+                await(release);
+                return Thread.currentThread();
+            });
+            ParallelReader.Fork<Boolean> inline = scope.fork(() ->
+                    Thread.currentThread() == caller && inReadOnlyTransaction());
+
+            assertThat(inline.join()).isTrue();
+            release.countDown();
+            assertThat(forked.join()).isNotSameAs(caller);
+        }
+    }
+
+    @Test
+    void 트랜잭션_안에서_열면_분기하지_않고_호출_측_트랜잭션에서_실행된다() {
+        Thread caller = Thread.currentThread();
+
+        Boolean sameThread = new TransactionTemplate(transactionManager).execute(status -> {
+            try (ParallelReader.Scope scope = reader.open()) {
+                return scope.fork(() -> Thread.currentThread() == caller).join();
+            }
+        });
+
+        assertThat(sameThread).isTrue();
+        // 호출 측 트랜잭션에 참여하므로 새 트랜잭션은 시작하지 않음
+        assertThat(transactionManager.begun).hasValue(1);
+    }
+
+    /**
+     * Helper Methods
+     */
+
+    private static Thread arrive(CountDownLatch allStarted) {
+        allStarted.countDown();
+        await(allStarted);
+        return Thread.currentThread();
+    }
+
+    private static boolean inReadOnlyTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("timeout");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 커넥션 없이 트랜잭션 시작/커밋/롤백 횟수만 기록 (스레드에 트랜잭션이 있으면 참여)
+    private static class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+
+        private final AtomicInteger begun = new AtomicInteger();
+        private final AtomicInteger committed = new AtomicInteger();
+        private final AtomicInteger rolledBack = new AtomicInteger();
+
+        @Override
+        protected Object doGetTransaction() {
+            return TransactionSynchronizationManager.isActualTransactionActive();
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return (Boolean) transaction;
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            begun.incrementAndGet();
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            committed.incrementAndGet();
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            rolledBack.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.nullpointer.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nullpointer.domain.board.dto.response.BoardChangeResponse;
+import com.nullpointer.domain.board.dto.response.BoardChangesResponse;
+import com.nullpointer.global.common.enums.RedisKeyType;
+import com.nullpointer.global.util.RedisUtil;
+import com.nullpointer.support.RedisContainerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+/**
+ * 보드 변경 기록 Lua 스크립트 (append) + 이어받기 조회 (readSince)
+ */
+class BoardChangeJournalTest extends RedisContainerTest {
+
+    private static final Long BOARD_ID = 1L;
+    private static final int MAX_SIZE = 500;
+
+    private BoardChangeJournal journal;
+
+    @BeforeEach
+    void setUp() {
+        journal = new BoardChangeJournal(new RedisUtil(redisTemplate, new ObjectMapper()), new ObjectMapper());
+    }
+
+    @Test
+    void 추가할_때마다_보드_버전이_1씩_증가한다() {
+        assertThat(journal.append(BOARD_ID, "CARD_CREATE", 10L, Map.of("cardId", 7))).isEqualTo(1L);
+        assertThat(journal.append(BOARD_ID, "CARD_UPDATE", 10L, Map.of("cardId", 7))).isEqualTo(2L);
+        assertThat(journal.append(2L, "LIST_CREATE", 10L, Map.of("listId", 3))).isEqualTo(1L);
+    }
+
+    @Test
+    void since_이후_변경을_순서대로_반환한다() {
+        journal.append(BOARD_ID, "CARD_CREATE", 10L, Map.of("cardId", 7));
+        journal.append(BOARD_ID, "LIST_MOVE", 11L, Map.of("listId", 3));
+        journal.append(BOARD_ID, "CARD_DELETE", 10L, Map.of("cardId", 7));
+
+        BoardChangesResponse response = journal.readSince(BOARD_ID, 1L);
+
+        assertThat(response.getFullReload()).isFalse();
+        assertThat(response.getRevision()).isEqualTo(3L);
+        assertThat(response.getChanges())
+                .extracting(BoardChangeResponse::getSeq, BoardChangeResponse::getType,
+                        BoardChangeResponse::getEntityId, BoardChangeResponse::getSenderId)
+                .containsExactly(
+                        tuple(2L, "LIST_MOVE", 3L, 11L),
+                        tuple(3L, "CARD_DELETE", 7L, 10L));
+    }
+
+    @Test
+    void 최신_버전이면_빈_목록을_반환한다() {
+        journal.append(BOARD_ID, "CARD_CREATE", 10L, Map.of("cardId", 7));
+
+        BoardChangesResponse response = journal.readSince(BOARD_ID, 1L);
+
+        assertThat(response.getFullReload()).isFalse();
+        assertThat(response.getRevision()).isEqualTo(1L);
+        assertThat(response.getChanges()).isEmpty();
+    }
+
+    @Test
+    void 최대_개수를_넘으면_오래된_기록부터_삭제한다() {
+        for (int i = 0; i < MAX_SIZE + 5; i++) {
+            journal.append(BOARD_ID, "CARD_UPDATE", 10L, Map.of("cardId", i));
+        }
+
+        String key = RedisKeyType.BOARD_JOURNAL.getKey(BOARD_ID);
+        assertThat(redisTemplate.opsForZSet().zCard(key)).isEqualTo(MAX_SIZE);
+        assertThat(redisTemplate.opsForZSet().rangeByScore(key, 1, 5)).isEmpty();
+        assertThat(redisTemplate.getExpire(key)).isPositive();
+
+        // 남아 있는 범위는 이어받기, 삭제된 범위부터는 전체 다시 조회
+        BoardChangesResponse kept = journal.readSince(BOARD_ID, 5L);
+        assertThat(kept.getFullReload()).isFalse();
+        assertThat(kept.getChanges()).hasSize(MAX_SIZE);
+        assertThat(kept.getChanges().get(0).getSeq()).isEqualTo(6L);
+
+        assertThat(journal.readSince(BOARD_ID, 4L).getFullReload()).isTrue();
+    }
+
+    @Test
+    void 중간_기록이_빠져_있으면_전체_다시_조회한다() {
+        for (int i = 0; i < 5; i++) {
+            journal.append(BOARD_ID, "CARD_UPDATE", 10L, Map.of("cardId", i));
+        }
+        redisTemplate.opsForZSet().removeRangeByScore(RedisKeyType.BOARD_JOURNAL.getKey(BOARD_ID), 3, 3);
+
+        BoardChangesResponse response = journal.readSince(BOARD_ID, 1L);
+
+        assertThat(response.getFullReload()).isTrue();
+        assertThat(response.getRevision()).isEqualTo(5L);
+        assertThat(response.getChanges()).isEmpty();
+
+        // 빠진 기록 이후부터는 이어받기 가능
+        assertThat(journal.readSince(BOARD_ID, 3L).getChanges()).hasSize(2);
+    }
+
+    @Test
+    void 기록이_만료되면_전체_다시_조회한다() {
+        journal.append(BOARD_ID, "CARD_CREATE", 10L, Map.of("cardId", 7));
+        journal.append(BOARD_ID, "CARD_UPDATE", 10L, Map.of("cardId", 7));
+        redisTemplate.delete(RedisKeyType.BOARD_JOURNAL.getKey(BOARD_ID));
+
+        assertThat(journal.readSince(BOARD_ID, 0L).getFullReload()).isTrue();
+    }
+
+    @Test
+    void 버전이_초기화되어_since가_더_크면_전체_다시_조회한다() {
+        journal.append(BOARD_ID, "CARD_CREATE", 10L, Map.of("cardId", 7));
+        redisTemplate.delete(RedisKeyType.BOARD_VERSION.getKey(BOARD_ID));
+
+        BoardChangesResponse response = journal.readSince(BOARD_ID, 1L);
+
+        assertThat(response.getFullReload()).isTrue();
+        assertThat(response.getRevision()).isZero();
+    }
+}
@@ -0,0 +1,161 @@
+package com.nullpointer.global.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
+
+class SingleFlightTest {
+
+    private static final int FOLLOWERS = 8;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+    private final SingleFlight<String, String> flight = new SingleFlight<>("test");
+
+    // snapshotAndReset으로 읽은 누적 통계
+    private long calls;
+    private long collapsed;
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 같은_키로_동시에_조회하면_한_번만_조회하고_결과를_공유한다() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = startAll("board:1:v3", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "view";
+        });
+
+        // 조회가 끝나기 전에 모든 요청이 도착할 때까지 대기 후 첫 조회 완료
+        awaitCalls(FOLLOWERS + 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("view");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(collapsed + flight.snapshotAndReset().collapsed()).isEqualTo(FOLLOWERS);
+    }
+
+    @Test
+    void 조회가_실패하면_대기_중인_요청도_같은_예외를_받는다() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("db down");
+
+        List<Future<String>> results = startAll("board:1:v3", () -> {
+            loads.incrementAndGet();
+            await(release);
+            throw failure;
+        });
+
+        awaitCalls(FOLLOWERS + 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause().isSameAs(failure);
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void 조회가_끝난_뒤의_요청은_다시_조회한다() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(flight.execute("k", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(flight.execute("k", () -> "v" + loads.incrementAndGet())).isEqualTo("v2");
+
+        SingleFlight.Snapshot snapshot = flight.snapshotAndReset();
+        assertThat(snapshot.calls()).isEqualTo(2);
+        assertThat(snapshot.collapsed()).isZero();
+        assertThat(snapshot.inFlight()).isZero();
+    }
+
+    @Test
+    void 실패한_뒤의_요청은_다시_조회한다() {
+        assertThatThrownBy(() -> flight.execute("k", () -> {
+            throw new IllegalStateException("first");
+        })).hasMessage("first");
+
+        assertThat(flight.execute("k", () -> "ok")).isEqualTo("ok");
+        assertThat(flight.snapshotAndReset().inFlight()).isZero();
+    }
+
+    @Test
+    void 다른_키는_합치지_않는다() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        Future<String> first = executor.submit(() -> flight.execute("board:1:v3", () -> {
+            bothStarted.countDown();
+            await(bothStarted);
+            return "a";
+        }));
+        Future<String> second = executor.submit(() -> flight.execute("board:1:v4", () -> {
+            bothStarted.countDown();
+            await(bothStarted);
+            return "b";
+        }));
+
+        // 두 조회가 동시에 실행되어야 끝남 (합쳐지면 bothStarted가 0이 되지 않음)
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("b");
+    }
+
+    /**
+     * Helper Methods
+     */
+
+    private List<Future<String>> startAll(String key, Supplier<String> loader) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS + 1; i++) {
+            results.add(executor.submit(() -> flight.execute(key, loader)));
+        }
+        return results;
+    }
+
+    // execute 호출 수가 expected가 될 때까지 대기 (첫 조회는 release 전까지 끝나지 않으므로 모두 합쳐짐)
+    private void awaitCalls(long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (calls < expected) {
+            SingleFlight.Snapshot snapshot = flight.snapshotAndReset();
+            calls += snapshot.calls();
+            collapsed += snapshot.collapsed();
+            if (System.currentTimeMillis() > deadline) {
+                fail("요청 " + expected + "건이 도착하지 않음 (" + calls + "건)");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("timeout");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.nullpointer.global.cache;
+
+import com.nullpointer.domain.user.mapper.UserMapper;
+import com.nullpointer.domain.user.vo.UserVo;
+import com.nullpointer.global.common.enums.RedisKeyType;
+import com.nullpointer.global.util.RedisUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserSummaryCacheTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private UserMapper userMapper;
+
+    @Mock
+    private RedisUtil redisUtil;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @InjectMocks
+    private UserSummaryCache userSummaryCache;
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 한_번_조회한_사용자는_DB를_다시_조회하지_않는다() {
+        when(userMapper.findById(USER_ID)).thenReturn(Optional.of(user("before")));
+
+        userSummaryCache.find(USER_ID);
+        Optional<UserVo> cached = userSummaryCache.find(USER_ID);
+
+        assertThat(cached).get().extracting(UserVo::getNickname).isEqualTo("before");
+        verify(userMapper, times(1)).findById(USER_ID);
+    }
+
+    @Test
+    void 반환값을_수정해도_캐시에는_영향이_없다() {
+        when(userMapper.findById(USER_ID)).thenReturn(Optional.of(user("before")));
+
+        userSummaryCache.find(USER_ID).get().setNickname("changed");
+
+        assertThat(userSummaryCache.find(USER_ID)).get().extracting(UserVo::getNickname).isEqualTo("before");
+    }
+
+    @Test
+    void 없는_사용자는_저장하지_않는다() {
+        when(userMapper.findById(USER_ID)).thenReturn(Optional.empty());
+
+        assertThat(userSummaryCache.find(USER_ID)).isEmpty();
+        assertThat(userSummaryCache.find(USER_ID)).isEmpty();
+
+        verify(userMapper, times(2)).findById(USER_ID);
+    }
+
+    @Test
+    void DB_조회_도중_무효화되면_조회한_값을_저장하지_않는다() {
+        // 이전 값을 읽는 사이 다른 서버에서 프로필 수정 -> 무효화 메시지 수신
+        when(userMapper.findById(USER_ID))
+                .thenAnswer(invocation -> {
+                    userSummaryCache.onMessage(invalidation(USER_ID), null);
+                    return Optional.of(user("before"));
+                })
+                .thenReturn(Optional.of(user("after")));
+
+        assertThat(userSummaryCache.find(USER_ID)).get().extracting(UserVo::getNickname).isEqualTo("before");
+        assertThat(userSummaryCache.find(USER_ID)).get().extracting(UserVo::getNickname).isEqualTo("after");
+        assertThat(userSummaryCache.find(USER_ID)).get().extracting(UserVo::getNickname).isEqualTo("after");
+
+        verify(userMapper, times(2)).findById(USER_ID);
+    }
+
+    @Test
+    void 무효화_메시지를_받으면_다시_조회한다() {
+        when(userMapper.findById(USER_ID))
+                .thenReturn(Optional.of(user("before")))
+                .thenReturn(Optional.of(user("after")));
+        userSummaryCache.find(USER_ID);
+
+        userSummaryCache.onMessage(invalidation(USER_ID), null);
+
+        assertThat(userSummaryCache.find(USER_ID)).get().extracting(UserVo::getNickname).isEqualTo("after");
+    }
+
+    @Test
+    void 잘못된_무효화_메시지는_무시한다() {
+        when(userMapper.findById(USER_ID)).thenReturn(Optional.of(user("before")));
+        userSummaryCache.find(USER_ID);
+
+        userSummaryCache.onMessage(new DefaultMessage(channel(), "not-a-number".getBytes(StandardCharsets.UTF_8)), null);
+        userSummaryCache.find(USER_ID);
+
+        verify(userMapper, times(1)).findById(USER_ID);
+    }
+
+    @Test
+    void 트랜잭션_중_무효화는_커밋_후에_실행한다() {
+        when(userMapper.findById(USER_ID)).thenReturn(Optional.of(user("before")));
+        userSummaryCache.find(USER_ID);
+        TransactionSynchronizationManager.initSynchronization();
+
+        userSummaryCache.evict(USER_ID);
+
+        // 커밋 전: 이전 값 유지, 메시지 발행 안 함
+        userSummaryCache.find(USER_ID);
+        verify(userMapper, times(1)).findById(USER_ID);
+        verify(redisUtil, never()).publish(anyString(), anyString());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(redisUtil).publish(RedisKeyType.USER_SUMMARY_CHANNEL.getPrefix(), String.valueOf(USER_ID));
+        userSummaryCache.find(USER_ID);
+        verify(userMapper, times(2)).findById(USER_ID);
+    }
+
+    /**
+     * Helper Methods
+     */
+
+    private static UserVo user(String nickname) {
+        return UserVo.builder()
+                .id(USER_ID)
+                .email("user@test.com")
+                .nickname(nickname)
+                .build();
+    }
+
+    private static DefaultMessage invalidation(Long userId) {
+        return new DefaultMessage(channel(), String.valueOf(userId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] channel() {
+        return RedisKeyType.USER_SUMMARY_CHANNEL.getPrefix().getBytes(StandardCharsets.UTF_8);
+    }
+}
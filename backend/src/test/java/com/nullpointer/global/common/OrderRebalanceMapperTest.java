@@ -0,0 +1,144 @@
+package com.nullpointer.global.common;
+
+import com.nullpointer.domain.card.mapper.CardMapper;
+import com.nullpointer.domain.list.mapper.ListMapper;
+import com.nullpointer.global.common.constants.AppConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 순서값 재정렬 쿼리 (CardMapper/ListMapper.rebalanceOrderIndexes)
+ * - 같은 테이블을 서브쿼리로 읽으며 UPDATE하므로 실제 MariaDB에서 확인 (Docker가 없으면 건너뜀)
+ * - 테스트마다 롤백
+ */
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class OrderRebalanceMapperTest {
+
+    private static final int GAP = AppConstants.ORDER_INDEX_GAP;
+
+    @Container
+    private static final MariaDBContainer<?> MARIADB =
+            new MariaDBContainer<>("mariadb:11.4").withInitScript("sql/order-rebalance.sql");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MARIADB::getJdbcUrl);
+        registry.add("spring.datasource.username", MARIADB::getUsername);
+        registry.add("spring.datasource.password", MARIADB::getPassword);
+        // 최소 스키마만 만들어 쓰므로 마이그레이션은 실행하지 않음
+        registry.add("spring.flyway.enabled", () -> "false");
+    }
+
+    @Autowired
+    private CardMapper cardMapper;
+
+    @Autowired
+    private ListMapper listMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void 카드를_기존_순서대로_간격을_두고_다시_배치한다() {
+        // 간격 소진(5, 6) + 같은 순서값(6, 6) + 기존 연속 순서값이 섞인 리스트
+        insertCard(1L, 10L, 6, false);
+        insertCard(2L, 10L, 5, false);
+        insertCard(3L, 10L, 6, false);
+        insertCard(4L, 10L, 100, false);
+
+        int updated = cardMapper.rebalanceOrderIndexes(10L, GAP);
+
+        assertThat(updated).isEqualTo(4);
+        // 같은 순서값이면 id 순
+        assertThat(cardOrder(10L)).containsExactly(
+                List.of(2L, 0),
+                List.of(1L, GAP),
+                List.of(3L, 2 * GAP),
+                List.of(4L, 3 * GAP));
+    }
+
+    @Test
+    void 삭제된_카드와_다른_리스트의_카드는_바꾸지_않는다() {
+        insertCard(1L, 10L, 3, false);
+        insertCard(2L, 10L, 1, true);
+        insertCard(3L, 10L, 2, false);
+        insertCard(4L, 20L, 7, false);
+
+        cardMapper.rebalanceOrderIndexes(10L, GAP);
+
+        assertThat(orderIndexOf("card", 2L)).isEqualTo(1);
+        assertThat(orderIndexOf("card", 4L)).isEqualTo(7);
+        assertThat(orderIndexOf("card", 3L)).isZero();
+        assertThat(orderIndexOf("card", 1L)).isEqualTo(GAP);
+    }
+
+    @Test
+    void 빈_리스트는_아무것도_바꾸지_않는다() {
+        assertThat(cardMapper.rebalanceOrderIndexes(10L, GAP)).isZero();
+    }
+
+    @Test
+    void 리스트를_보드_안에서_다시_배치한다() {
+        insertList(1L, 1L, 2, false);
+        insertList(2L, 1L, 1, false);
+        insertList(3L, 1L, 1, true);
+        insertList(4L, 2L, 0, false);
+
+        int updated = listMapper.rebalanceOrderIndexes(1L, GAP);
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(orderIndexOf("list", 2L)).isZero();
+        assertThat(orderIndexOf("list", 1L)).isEqualTo(GAP);
+        assertThat(orderIndexOf("list", 3L)).isEqualTo(1);
+        assertThat(orderIndexOf("list", 4L)).isZero();
+    }
+
+    /**
+     * Helper Methods
+     */
+
+    private void insertCard(Long id, Long listId, int orderIndex, boolean deleted) {
+        jdbcTemplate.update("INSERT INTO card (id, list_id, order_index, deleted_at) VALUES (?, ?, ?, " + (deleted ? "NOW()" : "NULL") + ")",
+                id, listId, orderIndex);
+    }
+
+    private void insertList(Long id, Long boardId, int orderIndex, boolean deleted) {
+        jdbcTemplate.update("INSERT INTO list (id, board_id, order_index, deleted_at) VALUES (?, ?, ?, " + (deleted ? "NOW()" : "NULL") + ")",
+                id, boardId, orderIndex);
+    }
+
+    // [id, order_index] (순서값 순)
+    private List<List<Object>> cardOrder(Long listId) {
+        return jdbcTemplate.query(
+                "SELECT id, order_index FROM card WHERE list_id = ? AND deleted_at IS NULL ORDER BY order_index",
+                (rs, rowNum) -> List.of(rs.getLong("id"), rs.getInt("order_index")),
+                listId);
+    }
+
+    private int orderIndexOf(String table, Long id) {
+        return jdbcTemplate.queryForObject("SELECT order_index FROM " + table + " WHERE id = ?", Integer.class, id);
+    }
+}
@@ -0,0 +1,77 @@
+package com.nullpointer.global.common;
+
+import com.nullpointer.domain.card.mapper.CardMapper;
+import com.nullpointer.domain.list.mapper.ListMapper;
+import com.nullpointer.global.common.constants.AppConstants;
+import com.nullpointer.global.common.enums.RedisKeyType;
+import com.nullpointer.global.util.RedisUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderRebalancerTest {
+
+    private static final String KEY = RedisKeyType.ORDER_REBALANCE.getKey();
+
+    @Mock
+    private CardMapper cardMapper;
+
+    @Mock
+    private ListMapper listMapper;
+
+    @Mock
+    private RedisUtil redisUtil;
+
+    @Mock
+    private SocketSender socketSender;
+
+    @InjectMocks
+    private OrderRebalancer orderRebalancer;
+
+    @Test
+    void 재정렬에_성공한_대상은_다시_등록하지_않는다() {
+        when(redisUtil.popSet(KEY, 10)).thenReturn(List.of("card:1:10", "list:2"));
+
+        int drained = orderRebalancer.drainPending(10);
+
+        assertThat(drained).isEqualTo(2);
+        verify(cardMapper).rebalanceOrderIndexes(10L, AppConstants.ORDER_INDEX_GAP);
+        verify(listMapper).rebalanceOrderIndexes(2L, AppConstants.ORDER_INDEX_GAP);
+        verify(redisUtil, never()).addSet(eq(KEY), anyString());
+    }
+
+    @Test
+    void 재정렬에_실패한_대상은_다시_등록한다() {
+        when(redisUtil.popSet(KEY, 10)).thenReturn(List.of("card:1:10", "list:2"));
+        when(cardMapper.rebalanceOrderIndexes(10L, AppConstants.ORDER_INDEX_GAP))
+                .thenThrow(new IllegalStateException("lock wait timeout"));
+
+        orderRebalancer.drainPending(10);
+
+        verify(redisUtil).addSet(KEY, "card:1:10");
+        verify(redisUtil, never()).addSet(KEY, "list:2");
+        // 앞 대상이 실패해도 나머지는 계속 처리
+        verify(listMapper).rebalanceOrderIndexes(2L, AppConstants.ORDER_INDEX_GAP);
+    }
+
+    @Test
+    void 형식이_잘못된_대상은_다시_등록하지_않는다() {
+        when(redisUtil.popSet(KEY, 10)).thenReturn(List.of("card:abc", "list"));
+
+        orderRebalancer.drainPending(10);
+
+        verify(redisUtil, never()).addSet(eq(KEY), anyString());
+    }
+}
@@ -0,0 +1,72 @@
+package com.nullpointer.global.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nullpointer.global.cache.BoardViewCache;
+import com.nullpointer.global.socket.SocketRelay;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SocketSenderTest {
+
+    private final SocketRelay socketRelay = mock(SocketRelay.class);
+    private final BoardViewCache boardViewCache = mock(BoardViewCache.class);
+    private final SocketSender socketSender = new SocketSender(socketRelay, boardViewCache, new ObjectMapper(), 0);
+
+    @BeforeEach
+    void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void endTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        socketSender.shutdown();
+    }
+
+    @Test
+    void 커밋_후_한_목적지가_실패해도_다른_목적지는_전송된다() {
+        when(boardViewCache.record(eq(1L), any(), any(), any())).thenThrow(new IllegalStateException("redis down"));
+
+        socketSender.sendSocketMessage(1L, "CARD_UPDATE", 10L, null);
+        socketSender.sendTeamSocketMessage(2L, "TEAM_UPDATE", 10L, null);
+
+        // 커밋 후 작업이 예외를 던지지 않아야 이미 커밋된 요청이 500으로 끝나지 않음
+        assertThatCode(this::commit).doesNotThrowAnyException();
+
+        verify(socketRelay, timeout(1000)).relay(eq("/topic/team/2"), any());
+        verify(socketRelay, never()).relay(eq("/topic/board/1"), any());
+    }
+
+    @Test
+    void 커밋_전에는_전송하지_않는다() {
+        socketSender.sendTeamSocketMessage(2L, "TEAM_UPDATE", 10L, null);
+
+        verify(socketRelay, never()).relay(any(), any());
+    }
+
+    /**
+     * Helper Methods
+     */
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+}
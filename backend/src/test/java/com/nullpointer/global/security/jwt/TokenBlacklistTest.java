@@ -0,0 +1,69 @@
+package com.nullpointer.global.security.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nullpointer.global.common.enums.RedisKeyType;
+import com.nullpointer.global.util.RedisUtil;
+import com.nullpointer.support.RedisContainerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 토큰 블랙리스트 재동기화 (SCAN + PTTL 파이프라인)
+ */
+class TokenBlacklistTest extends RedisContainerTest {
+
+    private TokenBlacklist blacklist;
+
+    @BeforeEach
+    void setUp() {
+        blacklist = new TokenBlacklist(new RedisUtil(redisTemplate, new ObjectMapper()),
+                mock(RedisMessageListenerContainer.class));
+    }
+
+    @Test
+    void 재동기화하면_Redis에_남아_있는_폐기_토큰을_로컬에_반영한다() {
+        // 파이프라인 묶음 크기(500)를 넘는 키 수
+        for (int i = 0; i < 600; i++) {
+            putRevoked("hash-" + i, Duration.ofMinutes(10));
+        }
+
+        blacklist.resync();
+
+        assertThat(blacklist.isRevoked("hash-0")).isTrue();
+        assertThat(blacklist.isRevoked("hash-599")).isTrue();
+        assertThat(blacklist.isRevoked("hash-600")).isFalse();
+    }
+
+    @Test
+    void 만료_시간이_없는_키는_반영하지_않는다() {
+        redisTemplate.opsForValue().set(RedisKeyType.BLACKLIST.getKey("no-ttl"), "logout");
+
+        blacklist.resync();
+
+        assertThat(blacklist.isRevoked("no-ttl")).isFalse();
+    }
+
+    @Test
+    void 원본_토큰으로_저장된_키는_해시로_반영한다() {
+        String token = "header.payload.signature";
+        putRevoked(token, Duration.ofMinutes(10));
+
+        blacklist.resync();
+
+        assertThat(blacklist.isRevoked(JwtTokenProvider.hashToken(token))).isTrue();
+    }
+
+    /**
+     * Helper Methods
+     */
+
+    private void putRevoked(String suffix, Duration ttl) {
+        redisTemplate.opsForValue().set(RedisKeyType.BLACKLIST.getKey(suffix), "logout", ttl);
+    }
+}
@@ -0,0 +1,139 @@
+package com.nullpointer.global.socket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nullpointer.global.common.enums.RedisKeyType;
+import com.nullpointer.global.util.RedisUtil;
+import com.nullpointer.support.RedisContainerTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Redis Pub/Sub 소켓 중계
+ * - 서버 2대를 리스너 컨테이너 2개로 흉내 (같은 Redis, 서버마다 내장 브로커는 mock)
+ */
+class RedisBrokerRelayTest extends RedisContainerTest {
+
+    private static final String BOARD_DEST = "/topic/board/1";
+    private static final long WAIT_MILLIS = 5_000L;
+
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+
+    @AfterEach
+    void stopServers() throws Exception {
+        for (RedisMessageListenerContainer container : containers) {
+            container.stop();
+            container.destroy();
+        }
+    }
+
+    @Test
+    void 한_서버에서_발행하면_모든_서버의_로컬_구독자에게_전달된다() {
+        SimpMessagingTemplate localA = mock(SimpMessagingTemplate.class);
+        SimpMessagingTemplate localB = mock(SimpMessagingTemplate.class);
+        RedisBrokerRelay serverA = startServer(localA);
+        startServer(localB);
+
+        byte[] payload = "{\"type\":\"CARD_UPDATE\",\"boardId\":1}".getBytes(StandardCharsets.UTF_8);
+        serverA.relay(BOARD_DEST, payload);
+
+        // 발행한 서버 자신도 Redis를 거쳐 1번만 받음
+        verify(localA, timeout(WAIT_MILLIS).times(1)).send(eq(BOARD_DEST), payloadOf(payload));
+        verify(localB, timeout(WAIT_MILLIS).times(1)).send(eq(BOARD_DEST), payloadOf(payload));
+    }
+
+    @Test
+    void 사용자_목적지와_줄바꿈이_포함된_payload를_그대로_전달한다() {
+        SimpMessagingTemplate localA = mock(SimpMessagingTemplate.class);
+        SimpMessagingTemplate localB = mock(SimpMessagingTemplate.class);
+        RedisBrokerRelay serverA = startServer(localA);
+        startServer(localB);
+
+        String userDest = "/user/a%2Fb@test.com/queue/notifications";
+        byte[] payload = "{\"message\":\"첫 줄\\n둘째 줄\"}\n".getBytes(StandardCharsets.UTF_8);
+        serverA.relay(userDest, payload);
+
+        verify(localB, timeout(WAIT_MILLIS)).send(eq(userDest), payloadOf(payload));
+    }
+
+    @Test
+    void 여러_메시지를_보내면_서버마다_건수만큼_받는다() {
+        SimpMessagingTemplate localA = mock(SimpMessagingTemplate.class);
+        SimpMessagingTemplate localB = mock(SimpMessagingTemplate.class);
+        RedisBrokerRelay serverA = startServer(localA);
+        RedisBrokerRelay serverB = startServer(localB);
+
+        serverA.relay(BOARD_DEST, bytes("1"));
+        serverB.relay(BOARD_DEST, bytes("2"));
+        serverA.relay("/topic/board/2", bytes("3"));
+
+        verify(localA, timeout(WAIT_MILLIS).times(2)).send(eq(BOARD_DEST), any(Message.class));
+        verify(localB, timeout(WAIT_MILLIS).times(2)).send(eq(BOARD_DEST), any(Message.class));
+        verify(localB, timeout(WAIT_MILLIS).times(1)).send(eq("/topic/board/2"), payloadOf(bytes("3")));
+    }
+
+    @Test
+    void Redis_발행에_실패하면_같은_서버_구독자에게는_직접_전달한다() {
+        RedisUtil brokenRedis = mock(RedisUtil.class);
+        doThrow(new IllegalStateException("connection refused"))
+                .when(brokenRedis).publish(anyString(), any(byte[].class));
+        SimpMessagingTemplate local = mock(SimpMessagingTemplate.class);
+        RedisBrokerRelay relay = new RedisBrokerRelay(brokenRedis, mock(RedisMessageListenerContainer.class), local);
+
+        byte[] payload = bytes("fallback");
+        relay.relay(BOARD_DEST, payload);
+
+        verify(local).send(eq(BOARD_DEST), payloadOf(payload));
+    }
+
+    @Test
+    void 구분자가_없는_메시지는_무시한다() {
+        SimpMessagingTemplate local = mock(SimpMessagingTemplate.class);
+        RedisBrokerRelay relay = new RedisBrokerRelay(mock(RedisUtil.class), mock(RedisMessageListenerContainer.class), local);
+
+        byte[] channel = RedisKeyType.SOCKET_CHANNEL.getPrefix().getBytes(StandardCharsets.UTF_8);
+        relay.onMessage(new DefaultMessage(channel, bytes("no-separator")), null);
+
+        verify(local, never()).send(anyString(), any(Message.class));
+    }
+
+    // 서버 1대: 자체 리스너 컨테이너 + 내장 브로커(local)
+    private RedisBrokerRelay startServer(SimpMessagingTemplate local) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+
+        RedisBrokerRelay relay = new RedisBrokerRelay(new RedisUtil(redisTemplate, new ObjectMapper()), container, local);
+        relay.subscribe();
+        container.start();
+
+        containers.add(container);
+        return relay;
+    }
+
+    private static Message<?> payloadOf(byte[] expected) {
+        return argThat(message -> Arrays.equals((byte[]) message.getPayload(), expected));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,55 @@
+package com.nullpointer.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalCacheUtilTest {
+
+    private static final long NOW = 1_000_000L;
+
+    @Test
+    void 최대_크기_미만이면_삭제하지_않는다() {
+        Map<Integer, Long> cache = filled(99, NOW - 1);
+
+        LocalCacheUtil.trim(cache, 100, Long::longValue, NOW);
+
+        assertThat(cache).hasSize(99);
+    }
+
+    @Test
+    void 가득_차면_만료된_항목만_먼저_삭제한다() {
+        Map<Integer, Long> cache = filled(98, NOW + 1_000);
+        cache.put(1, NOW - 1);
+        cache.put(2, NOW);
+
+        LocalCacheUtil.trim(cache, 100, Long::longValue, NOW);
+
+        assertThat(cache).hasSize(98).doesNotContainKeys(1, 2);
+    }
+
+    @Test
+    void 만료된_항목이_없으면_오래된_항목부터_10퍼센트만_삭제한다() {
+        // key가 작을수록 만료가 이름 (먼저 저장됨)
+        Map<Integer, Long> cache = new ConcurrentHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, NOW + 1_000 + i);
+        }
+
+        LocalCacheUtil.trim(cache, 100, Long::longValue, NOW);
+
+        assertThat(cache).hasSize(90);
+        assertThat(cache.keySet()).allMatch(key -> key >= 10);
+    }
+
+    private static Map<Integer, Long> filled(int size, long expiresAt) {
+        Map<Integer, Long> cache = new ConcurrentHashMap<>();
+        for (int i = 0; i < size; i++) {
+            cache.put(1_000 + i, expiresAt);
+        }
+        return cache;
+    }
+}
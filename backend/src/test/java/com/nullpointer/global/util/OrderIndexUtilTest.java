@@ -0,0 +1,45 @@
+package com.nullpointer.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import static com.nullpointer.global.common.constants.AppConstants.ORDER_INDEX_GAP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderIndexUtilTest {
+
+    @Test
+    void 앞뒤_사이의_중간값을_반환한다() {
+        assertThat(OrderIndexUtil.between(0, ORDER_INDEX_GAP)).isEqualTo(ORDER_INDEX_GAP / 2);
+        assertThat(OrderIndexUtil.between(-3, 3)).isZero();
+    }
+
+    @Test
+    void 맨_앞과_맨_뒤는_간격만큼_떨어뜨린다() {
+        assertThat(OrderIndexUtil.between(null, 0)).isEqualTo(-ORDER_INDEX_GAP);
+        assertThat(OrderIndexUtil.between(0, null)).isEqualTo(ORDER_INDEX_GAP);
+        assertThat(OrderIndexUtil.between(null, null)).isZero();
+    }
+
+    @Test
+    void 간격이_소진되면_null을_반환한다() {
+        assertThat(OrderIndexUtil.between(5, 6)).isNull();
+        assertThat(OrderIndexUtil.between(6, 6)).isNull();
+        assertThat(OrderIndexUtil.between(null, Integer.MIN_VALUE / 2)).isNull();
+        assertThat(OrderIndexUtil.after(Integer.MAX_VALUE / 2)).isNull();
+    }
+
+    @Test
+    void 이어_붙일_범위가_한계를_넘으면_null을_반환한다() {
+        assertThat(OrderIndexUtil.appendStart(null, 3)).isZero();
+        assertThat(OrderIndexUtil.appendStart(0, 3)).isEqualTo(ORDER_INDEX_GAP);
+        assertThat(OrderIndexUtil.appendStart(Integer.MAX_VALUE / 2 - ORDER_INDEX_GAP * 2, 3)).isNull();
+    }
+
+    @Test
+    void 앞이나_뒤와의_간격이_최소_간격보다_좁으면_재정렬_대상이다() {
+        assertThat(OrderIndexUtil.isCrowded(0, 4, 1024)).isTrue();
+        assertThat(OrderIndexUtil.isCrowded(0, 1020, 1024)).isTrue();
+        assertThat(OrderIndexUtil.isCrowded(0, 512, 1024)).isFalse();
+        assertThat(OrderIndexUtil.isCrowded(null, 0, null)).isFalse();
+    }
+}
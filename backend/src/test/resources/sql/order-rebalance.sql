@@ -0,0 +1,16 @@
+-- 순서값 재정렬 테스트용 최소 스키마 (재정렬 쿼리가 사용하는 컬럼만)
+CREATE TABLE list
+(
+    id          BIGINT PRIMARY KEY,
+    board_id    BIGINT   NOT NULL,
+    order_index INT      NOT NULL,
+    deleted_at  DATETIME NULL
+);
+
+CREATE TABLE card
+(
+    id          BIGINT PRIMARY KEY,
+    list_id     BIGINT   NOT NULL,
+    order_index INT      NOT NULL,
+    deleted_at  DATETIME NULL
+);
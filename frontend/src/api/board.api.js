@@ -1,8 +1,37 @@
 import api from './AxiosInterceptor'
 
+// 보드 상세 조회 응답 (boardId -> { eTag, data })
+// - 다시 조회할 때 If-None-Match로 보내고 304면 저장된 응답 재사용
+const boardViewResponses = new Map()
+
+const isSuccessOrNotModified = (status) =>
+  (status >= 200 && status < 300) || status === 304
+
 export const boardApi = {
-  // 보드 상세 조회
-  fetchBoard: (boardId) => api.get(`/boards/${boardId}/view`),
+  // 보드 상세 조회 (변경이 없으면 서버는 304, 본문 없이 응답)
+  fetchBoard: async (boardId) => {
+    const key = String(boardId)
+    const cached = boardViewResponses.get(key)
+    const response = await api.get(`/boards/${boardId}/view`, {
+      headers: cached ? { 'If-None-Match': cached.eTag } : {},
+      validateStatus: isSuccessOrNotModified,
+    })
+
+    if (response.status === 304 && cached) {
+      return { ...response, data: cached.data }
+    }
+
+    const eTag = response.headers.etag
+    if (eTag) {
+      boardViewResponses.set(key, { eTag, data: response.data })
+    } else {
+      boardViewResponses.delete(key)
+    }
+    return response
+  },
+  // 보드 변경 조회 (since 버전 이후, 재연결 시 놓친 변경)
+  fetchBoardChanges: (boardId, since) =>
+    api.get(`/boards/${boardId}/changes`, { params: { since } }),
   // 내 보드 목록 조회
   fetchMyBoards: () => api.get('/boards/me'),
   // 공개 보드 검색
@@ -35,14 +64,15 @@ export const boardApi = {
       title,
     }),
   // 리스트 수정
-  updateList: (listId, newTitle) =>
+  updateList: (listId, newTitle, version) =>
     api.put(`/lists/${listId}`, {
       title: newTitle,
+      version,
     }),
   // 리스트 아카이브 변경
-  updateListArchiveStatus: (listId, isArchived) =>
+  updateListArchiveStatus: (listId, isArchived, version) =>
     api.patch(`/lists/${listId}/archive`, null, {
-      params: { isArchived },
+      params: { isArchived, version },
     }),
   // 리스트 삭제
   deleteList: (listId) => api.delete(`/lists/${listId}`),
@@ -93,6 +123,8 @@ export const boardApi = {
       headers: { 'Content-Type': 'multipart/form-data' },
     })
   },
+  // 카드 첨부파일 조회 (다운로드 URL 포함)
+  getCardFiles: (cardId) => api.get(`/files/card/${cardId}`),
   // 파일 삭제
   deleteFile: (fileId) => api.delete(`/files/${fileId}`),
 
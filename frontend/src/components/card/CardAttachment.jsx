@@ -5,8 +5,9 @@ import { useParams } from 'react-router-dom'
 import useBoardStore from '../../stores/useBoardStore'
 import { useBoardQuery } from '../../hooks/board/useBoardQuery'
 import useBoardPermission from '../../hooks/board/useBoardPermission'
+import { useCardFilesQuery } from '../../hooks/file/useCardFilesQuery'
 
-function CardAttachment({ files = [] }) {
+function CardAttachment({ files: boardFiles = [] }) {
   const { boardId } = useParams()
   const { selectedCard } = useBoardStore()
   const { data: board } = useBoardQuery(boardId)
@@ -14,6 +15,14 @@ function CardAttachment({ files = [] }) {
   // useFileMutations 훅을 통해 deleteFile 함수 가져오기
   const { deleteFile } = useFileMutations(Number(boardId))
 
+  // 보드 페이지에 다운로드 URL이 없으면 카드를 열 때 조회해서 채움
+  const needsUrl = (boardFiles || []).some((file) => !file.fileUrl)
+  const { data: cardFiles } = useCardFilesQuery(selectedCard?.id, needsUrl)
+  const urlById = new Map((cardFiles || []).map((f) => [f.id, f.filePath]))
+  const files = (boardFiles || []).map((file) =>
+    file.fileUrl ? file : { ...file, fileUrl: urlById.get(file.id) },
+  )
+
   if (!files || files.length === 0) return null
 
   // 파일 확장자로 이미지 여부 확인
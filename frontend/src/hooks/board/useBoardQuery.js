@@ -89,6 +89,7 @@ const normalizeBoardData = (dto) => {
         label: card.label,
         labelColor: card.labelColor,
         isArchived: card.isArchived,
+        version: card.version,
 
         // 댓글 트리
         comments: treeComments,
@@ -113,6 +114,7 @@ const normalizeBoardData = (dto) => {
             id: cl.id,
             title: cl.title,
             done: cl.done,
+            version: cl.version,
           })),
 
         // 담당자 객체 (Assignee)
@@ -143,6 +145,7 @@ const normalizeBoardData = (dto) => {
       title: list.title,
       order: list.orderIndex,
       isArchived: list.isArchived,
+      version: list.version,
       // 카드 매핑 (CardResponse -> UI Card Object)
       tasks: activeTasks,
     }
@@ -3,10 +3,17 @@ import { useEffect, useRef } from 'react'
 import { useQueryClient } from '@tanstack/react-query'
 import { socketClient } from '../../utils/socketClient'
 import { useAuthQuery } from '../auth/useAuthQuery'
+import { applyBoardEvent } from '../../utils/boardSocketPatch'
+import { boardApi } from '../../api/board.api'
+
+// 첨부파일 목록(['files', cardId])도 다시 조회해야 하는 이벤트
+const FILE_EVENTS = ['FILE_CREATE', 'FILE_DELETE']
 
 export const useBoardSocket = (boardId) => {
   const queryClient = useQueryClient()
   const subscriptionRef = useRef(null)
+  // 마지막으로 반영한 보드 버전 (재연결 시 이후 변경만 조회)
+  const revisionRef = useRef(null)
   const { data: user } = useAuthQuery()
 
   useEffect(() => {
@@ -14,8 +21,75 @@ export const useBoardSocket = (boardId) => {
     if (!boardId) return
 
     const topic = `/topic/board/${boardId}`
+    const queryKey = ['board', Number(boardId)]
     let retryTimer = null
 
+    // 보드 조회 응답의 버전과 소켓으로 받은 버전 중 최신
+    const currentRevision = () => {
+      const loaded = queryClient.getQueryData(queryKey)?.revision
+      const received = revisionRef.current
+      if (loaded == null) return received
+      if (received == null) return loaded
+      return Math.max(loaded, received)
+    }
+
+    const rememberRevision = (revision) => {
+      if (revision == null) return
+      revisionRef.current =
+        revisionRef.current == null
+          ? revision
+          : Math.max(revisionRef.current, revision)
+    }
+
+    const reloadBoard = () => queryClient.invalidateQueries({ queryKey })
+
+    // 보드 이벤트 1건 반영 (캐시에 바로 반영할 수 없으면 false)
+    const applyEvent = (event) => {
+      // 내가 보낸 변경은 요청 응답으로 이미 반영됨 (중복 갱신 방지)
+      if (user && event.senderId === user.id) return true
+
+      // 카드 상세의 첨부파일 목록은 별도 조회이므로 함께 갱신
+      if (FILE_EVENTS.includes(event.type) && event.data?.cardId) {
+        queryClient.invalidateQueries({
+          queryKey: ['files', Number(event.data.cardId)],
+        })
+      }
+
+      // 체크리스트/댓글/파일 이벤트는 받은 데이터로 캐시에 바로 반영 (다시 조회 x)
+      const patched = applyBoardEvent(queryClient.getQueryData(queryKey), event)
+      if (!patched) return false
+
+      queryClient.setQueryData(queryKey, patched)
+      return true
+    }
+
+    // 재연결 시 끊긴 동안 놓친 변경 반영
+    // - 변경 기록이 부족하거나(fullReload) 반영할 수 없는 변경이 있으면 보드 전체 다시 조회
+    const catchUp = async () => {
+      const since = currentRevision()
+      if (since == null) {
+        reloadBoard()
+        return
+      }
+
+      try {
+        const response = await boardApi.fetchBoardChanges(boardId, since)
+        const { revision, fullReload, changes } = response.data.data
+
+        console.log(
+          `🔄 [BoardSocket] 재연결 - ${since} 이후 변경 ${changes.length}건${fullReload ? ' (전체 다시 조회)' : ''}`,
+        )
+
+        const applied =
+          !fullReload && changes.every((change) => applyEvent(change))
+        rememberRevision(revision)
+        if (!applied) reloadBoard()
+      } catch (e) {
+        console.error('보드 변경 조회 실패: ', e)
+        reloadBoard()
+      }
+    }
+
     const subscribe = () => {
       // 1. 이미 구독 중이면 중복 실행 방지
       if (subscriptionRef.current) return
@@ -32,33 +106,39 @@ export const useBoardSocket = (boardId) => {
 
       subscriptionRef.current = socketClient.subscribe(topic, (message) => {
         const response = JSON.parse(message.body)
+        rememberRevision(response.revision)
 
-        // 1. 내가 보낸 메시지는 여전히 무시 (중복 갱신 방지)
-        if (user && response.senderId === user.id) {
-          return
-        }
+        if (applyEvent(response)) return
 
         console.log(
-          `📨 [BoardSocket] 메시지 수신(${response.type}) -> 무조건 데이터 갱신`,
+          `📨 [BoardSocket] 메시지 수신(${response.type}) -> 데이터 갱신`,
         )
 
-        queryClient.invalidateQueries({
-          queryKey: ['board', Number(boardId)],
-        })
+        reloadBoard()
       })
     }
 
+    // 재연결되면 이전 구독은 사라지므로 다시 구독 후 놓친 변경 반영
+    const removeConnectListener = socketClient.addConnectListener(() => {
+      const wasSubscribed = subscriptionRef.current != null
+      subscriptionRef.current = null
+      subscribe()
+      if (wasSubscribed) catchUp()
+    })
+
     // 구독 시도 시작
     subscribe()
 
     // Cleanup: 언마운트 시 구독 해제 및 타이머 정리
     return () => {
+      removeConnectListener()
       if (retryTimer) clearTimeout(retryTimer)
       if (subscriptionRef.current) {
         console.log(`🔌 [BoardSocket] 구독 해제: ${topic}`)
         subscriptionRef.current.unsubscribe()
         subscriptionRef.current = null
       }
+      revisionRef.current = null
     }
   }, [boardId, queryClient, user])
 }
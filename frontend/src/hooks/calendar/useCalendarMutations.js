@@ -6,8 +6,9 @@ export const useCalendarMutations = () => {
 
   // (예시) 일정 날짜 변경 (드래그 앤 드롭 등)
   const updateEventDateMutation = useMutation({
-    mutationFn: ({ cardId, startDate, dueDate }) =>
-      boardApi.updateCard(cardId, { startDate, dueDate }),
+    // version: 호출 측이 마지막으로 본 카드 버전 (필수)
+    mutationFn: ({ cardId, startDate, dueDate, version }) =>
+      boardApi.updateCard(cardId, { startDate, dueDate, version }),
 
     onSuccess: () => {
       // 캘린더 데이터 갱신
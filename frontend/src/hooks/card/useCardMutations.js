@@ -1,9 +1,31 @@
 import { useMutation, useQueryClient } from '@tanstack/react-query'
 import { boardApi } from '../../api/board.api'
 import useBoardStore from '../../stores/useBoardStore'
+import {
+  CONFLICT_MESSAGE,
+  isVersionConflict,
+  requestWithMerge,
+} from '../../utils/versionConflict'
 
 const DONE_LIST_ID = 'virtual-done-list'
 
+// 카드 수정 요청 필드 -> 충돌 비교 필드 (삭제 플래그는 지우는 필드와 비교)
+const CARD_CONFLICT_FIELDS = {
+  removePriority: ['priority'],
+  removeDate: ['startDate', 'dueDate'],
+  removeLabel: ['label', 'labelColor'],
+}
+const cardConflictFields = (key) => CARD_CONFLICT_FIELDS[key] || [key]
+
+// 보드 캐시에서 카드 찾기 -> 충돌 비교용 기준 상태 (서버 응답과 같은 필드 이름)
+const findCardBase = (board, cardId) => {
+  for (const column of Object.values(board?.columns || {})) {
+    const card = column.tasks?.find((t) => t.id === cardId)
+    if (card) return { ...card, assigneeId: card.assignee?.id ?? null }
+  }
+  return null
+}
+
 // -- 카드 이동 시 낙관적 업데이트 로직 --
 const moveCardOptimisticUpdate = (
   oldBoard,
@@ -234,17 +256,25 @@ export const useCardMutations = (boardId) => {
 
   // 카드 이동
   const moveCardMutation = useMutation({
-    mutationFn: async ({ cardId, fromListId, toListId, newIndex }) => {
+    mutationFn: async ({ cardId, fromListId, toListId, newIndex, base }) => {
       const isSourceDone = fromListId === DONE_LIST_ID
       const isDestDone = toListId === DONE_LIST_ID
+      // 완료 상태 변경도 카드 수정이므로 버전을 담아 요청
+      const updateComplete = (isComplete) =>
+        requestWithMerge(
+          (body) => boardApi.updateCard(cardId, body),
+          { isComplete },
+          base,
+          cardConflictFields,
+        )
 
       // A) 미완료 -> 완료 이동
       if (isDestDone && !isSourceDone) {
-        return boardApi.updateCard(cardId, { isComplete: true })
+        return updateComplete(true)
       }
       // B) 완료 -> 미완료 이동
       if (isSourceDone && !isDestDone) {
-        await boardApi.updateCard(cardId, { isComplete: false })
+        await updateComplete(false)
         return boardApi.moveCard(cardId, toListId, newIndex)
       }
       // C) 완료 -> 완료 (이동 없음)
@@ -256,7 +286,11 @@ export const useCardMutations = (boardId) => {
     },
 
     onMutate: (vars) => handleOptimisticUpdate(moveCardOptimisticUpdate, vars),
-    onError: (err, vars, ctx) => handleError(ctx, '카드 이동 실패'),
+    onError: (err, vars, ctx) =>
+      handleError(
+        ctx,
+        isVersionConflict(err) ? CONFLICT_MESSAGE : '카드 이동 실패',
+      ),
     onSettled: () => queryClient.invalidateQueries({ queryKey }),
   })
 
@@ -302,12 +336,22 @@ export const useCardMutations = (boardId) => {
     onSettled: () => queryClient.invalidateQueries({ queryKey }),
   })
 
-  // 카드 수정
+  // 카드 수정 (버전 충돌 시 겹치지 않는 변경이면 최신 버전으로 다시 요청)
   const updateCardMutation = useMutation({
-    mutationFn: ({ cardId, updates }) => boardApi.updateCard(cardId, updates),
+    mutationFn: ({ cardId, updates, base }) =>
+      requestWithMerge(
+        (body) => boardApi.updateCard(cardId, body),
+        updates,
+        base,
+        cardConflictFields,
+      ),
     onMutate: (vars) =>
       handleOptimisticUpdate(updateCardOptimisticUpdate, vars),
-    onError: (err, vars, ctx) => handleError(ctx, '카드 수정 실패'),
+    onError: (err, vars, ctx) =>
+      handleError(
+        ctx,
+        isVersionConflict(err) ? CONFLICT_MESSAGE : '카드 수정 실패',
+      ),
     onSettled: () => queryClient.invalidateQueries({ queryKey }),
   })
 
@@ -319,9 +363,25 @@ export const useCardMutations = (boardId) => {
   })
 
   return {
-    moveCard: moveCardMutation.mutate,
+    // 완료 상태가 바뀌는 이동은 카드 수정 요청이므로 이동 전 카드 상태(버전 포함)를 기록
+    moveCard: (vars, options) =>
+      moveCardMutation.mutate(
+        {
+          ...vars,
+          base: findCardBase(queryClient.getQueryData(queryKey), vars.cardId),
+        },
+        options,
+      ),
     addCard: addCardMutation.mutate,
-    updateCard: updateCardMutation.mutate,
+    // 낙관적 업데이트 전에 수정 시작 시점 카드 상태(버전 포함)를 기록
+    updateCard: (vars, options) =>
+      updateCardMutation.mutate(
+        {
+          ...vars,
+          base: findCardBase(queryClient.getQueryData(queryKey), vars.cardId),
+        },
+        options,
+      ),
     deleteCard: deleteCardMutation.mutate,
   }
 }
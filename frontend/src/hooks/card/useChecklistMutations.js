@@ -1,6 +1,21 @@
 import { useMutation, useQueryClient } from '@tanstack/react-query'
 import { boardApi } from '../../api/board.api'
 import useBoardStore from '../../stores/useBoardStore'
+import {
+  CONFLICT_MESSAGE,
+  isVersionConflict,
+  requestWithMerge,
+} from '../../utils/versionConflict'
+
+// 보드 캐시에서 체크리스트 항목 찾기 (충돌 비교용 기준 상태)
+// - 완료된 카드는 가상 완료 리스트에 있으므로 listId가 아닌 전체 리스트에서 카드 검색
+const findChecklistBase = (board, { cardId, itemId }) => {
+  for (const column of Object.values(board?.columns || {})) {
+    const card = column.tasks?.find((t) => t.id === cardId)
+    if (card) return card.checklists?.find((item) => item.id === itemId) || null
+  }
+  return null
+}
 
 export const useChecklistMutations = (boardId) => {
   const queryClient = useQueryClient()
@@ -101,8 +116,12 @@ export const useChecklistMutations = (boardId) => {
 
   // 체크리스트 수정
   const updateChecklistMutation = useMutation({
-    mutationFn: ({ itemId, updates }) =>
-      boardApi.updateChecklist(itemId, updates),
+    mutationFn: ({ itemId, updates, base }) =>
+      requestWithMerge(
+        (body) => boardApi.updateChecklist(itemId, body),
+        updates,
+        base,
+      ),
     onMutate: (vars) =>
       handleOptimisticUpdate(
         (oldBoard, { cardId, listId, itemId, updates }) => {
@@ -125,7 +144,14 @@ export const useChecklistMutations = (boardId) => {
         },
         vars,
       ),
-    onError: (err, vars, ctx) => handleError(ctx, '체크리스트 수정 실패'),
+    onError: (err, vars, ctx) => {
+      if (isVersionConflict(err)) {
+        handleError(ctx, CONFLICT_MESSAGE)
+        queryClient.invalidateQueries({ queryKey })
+        return
+      }
+      handleError(ctx, '체크리스트 수정 실패')
+    },
   })
 
   // 체크리스트 삭제
@@ -156,7 +182,15 @@ export const useChecklistMutations = (boardId) => {
 
   return {
     createChecklist: createChecklistMutation.mutate,
-    updateChecklist: updateChecklistMutation.mutate,
+    // 낙관적 업데이트 전에 수정 시작 시점 항목 상태(버전 포함)를 기록
+    updateChecklist: (vars, options) =>
+      updateChecklistMutation.mutate(
+        {
+          ...vars,
+          base: findChecklistBase(queryClient.getQueryData(queryKey), vars),
+        },
+        options,
+      ),
     deleteChecklist: deleteChecklistMutation.mutate,
   }
 }
@@ -0,0 +1,17 @@
+import { useQuery } from '@tanstack/react-query'
+import { boardApi } from '../../api/board.api'
+
+// 카드 첨부파일 다운로드 URL 조회
+// - 보드 페이지에 URL이 없는 경우(서버 lazy-presign 설정)에만 카드를 열 때 조회
+// - 서버 URL 유효기간 1시간, 만료 임박 전까지 같은 URL을 재사용하므로 10분간 캐시
+export const useCardFilesQuery = (cardId, enabled) => {
+  return useQuery({
+    queryKey: ['files', Number(cardId)],
+    queryFn: async () => {
+      const response = await boardApi.getCardFiles(cardId)
+      return response.data.data || []
+    },
+    enabled: Boolean(cardId) && enabled,
+    staleTime: 1000 * 60 * 10,
+  })
+}
@@ -1,5 +1,10 @@
 import { useMutation, useQueryClient } from '@tanstack/react-query'
 import { boardApi } from '../api/board.api'
+import {
+  CONFLICT_MESSAGE,
+  isVersionConflict,
+  requestWithMerge,
+} from '../utils/versionConflict'
 
 const DONE_LIST_ID = 'virtual-done-list'
 
@@ -7,6 +12,10 @@ export const useListMutations = (boardId) => {
   const queryClient = useQueryClient()
   const queryKey = ['board', Number(boardId)]
 
+  // 보드 캐시의 리스트 상태 (충돌 비교용 기준 상태)
+  const findListBase = (listId) =>
+    queryClient.getQueryData(queryKey)?.columns?.[listId] || null
+
   // 리스트 이동
   const moveListMutation = useMutation({
     mutationFn: ({ oldIndex, newIndex, currentOrder }) => {
@@ -92,7 +101,12 @@ export const useListMutations = (boardId) => {
 
   // 리스트 이름 수정
   const updateListMutation = useMutation({
-    mutationFn: ({ listId, title }) => boardApi.updateList(listId, title),
+    mutationFn: ({ listId, title, base }) =>
+      requestWithMerge(
+        (body) => boardApi.updateList(listId, body.title, body.version),
+        { title },
+        base,
+      ),
     onMutate: async ({ listId, title }) => {
       await queryClient.cancelQueries({ queryKey })
       const previousBoard = queryClient.getQueryData(queryKey)
@@ -107,22 +121,37 @@ export const useListMutations = (boardId) => {
       })
       return { previousBoard }
     },
-    onError: (err, vars, ctx) =>
-      queryClient.setQueryData(queryKey, ctx.previousBoard),
+    onError: (err, vars, ctx) => {
+      queryClient.setQueryData(queryKey, ctx.previousBoard)
+      if (isVersionConflict(err)) alert(CONFLICT_MESSAGE)
+    },
     onSettled: () => queryClient.invalidateQueries({ queryKey }),
   })
 
   // 리스트 아카이브 상태 변경
   const updateListArchiveStatusMutation = useMutation({
-    mutationFn: ({ listId, isArchived }) =>
-      boardApi.updateListArchiveStatus(listId, isArchived),
+    mutationFn: ({ listId, isArchived, base }) =>
+      requestWithMerge(
+        (body) =>
+          boardApi.updateListArchiveStatus(
+            listId,
+            body.isArchived,
+            body.version,
+          ),
+        { isArchived },
+        base,
+      ),
     onSuccess: () => {
       // 보드 상세 데이터를 다시 불러와 화면을 갱신합니다.
       queryClient.invalidateQueries({ queryKey: ['board', boardId] })
     },
     onError: (error) => {
       console.error('리스트 아카이브 상태 변경 실패:', error)
-      alert('상태 변경에 실패했습니다.')
+      alert(
+        isVersionConflict(error)
+          ? CONFLICT_MESSAGE
+          : '상태 변경에 실패했습니다.',
+      )
     },
   })
 
@@ -150,8 +179,17 @@ export const useListMutations = (boardId) => {
   return {
     moveList: moveListMutation.mutate,
     addList: addListMutation.mutate,
-    updateList: updateListMutation.mutate,
-    updateListArchiveStatus: updateListArchiveStatusMutation.mutate,
+    // 수정 시작 시점 리스트 상태(버전 포함)를 기록
+    updateList: (vars, options) =>
+      updateListMutation.mutate(
+        { ...vars, base: findListBase(vars.listId) },
+        options,
+      ),
+    updateListArchiveStatus: (vars, options) =>
+      updateListArchiveStatusMutation.mutate(
+        { ...vars, base: findListBase(vars.listId) },
+        options,
+      ),
     deleteList: deleteListMutation.mutate,
   }
 }
@@ -0,0 +1,149 @@
+// src/utils/boardSocketPatch.js
+// 카드 하위 항목(체크리스트/댓글/파일) 소켓 이벤트를 보드 캐시에 직접 반영
+// - 반영할 수 없으면 null 반환 -> 호출 측에서 보드 전체 다시 조회
+
+// 서버 댓글(CommentResponse) -> 보드 캐시 댓글
+const mapComment = (c) => ({
+  id: c.id,
+  content: c.content,
+  writerId: c.writerId,
+  writerName: c.writerName,
+  writerProfileImg: c.writerProfileImg,
+  createdAt: c.createdAt,
+  parentId: c.parentId,
+  isWriterLeft: c.isWriterLeft,
+  replies: [],
+})
+
+// 댓글 트리에서 id로 찾아 변경 (fn이 null을 반환하면 삭제)
+const updateCommentTree = (comments, id, fn) =>
+  comments.flatMap((c) => {
+    if (c.id === id) {
+      const next = fn(c)
+      return next ? [next] : []
+    }
+    return [{ ...c, replies: updateCommentTree(c.replies || [], id, fn) }]
+  })
+
+const findComment = (comments, id) => {
+  for (const c of comments) {
+    if (c.id === id) return c
+    const found = findComment(c.replies || [], id)
+    if (found) return found
+  }
+  return null
+}
+
+// 이벤트 종류별로 카드에 있어야 하는 하위 항목 배열
+// - SUMMARY 조회(개수만 포함)처럼 배열이 없으면 일부만 채울 수 없으므로 반영 불가
+const CARD_ARRAY_FIELDS = {
+  CHECKLIST: 'checklists',
+  COMMENT: 'comments',
+  FILE: 'files',
+}
+
+// 이벤트 타입별 카드 변경 함수 (null 반환 시 반영 불가)
+const CARD_PATCHERS = {
+  CHECKLIST_CREATE: (card, data) => ({
+    ...card,
+    checklists: [
+      ...card.checklists.filter((cl) => cl.id !== data.id),
+      { id: data.id, title: data.title, done: data.done, version: data.version },
+    ],
+  }),
+  CHECKLIST_UPDATE: (card, data) => ({
+    ...card,
+    checklists: card.checklists.map((cl) =>
+      cl.id === data.id
+        ? { ...cl, title: data.title, done: data.done, version: data.version }
+        : cl,
+    ),
+  }),
+  CHECKLIST_DELETE: (card, data) => ({
+    ...card,
+    checklists: card.checklists.filter((cl) => cl.id !== data.id),
+  }),
+
+  COMMENT_CREATE: (card, data) => {
+    if (findComment(card.comments, data.id)) return card
+    const comment = mapComment(data)
+    if (data.parentId && !findComment(card.comments, data.parentId)) return null
+    return {
+      ...card,
+      comments: data.parentId
+        ? updateCommentTree(card.comments, data.parentId, (parent) => ({
+            ...parent,
+            replies: [...(parent.replies || []), comment],
+          }))
+        : [...card.comments, comment],
+      commentCount: (card.commentCount || 0) + 1,
+    }
+  },
+  COMMENT_UPDATE: (card, data) => ({
+    ...card,
+    comments: updateCommentTree(card.comments, data.id, (c) => ({
+      ...c,
+      content: data.content,
+    })),
+  }),
+  COMMENT_DELETE: (card, data) => {
+    const target = findComment(card.comments, data.id)
+    if (!target) return card
+    // 답글이 달린 댓글은 화면 구성이 달라지므로 다시 조회
+    if (target.replies && target.replies.length > 0) return null
+    return {
+      ...card,
+      comments: updateCommentTree(card.comments, data.id, () => null),
+      commentCount: Math.max(0, (card.commentCount || 0) - 1),
+    }
+  },
+
+  FILE_CREATE: (card, data) => ({
+    ...card,
+    files: [
+      ...card.files.filter((f) => f.id !== data.id),
+      {
+        id: data.id,
+        cardId: data.cardId,
+        fileName: data.fileName,
+        fileUrl: data.filePath,
+        fileSize: data.fileSize,
+        createdAt: data.createdAt,
+      },
+    ],
+  }),
+  FILE_DELETE: (card, data) => ({
+    ...card,
+    files: card.files.filter((f) => f.id !== data.id),
+  }),
+}
+
+export const applyBoardEvent = (board, event) => {
+  const patchCard = CARD_PATCHERS[event?.type]
+  const arrayField = CARD_ARRAY_FIELDS[event?.type?.split('_')[0]]
+  const data = event?.data
+  if (!board || !patchCard || !data || !data.cardId) return null
+
+  let found = false
+  const columns = {}
+
+  for (const [columnId, column] of Object.entries(board.columns)) {
+    const index = column.tasks.findIndex((task) => task.id === data.cardId)
+    if (index < 0) {
+      columns[columnId] = column
+      continue
+    }
+
+    if (!Array.isArray(column.tasks[index][arrayField])) return null
+
+    const patched = patchCard(column.tasks[index], data)
+    if (!patched) return null
+
+    const tasks = [...column.tasks]
+    tasks[index] = patched
+    columns[columnId] = { ...column, tasks }
+    found = true
+  }
+
+  return found ? { ...board, columns } : null
+}
@@ -3,6 +3,10 @@ import { Client } from '@stomp/stompjs'
 // 앱 전역에서 공유되는 유일한 클라이언트 인스턴스
 let client = null
 
+// 연결(재연결 포함)될 때마다 호출할 함수 목록
+// - STOMP 재연결 시 이전 구독은 사라지므로 각 화면에서 다시 구독
+const connectListeners = new Set()
+
 export const socketClient = {
   // 연결 함수
   // 백엔드 소켓 인터셉터가 동작하기 위해 HTTP 헤더에 토큰 담아서 전송
@@ -24,9 +28,12 @@ export const socketClient = {
       brokerURL: socketURL, // 백엔드 WebSocket 주소
       reconnectDelay: 5000, // 연결 끊기면 5초 뒤 재연결 시도
       connectHeaders: config?.headers || {},
-      onConnect: config.onConnect,
       onStompError: config.onStompError,
       ...config, // 외부에서 콜백 주입
+      onConnect: (frame) => {
+        config?.onConnect?.(frame)
+        connectListeners.forEach((listener) => listener(frame))
+      },
     })
 
     client.activate()
@@ -55,6 +62,12 @@ export const socketClient = {
     }
   },
 
+  // 연결될 때마다 실행할 함수 등록 (해제 함수 반환)
+  addConnectListener: (listener) => {
+    connectListeners.add(listener)
+    return () => connectListeners.delete(listener)
+  },
+
   // 현재 클라이언트 객체 반환
   getClient: () => client,
 
@@ -0,0 +1,39 @@
+// src/utils/versionConflict.js
+// 낙관적 잠금(version) 충돌 처리
+// - 서버는 요청 버전이 현재 버전과 다르면 409 + 현재 상태(data)를 반환
+// - 수정하려는 필드가 그 사이 바뀌지 않았으면(겹치지 않으면) 최신 버전으로 1번 다시 요청
+// - 겹치면 그대로 실패 -> 호출 측에서 안내 후 보드 다시 조회
+
+export const CONFLICT_MESSAGE =
+  '다른 사용자가 먼저 수정한 내용이 있어 최신 상태로 다시 불러옵니다.'
+
+export const isVersionConflict = (err) => err?.response?.status === 409
+
+const sameValue = (a, b) => (a ?? null) === (b ?? null)
+
+// 요청 필드 이름 -> 비교할 상태 필드 목록 (기본은 같은 이름)
+const sameField = (key) => [key]
+
+// base(수정 시작 시점 상태)와 current(서버 현재 상태)에서 요청 필드가 달라졌는지 확인
+export const hasOverlap = (updates, base, current, fieldsOf = sameField) =>
+  Object.keys(updates).some((key) =>
+    fieldsOf(key).some((field) => !sameValue(base?.[field], current?.[field])),
+  )
+
+// request(body): body에 version을 담아 요청하는 함수
+export const requestWithMerge = async (
+  request,
+  updates,
+  base,
+  fieldsOf = sameField,
+) => {
+  try {
+    return await request({ ...updates, version: base?.version })
+  } catch (err) {
+    const current = isVersionConflict(err) ? err.response.data?.data : null
+    if (!current || !base || hasOverlap(updates, base, current, fieldsOf)) {
+      throw err
+    }
+    return request({ ...updates, version: current.version })
+  }
+}